@@ -23,7 +23,9 @@ cd $APP_DIR
 ./bin/clojure-petstore.sh
 ./bin/csharp-petstore.sh
 ./bin/dynamic-html.sh
+./bin/gatling-petstore.sh
 ./bin/html-petstore.sh
+./bin/java-mock-server-petstore.sh
 ./bin/java-petstore.sh
 ./bin/java-petstore-jersey2.sh
 ./bin/java-petstore-okhttp-gson.sh
@@ -0,0 +1,28 @@
+package io.swagger.codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server side caching of the responses of a GET operation, described by the <code>x-cache</code> vendor extension:
+ *
+ * <pre>
+ * x-cache:
+ *   ttl: 60                    # seconds the responses are cached
+ *   maxEntries: 1000           # maximum number of cached responses (optional, 1000 by default)
+ *   vary: [Accept-Language]    # request headers the response depends on (optional)
+ *   keyParams: [status]        # parameters the response depends on (optional, all of them by default)
+ * </pre>
+ *
+ * The cache key doesn't include the caller, so responses depending on it must declare the
+ * header identifying it (e.g. Authorization) in <code>vary</code>.
+ */
+public class CodegenCache {
+    public Integer ttl;
+    public Integer maxEntries;
+    // the request headers the response depends on, as the value of the Vary response header, null if none
+    public String vary;
+    // the parts of the cache key, in order: parameters (paramName) and request headers (isHeader, name), with hasMore
+    public List<Map<String, Object>> keyParts = new ArrayList<Map<String, Object>>();
+}
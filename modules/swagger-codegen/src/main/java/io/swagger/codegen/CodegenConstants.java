@@ -49,6 +49,9 @@ public class CodegenConstants {
     public static final String ENSURE_UNIQUE_PARAMS = "ensureUniqueParams";
     public static final String ENSURE_UNIQUE_PARAMS_DESC = "Whether to ensure parameter names are unique in an operation (rename parameters that are not).";
 
+    public static final String REQUEST_VALIDATORS = "requestValidators";
+    public static final String REQUEST_VALIDATORS_DESC = "Generate precompiled validators rejecting the requests whose parameters violate their constraints, before the implementation is called.";
+
     public static final String PACKAGE_NAME = "packageName";
     public static final String PACKAGE_VERSION = "packageVersion";
     public static final String POD_VERSION = "podVersion";
@@ -13,7 +13,9 @@ public class CodegenOperation {
     public Boolean hasAuthMethods, hasConsumes, hasProduces, hasParams, hasOptionalParams,
             returnTypeIsPrimitive, returnSimpleType, subresourceOperation, isMapContainer,
             isListContainer, isMultipart, hasMore = Boolean.TRUE,
-            isResponseBinary = Boolean.FALSE, hasReference = Boolean.FALSE;
+            isResponseBinary = Boolean.FALSE, hasReference = Boolean.FALSE,
+            isPaginated = Boolean.FALSE, isCached = Boolean.FALSE, isRateLimited = Boolean.FALSE,
+            hasMaxConcurrency = Boolean.FALSE;
     public String path, operationId, returnType, httpMethod, returnBaseType,
             returnContainer, summary, notes, baseName, defaultResponse;
     public List<Map<String, String>> consumes, produces;
@@ -30,6 +32,11 @@ public class CodegenOperation {
     public Set<String> imports = new HashSet<String>();
     public List<Map<String, String>> examples;
     public ExternalDocs externalDocs;
+    public CodegenPagination pagination;
+    public CodegenCache cache;
+    public CodegenRateLimit rateLimit;
+    // the maximum number of concurrent requests, from the x-max-concurrency vendor extension
+    public Integer maxConcurrency;
     public Map<String, Object> vendorExtensions;
     public String nickname; // legacy support
 
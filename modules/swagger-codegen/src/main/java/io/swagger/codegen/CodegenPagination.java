@@ -0,0 +1,35 @@
+package io.swagger.codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pagination of a list operation, described by the <code>x-pagination</code> vendor extension:
+ *
+ * <pre>
+ * x-pagination:
+ *   cursorParam: page_token        # cursor pagination: request parameter of the page cursor
+ *   nextCursorField: next_token    #   response property of the next page's cursor
+ *   itemsField: items              # response property of the page items (omit if the response is an array)
+ * </pre>
+ *
+ * or, for offset pagination, <code>offsetParam</code> (and optionally <code>limitParam</code>)
+ * instead of <code>cursorParam</code> and <code>nextCursorField</code>.
+ */
+public class CodegenPagination {
+    public Boolean isCursor = Boolean.FALSE, isOffset = Boolean.FALSE;
+    // the request parameter of the page cursor (or offset)
+    public CodegenParameter cursorParam;
+    // the request parameter of the page size (offset pagination only, optional)
+    public CodegenParameter limitParam;
+    // the response property of the next page's cursor (cursor pagination only)
+    public CodegenProperty nextCursorProperty;
+    // the response property of the page items, null if the response is the array of items
+    public CodegenProperty itemsProperty;
+    // the data type of a single item
+    public String itemType;
+    // the parameters of the operation except the cursor (or offset) parameter
+    public List<CodegenParameter> params = new ArrayList<CodegenParameter>();
+    // the parameters of the operation, the cursor (or offset) one having the "x-pagination-cursor" vendor extension
+    public List<CodegenParameter> callParams = new ArrayList<CodegenParameter>();
+}
@@ -0,0 +1,18 @@
+package io.swagger.codegen;
+
+/**
+ * Rate limit of the requests of an operation, described by the <code>x-rate-limit</code> vendor extension:
+ *
+ * <pre>
+ * x-rate-limit:
+ *   requests: 100    # requests allowed per period
+ *   period: 1        # period in seconds (optional, 1 by default)
+ *   burst: 20        # requests allowed at once (optional, the requests per period by default)
+ * </pre>
+ *
+ * or simply <code>x-rate-limit: 100</code> for 100 requests per second. The concurrent requests
+ * of an operation are limited separately by the <code>x-max-concurrency</code> vendor extension.
+ */
+public class CodegenRateLimit {
+    public Integer requests, period, burst;
+}
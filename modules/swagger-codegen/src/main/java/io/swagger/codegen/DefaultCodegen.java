@@ -1,5 +1,6 @@
 package io.swagger.codegen;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 
@@ -1382,9 +1383,259 @@ public class DefaultCodegen {
         }
         op.externalDocs = operation.getExternalDocs();
 
+        if (getVendorExtension(operation, "x-pagination") instanceof Map) {
+            op.pagination = fromPagination(op, operation, definitions);
+            op.isPaginated = op.pagination != null;
+        }
+        if (getVendorExtension(operation, "x-cache") instanceof Map) {
+            op.cache = fromCache(op, operation);
+            op.isCached = op.cache != null;
+        }
+        if (getVendorExtension(operation, "x-rate-limit") != null) {
+            op.rateLimit = fromRateLimit(op, operation);
+            op.isRateLimited = op.rateLimit != null;
+        }
+        if (getVendorExtension(operation, "x-max-concurrency") != null) {
+            op.maxConcurrency = toPositiveInteger(getVendorExtension(operation, "x-max-concurrency"));
+            op.hasMaxConcurrency = op.maxConcurrency != null;
+            if (op.maxConcurrency == null) {
+                LOGGER.warn("x-max-concurrency of operation " + op.operationId + " must be a positive integer, ignoring it");
+            }
+        }
+
         return op;
     }
 
+    /**
+     * Convert the "x-cache" vendor extension of an operation to a Codegen Cache object
+     *
+     * @param op Codegen Operation object, with its parameters already processed
+     * @param operation Swagger operation object
+     * @return Codegen Cache object, or null if the responses of the operation cannot be cached as described
+     */
+    @SuppressWarnings("unchecked")
+    public CodegenCache fromCache(CodegenOperation op, Operation operation) {
+        Map<String, Object> extension = (Map<String, Object>) getVendorExtension(operation, "x-cache");
+        if (!"GET".equals(op.httpMethod)) {
+            LOGGER.warn("x-cache of operation " + op.operationId + " only applies to GET operations, ignoring it");
+            return null;
+        }
+
+        CodegenCache cache = new CodegenCache();
+        cache.ttl = toPositiveInteger(extension.get("ttl"));
+        if (cache.ttl == null) {
+            LOGGER.warn("x-cache of operation " + op.operationId + " requires a positive ttl, ignoring it");
+            return null;
+        }
+        cache.maxEntries = extension.get("maxEntries") == null ? Integer.valueOf(1000) : toPositiveInteger(extension.get("maxEntries"));
+        if (cache.maxEntries == null) {
+            LOGGER.warn("Invalid maxEntries in x-cache of operation " + op.operationId + ", ignoring it");
+            return null;
+        }
+
+        List<CodegenParameter> keyParams = new ArrayList<CodegenParameter>();
+        if (extension.get("keyParams") == null) {
+            for (CodegenParameter param : op.allParams) {
+                if (!Boolean.TRUE.equals(param.isBodyParam) && !Boolean.TRUE.equals(param.isFormParam)) {
+                    keyParams.add(param);
+                }
+            }
+        } else {
+            for (String name : toStringList(extension.get("keyParams"))) {
+                CodegenParameter keyParam = null;
+                for (CodegenParameter param : op.allParams) {
+                    if (name.equals(param.baseName)) {
+                        keyParam = param;
+                    }
+                }
+                if (keyParam == null) {
+                    LOGGER.warn("x-cache of operation " + op.operationId + " refers to unknown parameter " + name + ", ignoring it");
+                    return null;
+                }
+                keyParams.add(keyParam);
+            }
+        }
+        for (CodegenParameter param : keyParams) {
+            Map<String, Object> keyPart = new HashMap<String, Object>();
+            keyPart.put("isHeader", Boolean.FALSE);
+            keyPart.put("paramName", param.paramName);
+            cache.keyParts.add(keyPart);
+        }
+
+        List<String> vary = toStringList(extension.get("vary"));
+        for (String header : vary) {
+            Map<String, Object> keyPart = new HashMap<String, Object>();
+            keyPart.put("isHeader", Boolean.TRUE);
+            keyPart.put("name", header);
+            cache.keyParts.add(keyPart);
+        }
+        if (!vary.isEmpty()) {
+            cache.vary = StringUtils.join(vary, ", ");
+        }
+        for (int i = 0; i < cache.keyParts.size(); i++) {
+            // explicit, or the templates would see the hasMore of the operation
+            cache.keyParts.get(i).put("hasMore", i < cache.keyParts.size() - 1);
+        }
+
+        return cache;
+    }
+
+    /**
+     * Convert the "x-rate-limit" vendor extension of an operation to a Codegen Rate Limit object
+     *
+     * @param op Codegen Operation object
+     * @param operation Swagger operation object
+     * @return Codegen Rate Limit object, or null if the rate limit is invalid
+     */
+    public CodegenRateLimit fromRateLimit(CodegenOperation op, Operation operation) {
+        Object extension = getVendorExtension(operation, "x-rate-limit");
+        CodegenRateLimit rateLimit = new CodegenRateLimit();
+        if (extension instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) extension;
+            rateLimit.requests = toPositiveInteger(map.get("requests"));
+            rateLimit.period = map.get("period") == null ? Integer.valueOf(1) : toPositiveInteger(map.get("period"));
+            rateLimit.burst = map.get("burst") == null ? rateLimit.requests : toPositiveInteger(map.get("burst"));
+        } else {
+            rateLimit.requests = toPositiveInteger(extension);
+            rateLimit.period = 1;
+            rateLimit.burst = rateLimit.requests;
+        }
+        if (rateLimit.requests == null || rateLimit.period == null || rateLimit.burst == null) {
+            LOGGER.warn("x-rate-limit of operation " + op.operationId + " requires positive integer requests, period and burst, ignoring it");
+            return null;
+        }
+        return rateLimit;
+    }
+
+    /**
+     * Get a vendor extension of an operation as plain Java objects (maps, lists, strings and numbers)
+     *
+     * @param operation Swagger operation object
+     * @param name name of the vendor extension
+     * @return the value of the vendor extension, or null if it is not set
+     */
+    protected static Object getVendorExtension(Operation operation, String name) {
+        if (operation.getVendorExtensions() == null) {
+            return null;
+        }
+        Object value = operation.getVendorExtensions().get(name);
+        // the parser keeps structured extensions as JSON nodes
+        if (value instanceof JsonNode) {
+            return Json.mapper().convertValue(value, Object.class);
+        }
+        return value;
+    }
+
+    private static Integer toPositiveInteger(Object value) {
+        try {
+            Integer integer = value == null ? null : Integer.valueOf(value.toString().trim());
+            return integer != null && integer > 0 ? integer : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static List<String> toStringList(Object value) {
+        List<String> strings = new ArrayList<String>();
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                strings.add(item.toString().trim());
+            }
+        } else if (value != null) {
+            // also accepts a comma separated string
+            for (String item : value.toString().split(",")) {
+                if (!item.trim().isEmpty()) {
+                    strings.add(item.trim());
+                }
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * Convert the "x-pagination" vendor extension of an operation to a Codegen Pagination object
+     *
+     * @param op Codegen Operation object, with its parameters already processed
+     * @param operation Swagger operation object
+     * @param definitions a map of Swagger models
+     * @return Codegen Pagination object, or null if the operation cannot be paginated as described
+     */
+    @SuppressWarnings("unchecked")
+    public CodegenPagination fromPagination(CodegenOperation op, Operation operation, Map<String, Model> definitions) {
+        Map<String, Object> extension = (Map<String, Object>) getVendorExtension(operation, "x-pagination");
+        String cursorParam = extension.get("cursorParam") == null ? null : extension.get("cursorParam").toString();
+        String nextCursorField = extension.get("nextCursorField") == null ? null : extension.get("nextCursorField").toString();
+        String offsetParam = extension.get("offsetParam") == null ? null : extension.get("offsetParam").toString();
+        String limitParam = extension.get("limitParam") == null ? null : extension.get("limitParam").toString();
+        String itemsField = extension.get("itemsField") == null ? null : extension.get("itemsField").toString();
+
+        CodegenPagination pagination = new CodegenPagination();
+        if (cursorParam != null && nextCursorField != null) {
+            pagination.isCursor = Boolean.TRUE;
+        } else if (offsetParam != null) {
+            pagination.isOffset = Boolean.TRUE;
+            cursorParam = offsetParam;
+        } else {
+            LOGGER.warn("x-pagination of operation " + op.operationId + " requires either cursorParam and nextCursorField, or offsetParam, ignoring it");
+            return null;
+        }
+
+        for (CodegenParameter param : op.allParams) {
+            CodegenParameter callParam = param.copy();
+            if (cursorParam.equals(param.baseName)) {
+                pagination.cursorParam = param;
+                callParam.vendorExtensions = new HashMap<String, Object>();
+                if (param.vendorExtensions != null) {
+                    callParam.vendorExtensions.putAll(param.vendorExtensions);
+                }
+                callParam.vendorExtensions.put("x-pagination-cursor", Boolean.TRUE);
+            } else {
+                CodegenParameter iteratorParam = param.copy();
+                iteratorParam.hasMore = null;
+                iteratorParam.secondaryParam = null;
+                pagination.params.add(iteratorParam);
+                if (pagination.isOffset && param.baseName.equals(limitParam)) {
+                    pagination.limitParam = iteratorParam;
+                }
+            }
+            pagination.callParams.add(callParam);
+        }
+        addHasMore(pagination.params);
+        if (pagination.cursorParam == null) {
+            LOGGER.warn("x-pagination of operation " + op.operationId + " refers to unknown parameter " + cursorParam + ", ignoring it");
+            return null;
+        }
+
+        Response methodResponse = operation.getResponses() == null ? null : findMethodResponse(operation.getResponses());
+        Property responseProperty = methodResponse == null ? null : methodResponse.getSchema();
+        Property itemProperty = null;
+        if (itemsField == null) {
+            if (responseProperty instanceof ArrayProperty && pagination.isOffset) {
+                itemProperty = ((ArrayProperty) responseProperty).getItems();
+            }
+        } else if (responseProperty instanceof RefProperty && definitions != null) {
+            Model model = definitions.get(((RefProperty) responseProperty).getSimpleRef());
+            Map<String, Property> properties = model == null ? null : model.getProperties();
+            if (properties != null) {
+                Property items = properties.get(itemsField);
+                if (items instanceof ArrayProperty) {
+                    pagination.itemsProperty = fromProperty(itemsField, items);
+                    itemProperty = ((ArrayProperty) items).getItems();
+                }
+                if (pagination.isCursor && properties.get(nextCursorField) != null) {
+                    pagination.nextCursorProperty = fromProperty(nextCursorField, properties.get(nextCursorField));
+                }
+            }
+        }
+        if (itemProperty == null || (pagination.isCursor && pagination.nextCursorProperty == null)) {
+            LOGGER.warn("x-pagination of operation " + op.operationId + " does not match its response, ignoring it");
+            return null;
+        }
+        pagination.itemType = fromProperty("item", itemProperty).datatype;
+
+        return pagination;
+    }
+
     /**
      * Convert Swagger Response object to Codegen Response object
      *
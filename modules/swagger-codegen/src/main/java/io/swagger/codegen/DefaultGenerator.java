@@ -673,6 +673,14 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             operations.put("hasImport", true);
         }
 
+        // add a flag to indicate whether there's any operation with x-pagination
+        for (CodegenOperation op : ops) {
+            if (Boolean.TRUE.equals(op.isPaginated)) {
+                operations.put("hasPaginatedOperations", true);
+                break;
+            }
+        }
+
         config.postProcessOperations(operations);
         if (objs.size() > 0) {
             List<CodegenOperation> os = (List<CodegenOperation>) objs.get("operation");
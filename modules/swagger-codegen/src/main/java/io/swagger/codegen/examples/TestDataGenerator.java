@@ -0,0 +1,441 @@
+package io.swagger.codegen.examples;
+
+import io.swagger.models.ArrayModel;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.RefModel;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.Parameter;
+import io.swagger.models.parameters.SerializableParameter;
+import io.swagger.models.properties.AbstractNumericProperty;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.BaseIntegerProperty;
+import io.swagger.models.properties.BooleanProperty;
+import io.swagger.models.properties.DateProperty;
+import io.swagger.models.properties.DateTimeProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.PropertyBuilder;
+import io.swagger.models.properties.PropertyBuilder.PropertyId;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+import io.swagger.util.Json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * Generates random but valid values of request parameters, e.g. for the test data of load tests.
+ *
+ * Unlike the {@link ExampleGenerator}, the values differ from one call to another and respect
+ * the enum, minimum/maximum, length and pattern constraints of the parameters (and of the
+ * properties of body parameters). Patterns are supported for the common regular expression
+ * constructs: character classes, groups, alternatives and quantifiers.
+ */
+public class TestDataGenerator extends ExampleGenerator {
+    private static final String ALPHANUMERIC = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final long DEFAULT_RANGE = 1000;
+    private static final int DEFAULT_LENGTH = 8;
+    // upper bound of the repetitions for unbounded quantifiers (*, + and {n,})
+    private static final int MAX_REPEAT = 5;
+
+    private final Random random;
+
+    public TestDataGenerator(Map<String, Model> examples) {
+        // fixed seed: the same spec generates the same test data
+        this(examples, new Random(0));
+    }
+
+    public TestDataGenerator(Map<String, Model> examples, Random random) {
+        // copied, inline body schemas are registered as models
+        super(examples == null ? new HashMap<String, Model>() : new HashMap<String, Model>(examples));
+        this.random = random;
+    }
+
+    /**
+     * Generate a value of the given parameter, serialized as sent in the request:
+     * JSON for body parameters, joined according to the collection format for arrays.
+     *
+     * @param parameter the Swagger parameter
+     * @return the value
+     */
+    public String generate(Parameter parameter) {
+        if (parameter instanceof BodyParameter) {
+            Property property = toProperty(((BodyParameter) parameter).getSchema());
+            if (property == null) {
+                return "";
+            }
+            try {
+                return Json.mapper().writeValueAsString(resolvePropertyToExample("application/json", property, new HashSet<String>()));
+            } catch (JsonProcessingException e) {
+                return "";
+            }
+        }
+        if (!(parameter instanceof SerializableParameter)) {
+            return "";
+        }
+
+        SerializableParameter sp = (SerializableParameter) parameter;
+        Object value = resolvePropertyToExample("text/plain", toProperty(sp), new HashSet<String>());
+        if (value instanceof Object[]) {
+            return StringUtils.join((Object[]) value, separator(sp.getCollectionFormat()));
+        }
+        return value == null ? "" : value.toString();
+    }
+
+    @Override
+    protected Object resolvePropertyToExample(String mediaType, Property property, Set<String> processedModels) {
+        if (property.getExample() != null) {
+            return property.getExample();
+        } else if (property instanceof StringProperty) {
+            return generateString((StringProperty) property);
+        } else if (property instanceof BaseIntegerProperty) {
+            return generateInteger((AbstractNumericProperty) property);
+        } else if (property instanceof AbstractNumericProperty) {
+            return generateNumber((AbstractNumericProperty) property);
+        } else if (property instanceof BooleanProperty) {
+            return random.nextBoolean();
+        } else if (property instanceof DateProperty) {
+            return format("yyyy-MM-dd", randomDate());
+        } else if (property instanceof DateTimeProperty) {
+            return format("yyyy-MM-dd'T'HH:mm:ss'Z'", randomDate());
+        } else if (property instanceof ArrayProperty) {
+            Property items = ((ArrayProperty) property).getItems();
+            if (items != null) {
+                List<Object> values = new ArrayList<Object>();
+                int size = 1 + random.nextInt(3);
+                for (int i = 0; i < size; i++) {
+                    values.add(resolvePropertyToExample(mediaType, items, processedModels));
+                }
+                return values.toArray();
+            }
+        } else if (property instanceof RefProperty) {
+            // allow the same model at different places, unlike recursive references
+            String simpleName = ((RefProperty) property).getSimpleRef();
+            Model model = examples.get(simpleName);
+            if (model != null) {
+                Object value = resolveModelToExample(simpleName, mediaType, model, processedModels);
+                processedModels.remove(simpleName);
+                return value;
+            }
+        }
+        return super.resolvePropertyToExample(mediaType, property, processedModels);
+    }
+
+    private Property toProperty(Model model) {
+        if (model instanceof RefModel) {
+            return new RefProperty(((RefModel) model).getSimpleRef());
+        } else if (model instanceof ArrayModel) {
+            return new ArrayProperty(((ArrayModel) model).getItems());
+        } else if (model instanceof ModelImpl) {
+            ModelImpl impl = (ModelImpl) model;
+            if (impl.getProperties() != null && !impl.getProperties().isEmpty()) {
+                String name = impl.getName() == null ? "inline" : impl.getName();
+                examples.put(name, impl);
+                return new RefProperty(name);
+            }
+            return PropertyBuilder.build(impl.getType(), impl.getFormat(), new HashMap<PropertyId, Object>());
+        }
+        return null;
+    }
+
+    private Property toProperty(SerializableParameter parameter) {
+        if ("array".equals(parameter.getType()) && parameter.getItems() != null) {
+            return new ArrayProperty(parameter.getItems());
+        }
+        Map<PropertyId, Object> args = new HashMap<PropertyId, Object>();
+        args.put(PropertyId.ENUM, parameter.getEnum());
+        args.put(PropertyId.MINIMUM, parameter.getMinimum());
+        args.put(PropertyId.MAXIMUM, parameter.getMaximum());
+        args.put(PropertyId.EXCLUSIVE_MINIMUM, parameter.isExclusiveMinimum());
+        args.put(PropertyId.EXCLUSIVE_MAXIMUM, parameter.isExclusiveMaximum());
+        args.put(PropertyId.MIN_LENGTH, parameter.getMinLength());
+        args.put(PropertyId.MAX_LENGTH, parameter.getMaxLength());
+        args.put(PropertyId.PATTERN, parameter.getPattern());
+        Property property = PropertyBuilder.build(parameter.getType(), parameter.getFormat(), args);
+        return property == null ? new StringProperty() : property;
+    }
+
+    private static String separator(String collectionFormat) {
+        if ("ssv".equals(collectionFormat)) {
+            return " ";
+        } else if ("tsv".equals(collectionFormat)) {
+            return "\t";
+        } else if ("pipes".equals(collectionFormat)) {
+            return "|";
+        }
+        return ",";
+    }
+
+    private String generateString(StringProperty property) {
+        if (property.getEnum() != null && !property.getEnum().isEmpty()) {
+            return property.getEnum().get(random.nextInt(property.getEnum().size()));
+        }
+        if (property.getPattern() != null) {
+            try {
+                return new PatternSampler(property.getPattern()).sample();
+            } catch (IllegalArgumentException e) {
+                // unsupported pattern, fall back to a random string
+            }
+        }
+        int minLength = property.getMinLength() == null ? 1 : property.getMinLength();
+        int maxLength = property.getMaxLength() == null ? Math.max(minLength, DEFAULT_LENGTH) : property.getMaxLength();
+        int length = minLength + random.nextInt(Math.max(1, maxLength - minLength + 1));
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            value.append(ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length())));
+        }
+        return value.toString();
+    }
+
+    private long generateInteger(AbstractNumericProperty property) {
+        long min;
+        long max;
+        if (property.getMinimum() != null) {
+            min = (long) Math.ceil(property.getMinimum());
+            if (Boolean.TRUE.equals(property.getExclusiveMinimum()) && min == property.getMinimum()) {
+                min++;
+            }
+        } else {
+            min = property.getMaximum() == null ? 1 : (long) Math.max(Long.MIN_VALUE, Math.floor(property.getMaximum()) - DEFAULT_RANGE);
+        }
+        if (property.getMaximum() != null) {
+            max = (long) Math.floor(property.getMaximum());
+            if (Boolean.TRUE.equals(property.getExclusiveMaximum()) && max == property.getMaximum()) {
+                max--;
+            }
+        } else {
+            max = min > Long.MAX_VALUE - DEFAULT_RANGE ? Long.MAX_VALUE : min + DEFAULT_RANGE;
+        }
+        if (max <= min) {
+            return min;
+        }
+        // max - min + 1 overflows when the bounds span most of the int64 range
+        BigInteger span = BigInteger.valueOf(max).subtract(BigInteger.valueOf(min)).add(BigInteger.ONE);
+        BigInteger offset = new BigDecimal(span).multiply(BigDecimal.valueOf(random.nextDouble())).toBigInteger();
+        return BigInteger.valueOf(min).add(offset).min(BigInteger.valueOf(max)).longValue();
+    }
+
+    private BigDecimal generateNumber(AbstractNumericProperty property) {
+        double min = property.getMinimum() != null ? property.getMinimum()
+                : (property.getMaximum() == null ? 0 : property.getMaximum() - DEFAULT_RANGE);
+        double max = property.getMaximum() != null ? property.getMaximum() : min + DEFAULT_RANGE;
+        double value = min + random.nextDouble() * (max - min);
+        BigDecimal rounded = new BigDecimal(value).setScale(2, BigDecimal.ROUND_HALF_UP);
+        // stay within the (possibly exclusive) bounds after rounding
+        if (rounded.doubleValue() < min || rounded.doubleValue() > max) {
+            return new BigDecimal(value);
+        }
+        return rounded;
+    }
+
+    private Date randomDate() {
+        // within the year following 2016-01-01
+        return new Date(1451606400000L + (long) (random.nextDouble() * 365 * 24 * 3600 * 1000));
+    }
+
+    private static String format(String pattern, Date date) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format.format(date);
+    }
+
+    /**
+     * Generates strings matching a regular expression. Supports literals, escapes (\d, \w, \s
+     * and escaped characters), ".", character classes with ranges, groups, alternatives and the
+     * quantifiers ?, *, +, {n}, {n,} and {n,m}; anchors are ignored. Other constructs
+     * (e.g. lookarounds, back references and negated classes) are rejected.
+     */
+    private class PatternSampler {
+        private final String pattern;
+        private int pos = 0;
+
+        PatternSampler(String pattern) {
+            this.pattern = pattern;
+        }
+
+        String sample() {
+            StringBuilder out = new StringBuilder();
+            alternatives(out);
+            if (pos < pattern.length()) {
+                throw new IllegalArgumentException("Unsupported pattern: " + pattern);
+            }
+            return out.toString();
+        }
+
+        private void alternatives(StringBuilder out) {
+            List<StringBuilder> choices = new ArrayList<StringBuilder>();
+            choices.add(new StringBuilder());
+            while (pos < pattern.length() && pattern.charAt(pos) != ')') {
+                if (pattern.charAt(pos) == '|') {
+                    pos++;
+                    choices.add(new StringBuilder());
+                } else {
+                    term(choices.get(choices.size() - 1));
+                }
+            }
+            out.append(choices.get(random.nextInt(choices.size())));
+        }
+
+        private void term(StringBuilder out) {
+            char c = pattern.charAt(pos);
+            if (c == '^' || c == '$') {
+                pos++;
+                return;
+            }
+
+            int start = pos;
+            atom(new StringBuilder());
+            int[] range = quantifier();
+            int count = range[0] + random.nextInt(range[1] - range[0] + 1);
+            int after = pos;
+            for (int i = 0; i < count; i++) {
+                // sample the atom again for each repetition
+                pos = start;
+                atom(out);
+            }
+            pos = after;
+        }
+
+        private void atom(StringBuilder out) {
+            char c = pattern.charAt(pos++);
+            if (c == '(') {
+                if (pos < pattern.length() && pattern.charAt(pos) == '?') {
+                    if (pattern.startsWith("?:", pos)) {
+                        pos += 2;
+                    } else {
+                        throw new IllegalArgumentException("Unsupported group in pattern: " + pattern);
+                    }
+                }
+                alternatives(out);
+                expect(')');
+            } else if (c == '[') {
+                out.append(characterClass());
+            } else if (c == '\\') {
+                out.append(escape());
+            } else if (c == '.') {
+                out.append(ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length())));
+            } else if ("*+?{".indexOf(c) >= 0) {
+                throw new IllegalArgumentException("Dangling quantifier in pattern: " + pattern);
+            } else {
+                out.append(c);
+            }
+        }
+
+        private char escape() {
+            if (pos >= pattern.length()) {
+                throw new IllegalArgumentException("Trailing escape in pattern: " + pattern);
+            }
+            char c = pattern.charAt(pos++);
+            switch (c) {
+                case 'd':
+                    return (char) ('0' + random.nextInt(10));
+                case 'w':
+                    return ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length()));
+                case 's':
+                    return ' ';
+                case 't':
+                    return '\t';
+                case 'n':
+                    return '\n';
+                default:
+                    if (Character.isLetterOrDigit(c)) {
+                        throw new IllegalArgumentException("Unsupported escape \\" + c + " in pattern: " + pattern);
+                    }
+                    return c;
+            }
+        }
+
+        private char characterClass() {
+            if (pos < pattern.length() && pattern.charAt(pos) == '^') {
+                throw new IllegalArgumentException("Negated character class in pattern: " + pattern);
+            }
+            StringBuilder chars = new StringBuilder();
+            boolean first = true;
+            while (pos < pattern.length() && (first || pattern.charAt(pos) != ']')) {
+                first = false;
+                char from = pattern.charAt(pos++);
+                if (from == '\\') {
+                    from = escape();
+                }
+                if (pos + 1 < pattern.length() && pattern.charAt(pos) == '-' && pattern.charAt(pos + 1) != ']') {
+                    pos++;
+                    char to = pattern.charAt(pos++);
+                    if (to == '\\') {
+                        to = escape();
+                    }
+                    for (char ch = from; ch <= to; ch++) {
+                        chars.append(ch);
+                    }
+                } else {
+                    chars.append(from);
+                }
+            }
+            expect(']');
+            if (chars.length() == 0) {
+                throw new IllegalArgumentException("Empty character class in pattern: " + pattern);
+            }
+            return chars.charAt(random.nextInt(chars.length()));
+        }
+
+        private int[] quantifier() {
+            if (pos >= pattern.length()) {
+                return new int[]{1, 1};
+            }
+            char c = pattern.charAt(pos);
+            int[] range;
+            if (c == '?') {
+                pos++;
+                range = new int[]{0, 1};
+            } else if (c == '*') {
+                pos++;
+                range = new int[]{0, MAX_REPEAT};
+            } else if (c == '+') {
+                pos++;
+                range = new int[]{1, MAX_REPEAT};
+            } else if (c == '{') {
+                int close = pattern.indexOf('}', pos);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed quantifier in pattern: " + pattern);
+                }
+                String[] bounds = pattern.substring(pos + 1, close).split(",", -1);
+                try {
+                    int min = Integer.parseInt(bounds[0].trim());
+                    int max = bounds.length == 1 ? min
+                            : (bounds[1].trim().isEmpty() ? min + MAX_REPEAT : Integer.parseInt(bounds[1].trim()));
+                    range = new int[]{min, Math.max(min, max)};
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid quantifier in pattern: " + pattern);
+                }
+                pos = close + 1;
+            } else {
+                return new int[]{1, 1};
+            }
+            // lazy and possessive modifiers do not change the matched strings
+            if (pos < pattern.length() && (pattern.charAt(pos) == '?' || pattern.charAt(pos) == '+')) {
+                pos++;
+            }
+            return range;
+        }
+
+        private void expect(char c) {
+            if (pos >= pattern.length() || pattern.charAt(pos) != c) {
+                throw new IllegalArgumentException("Expected '" + c + "' at " + pos + " in pattern: " + pattern);
+            }
+            pos++;
+        }
+    }
+}
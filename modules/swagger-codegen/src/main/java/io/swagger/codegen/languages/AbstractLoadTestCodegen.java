@@ -0,0 +1,219 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.CodegenParameter;
+import io.swagger.codegen.CodegenResponse;
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.examples.TestDataGenerator;
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Swagger;
+import io.swagger.models.parameters.Parameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Base of the load test generators (JMeter, Gatling): the settings of the operations shared by
+ * the generators, their shares of the load and the generated test data of their parameters.
+ */
+public abstract class AbstractLoadTestCodegen extends DefaultCodegen implements CodegenConfig {
+    protected int testDataRows = 10;
+    protected TestDataGenerator testDataGenerator = new TestDataGenerator(null);
+
+    public AbstractLoadTestCodegen() {
+        super();
+    }
+
+    /**
+     * Get an integer option, the given default value if it is absent or invalid.
+     */
+    protected int intOption(String name, int defaultValue) {
+        if (!additionalProperties.containsKey(name)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(additionalProperties.get(name).toString());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid " + name + " option, using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Get a decimal option, the given default value if it is absent or invalid.
+     */
+    protected double doubleOption(String name, double defaultValue) {
+        if (!additionalProperties.containsKey(name)) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(additionalProperties.get(name).toString());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid " + name + " option, using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Adds the load test settings shared by the generators to (a copy of) the vendor extensions of the operation:
+     * <ul>
+     * <li>x-load-weight: relative share of the operation in the load (the x-load-weight vendor extension
+     * of the operation, 1 by default)</li>
+     * <li>x-expected-status: status code of a successful response (the first 2xx response)</li>
+     * <li>x-test-data: generated test data of the parameters, by parameter name</li>
+     * </ul>
+     * and the variable reference of each parameter to its x-value vendor extension.
+     */
+    @Override
+    public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Model> definitions, Swagger swagger) {
+        CodegenOperation op = super.fromOperation(path, httpMethod, operation, definitions, swagger);
+        // copied, the map of the operation is the one of the Swagger operation
+        op.vendorExtensions = new HashMap<String, Object>(op.vendorExtensions);
+
+        op.vendorExtensions.put("x-load-weight", toDouble(op.vendorExtensions.get("x-load-weight"), 1));
+
+        String expectedStatus = "200";
+        for (CodegenResponse response : op.responses) {
+            if (response.code != null && response.code.startsWith("2")) {
+                expectedStatus = response.code;
+                break;
+            }
+        }
+        op.vendorExtensions.put("x-expected-status", expectedStatus);
+
+        for (List<CodegenParameter> params : Arrays.asList(op.allParams, op.bodyParams, op.pathParams,
+                op.queryParams, op.headerParams, op.formParams)) {
+            setValueReferences(params);
+        }
+        if (op.bodyParam != null) {
+            setValueReferences(Arrays.asList(op.bodyParam));
+        }
+
+        Map<String, List<String>> testData = new LinkedHashMap<String, List<String>>();
+        if (operation.getParameters() != null) {
+            for (Parameter parameter : operation.getParameters()) {
+                if (!hasTestData(parameter)) {
+                    continue;
+                }
+                List<String> values = new ArrayList<String>();
+                for (int i = 0; i < testDataRows; i++) {
+                    values.add(testDataGenerator.generate(parameter));
+                }
+                testData.put(parameter.getName(), values);
+            }
+        }
+        op.vendorExtensions.put("x-test-data", testData);
+
+        return op;
+    }
+
+    /**
+     * Whether to generate test data for the given parameter (all of them by default).
+     */
+    protected boolean hasTestData(Parameter parameter) {
+        return true;
+    }
+
+    private static void setValueReferences(List<CodegenParameter> params) {
+        for (CodegenParameter param : params) {
+            // copied, the map of the parameter is the one of the Swagger parameter
+            param.vendorExtensions = param.vendorExtensions == null
+                    ? new HashMap<String, Object>() : new HashMap<String, Object>(param.vendorExtensions);
+            param.vendorExtensions.put("x-value", "${" + param.baseName + "}");
+        }
+    }
+
+    /**
+     * Sets the share of each operation in the load (x-load-percent) according to the weights: percentages
+     * with two decimals rounded down, the last operation with a weight getting the remainder, so that they
+     * add up to exactly 100.
+     */
+    protected static void setLoadPercents(List<CodegenOperation> ops) {
+        double totalWeight = 0;
+        int last = -1;
+        for (int i = 0; i < ops.size(); i++) {
+            double weight = (Double) ops.get(i).vendorExtensions.get("x-load-weight");
+            if (weight > 0) {
+                totalWeight += weight;
+                last = i;
+            }
+        }
+        // in hundredths of a percent
+        long remainder = 10000;
+        for (int i = 0; i < ops.size(); i++) {
+            double weight = (Double) ops.get(i).vendorExtensions.get("x-load-weight");
+            long share = 0;
+            if (i == last) {
+                share = remainder;
+            } else if (weight > 0) {
+                share = Math.min(remainder, (long) Math.floor(10000 * weight / totalWeight));
+            }
+            remainder -= share;
+            ops.get(i).vendorExtensions.put("x-load-percent", String.format(Locale.ROOT, "%d.%02d", share / 100, share % 100));
+        }
+    }
+
+    /**
+     * Puts the header and the lines of the test data file of the operations: a column per parameter name,
+     * shared by the operations, the first operation with a parameter of a given name providing its test data.
+     *
+     * @param objs The objects passed to the templates
+     * @param ops The operations
+     * @param headerName The name of the header in the objects passed to the templates
+     * @param linesName The name of the lines in the objects passed to the templates
+     */
+    @SuppressWarnings("unchecked")
+    protected void putTestData(Map<String, Object> objs, List<CodegenOperation> ops, String headerName, String linesName) {
+        Map<String, List<String>> columns = new LinkedHashMap<String, List<String>>();
+        for (CodegenOperation op : ops) {
+            Map<String, List<String>> testData = (Map<String, List<String>>) op.vendorExtensions.get("x-test-data");
+            for (Map.Entry<String, List<String>> entry : testData.entrySet()) {
+                if (!columns.containsKey(entry.getKey())) {
+                    columns.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        StringBuilder header = new StringBuilder("testCase");
+        for (String name : columns.keySet()) {
+            header.append(',').append(toCsvValue(name));
+        }
+        List<String> lines = new ArrayList<String>();
+        for (int i = 0; i < testDataRows; i++) {
+            StringBuilder line = new StringBuilder("case").append(i + 1);
+            for (List<String> values : columns.values()) {
+                line.append(',').append(toCsvValue(values.get(i)));
+            }
+            lines.add(line.toString());
+        }
+        objs.put(headerName, header.toString());
+        objs.put(linesName, lines);
+    }
+
+    protected static double toDouble(Object value, double defaultValue) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value != null) {
+            try {
+                return Double.parseDouble(value.toString());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid load setting " + value + ", using " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    protected static String toCsvValue(String value) {
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -270,6 +270,8 @@ public class AndroidClientCodegen extends DefaultCodegen implements CodegenConfi
         supportingFiles.add(new SupportingFile("manifest.mustache", projectFolder, "AndroidManifest.xml"));
         supportingFiles.add(new SupportingFile("apiInvoker.mustache",
                 (sourceFolder + File.separator + invokerPackage).replace(".", File.separator), "ApiInvoker.java"));
+        supportingFiles.add(new SupportingFile("apiCallback.mustache",
+                (sourceFolder + File.separator + invokerPackage).replace(".", File.separator), "ApiCallback.java"));
         supportingFiles.add(new SupportingFile("httpPatch.mustache",
                 (sourceFolder + File.separator + invokerPackage).replace(".", File.separator), "HttpPatch.java"));
         supportingFiles.add(new SupportingFile("jsonUtil.mustache",
@@ -0,0 +1,226 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CliOption;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.CodegenType;
+import io.swagger.codegen.SupportingFile;
+import io.swagger.codegen.examples.ExampleGenerator;
+import io.swagger.codegen.examples.TestDataGenerator;
+import io.swagger.models.ArrayModel;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.RefModel;
+import io.swagger.models.Swagger;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.Parameter;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.PropertyBuilder;
+import io.swagger.models.properties.RefProperty;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Generates a Gatling simulation per tag: a request builder per operation fed from a CSV file
+ * of generated test data, an open-model injection profile and response time assertions.
+ */
+public class GatlingCodegen extends AbstractLoadTestCodegen {
+    public static final String USERS_PER_SEC = "usersPerSec";
+    public static final String RAMP_UP = "rampUp";
+    public static final String DURATION = "duration";
+    public static final String MAX_RESPONSE_TIME = "maxResponseTime";
+    public static final String FEEDER_ROWS = "feederRows";
+
+    protected String sourceFolder = "src/test/scala";
+    protected String resourcesFolder = "src/test/resources";
+    protected double usersPerSec = 10;
+    protected int rampUp = 10;
+    protected int duration = 60;
+    protected int maxResponseTime = 1000;
+
+    protected Map<String, Model> bodyExamples = new HashMap<String, Model>();
+
+    public GatlingCodegen() {
+        super();
+        testDataRows = 100;
+        outputFolder = "generated-code/gatling";
+        apiTemplateFiles.put("simulation.mustache", "Simulation.scala");
+        apiTemplateFiles.put("feeder.mustache", ".csv");
+        embeddedTemplateDir = templateDir = "gatling";
+        apiPackage = "io.swagger.simulations";
+
+        supportingFiles.add(new SupportingFile("build.sbt", "", "build.sbt"));
+        supportingFiles.add(new SupportingFile("plugins.sbt", "project", "plugins.sbt"));
+        supportingFiles.add(new SupportingFile("build.properties", "project", "build.properties"));
+        supportingFiles.add(new SupportingFile("README.mustache", "", "README.md"));
+
+        cliOptions.add(new CliOption(CodegenConstants.API_PACKAGE, CodegenConstants.API_PACKAGE_DESC));
+        cliOptions.add(new CliOption(USERS_PER_SEC, "Arrival rate of new users per second, once ramped up.")
+                .defaultValue("10"));
+        cliOptions.add(new CliOption(RAMP_UP, "Duration in seconds of the ramp up of the arrival rate.")
+                .defaultValue(String.valueOf(rampUp)));
+        cliOptions.add(new CliOption(DURATION, "Duration in seconds of the constant arrival rate.")
+                .defaultValue(String.valueOf(duration)));
+        cliOptions.add(new CliOption(MAX_RESPONSE_TIME, "Maximum 95th percentile of the response times in milliseconds, "
+                + "overridden per operation by the x-max-response-time vendor extension, 0 for no assertion.")
+                .defaultValue(String.valueOf(maxResponseTime)));
+        cliOptions.add(new CliOption(FEEDER_ROWS, "Number of rows of generated test data.")
+                .defaultValue(String.valueOf(testDataRows)));
+    }
+
+    @Override
+    public CodegenType getTag() {
+        return CodegenType.CLIENT;
+    }
+
+    @Override
+    public String getName() {
+        return "gatling";
+    }
+
+    @Override
+    public String getHelp() {
+        return "Generates Gatling load test simulations.";
+    }
+
+    @Override
+    public void processOpts() {
+        super.processOpts();
+
+        usersPerSec = doubleOption(USERS_PER_SEC, usersPerSec);
+        rampUp = intOption(RAMP_UP, rampUp);
+        duration = intOption(DURATION, duration);
+        maxResponseTime = intOption(MAX_RESPONSE_TIME, maxResponseTime);
+        testDataRows = Math.max(1, intOption(FEEDER_ROWS, testDataRows));
+
+        additionalProperties.put(USERS_PER_SEC, usersPerSec);
+        additionalProperties.put(RAMP_UP, rampUp);
+        additionalProperties.put(DURATION, duration);
+    }
+
+    @Override
+    public String apiFileFolder() {
+        return outputFolder + File.separator + sourceFolder + File.separator + apiPackage().replace('.', File.separatorChar);
+    }
+
+    @Override
+    public String apiFilename(String templateName, String tag) {
+        if ("feeder.mustache".equals(templateName)) {
+            // feeders are looked up in the data folder of the resources
+            return outputFolder + File.separator + resourcesFolder + File.separator + "data" + File.separator
+                    + toApiFilename(tag) + apiTemplateFiles().get(templateName);
+        }
+        return super.apiFilename(templateName, tag);
+    }
+
+    @Override
+    public void preprocessSwagger(Swagger swagger) {
+        if (swagger.getDefinitions() != null) {
+            bodyExamples = new HashMap<String, Model>(swagger.getDefinitions());
+        }
+        testDataGenerator = new TestDataGenerator(swagger.getDefinitions());
+    }
+
+    /**
+     * Adds the simulation settings of the operation to its vendor extensions, besides the ones
+     * of {@link AbstractLoadTestCodegen#fromOperation}:
+     * <ul>
+     * <li>x-gatling-method: the request builder method of the HTTP method</li>
+     * <li>x-gatling-path: the path, with Gatling EL references to the path parameters</li>
+     * <li>x-max-response-time: maximum response time of the operation, if any</li>
+     * <li>x-content-type and x-body: content type and template of the request body</li>
+     * </ul>
+     */
+    @Override
+    public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Model> definitions, Swagger swagger) {
+        CodegenOperation op = super.fromOperation(path, httpMethod, operation, definitions, swagger);
+
+        op.vendorExtensions.put("x-gatling-method", httpMethod.toLowerCase(Locale.ROOT));
+        op.vendorExtensions.put("x-gatling-path", path.replace("{", "${"));
+
+        double opMaxResponseTime = toDouble(op.vendorExtensions.get("x-max-response-time"), maxResponseTime);
+        if (opMaxResponseTime > 0) {
+            op.vendorExtensions.put("x-max-response-time", (long) opMaxResponseTime);
+        } else {
+            op.vendorExtensions.remove("x-max-response-time");
+        }
+
+        if (operation.getParameters() != null) {
+            for (Parameter parameter : operation.getParameters()) {
+                if (parameter instanceof BodyParameter) {
+                    setBodyTemplate(op, ((BodyParameter) parameter).getSchema());
+                }
+            }
+        }
+
+        return op;
+    }
+
+    /**
+     * The body is sent from its template, generate test data for the other parameters only.
+     */
+    @Override
+    protected boolean hasTestData(Parameter parameter) {
+        return !(parameter instanceof BodyParameter);
+    }
+
+    private void setBodyTemplate(CodegenOperation op, Model schema) {
+        String contentType = "application/json";
+        if (op.consumes != null && !op.consumes.isEmpty()) {
+            contentType = op.consumes.get(0).get("mediaType");
+        }
+
+        Property property = null;
+        if (schema instanceof RefModel) {
+            property = new RefProperty(((RefModel) schema).getSimpleRef());
+        } else if (schema instanceof ArrayModel) {
+            property = new ArrayProperty(((ArrayModel) schema).getItems());
+        } else if (schema instanceof ModelImpl) {
+            ModelImpl impl = (ModelImpl) schema;
+            if (impl.getProperties() != null && !impl.getProperties().isEmpty()) {
+                // inline schema, registered under the name of the operation
+                String name = impl.getName() == null ? op.operationId + "Body" : impl.getName();
+                bodyExamples.put(name, impl);
+                property = new RefProperty(name);
+            } else {
+                property = PropertyBuilder.build(impl.getType(), impl.getFormat(), new HashMap<PropertyBuilder.PropertyId, Object>());
+            }
+        }
+        if (property == null) {
+            return;
+        }
+
+        List<Map<String, String>> examples = new ExampleGenerator(bodyExamples)
+                .generate(null, Arrays.asList(contentType), property);
+        String example = examples.get(0).get("example");
+        if (example == null) {
+            LOGGER.warn("No body template for the " + contentType + " content type of " + op.operationId);
+            return;
+        }
+        op.vendorExtensions.put("x-content-type", contentType);
+        op.vendorExtensions.put("x-body", example);
+    }
+
+    /**
+     * Computes the shares of the operations in the scenario of the simulation and the lines of
+     * its feeder: a column per parameter name, shared by the operations.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
+        Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+        List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
+
+        setLoadPercents(ops);
+        putTestData(objs, ops, "feederHeader", "feederLines");
+
+        return objs;
+    }
+}
@@ -1,21 +1,39 @@
 package io.swagger.codegen.languages;
 
 import io.swagger.codegen.*;
+import io.swagger.codegen.examples.TestDataGenerator;
+import io.swagger.models.Model;
 import io.swagger.models.Operation;
 import io.swagger.models.Path;
 import io.swagger.models.Swagger;
+import io.swagger.models.Tag;
 import io.swagger.models.properties.*;
 import org.apache.commons.lang.StringUtils;
 
 import java.util.*;
 import java.io.File;
 
-public class JMeterCodegen extends DefaultCodegen implements CodegenConfig {
+public class JMeterCodegen extends AbstractLoadTestCodegen {
+  public static final String THREADS = "threads";
+  public static final String RAMP_UP = "rampUp";
+  public static final String DURATION = "duration";
+  public static final String TARGET_RPS = "targetRps";
+  public static final String MAX_RESPONSE_TIME = "maxResponseTime";
+  public static final String TEST_DATA_ROWS = "testDataRows";
 
   // source folder where to write the files
   protected String sourceFolder = "";
   protected String apiVersion = "1.0.0";
 
+  // default load profile, overridden per tag by the x-load-* vendor extensions of the tag
+  protected int threads = 10;
+  protected int rampUp = 10;
+  protected int duration = 60;
+  protected double targetRps = 0;
+  protected int maxResponseTime = 0;
+
+  protected Map<String, Map<String, Object>> tagLoadProfiles = new HashMap<String, Map<String, Object>>();
+
   /**
    * Configures the type of generator.
    * 
@@ -98,6 +116,31 @@ public class JMeterCodegen extends DefaultCodegen implements CodegenConfig {
     additionalProperties.put("apiVersion", apiVersion);
 
 //    supportingFiles.add(new SupportingFile("testdata-localhost.mustache", "input", "testdata-localhost.csv"));
+
+    cliOptions.add(new CliOption(THREADS, "Number of concurrent threads (virtual users) of the load test.")
+        .defaultValue(String.valueOf(threads)));
+    cliOptions.add(new CliOption(RAMP_UP, "Ramp-up period in seconds, until all threads are started.")
+        .defaultValue(String.valueOf(rampUp)));
+    cliOptions.add(new CliOption(DURATION, "Duration of the load test in seconds.")
+        .defaultValue(String.valueOf(duration)));
+    cliOptions.add(new CliOption(TARGET_RPS, "Target throughput in requests per second of all the threads, 0 for no limit.")
+        .defaultValue("0"));
+    cliOptions.add(new CliOption(MAX_RESPONSE_TIME, "Maximum response time in milliseconds, slower responses fail, 0 for no limit.")
+        .defaultValue(String.valueOf(maxResponseTime)));
+    cliOptions.add(new CliOption(TEST_DATA_ROWS, "Number of rows of generated test data.")
+        .defaultValue(String.valueOf(testDataRows)));
+  }
+
+  @Override
+  public void processOpts() {
+    super.processOpts();
+
+    threads = intOption(THREADS, threads);
+    rampUp = intOption(RAMP_UP, rampUp);
+    duration = intOption(DURATION, duration);
+    maxResponseTime = intOption(MAX_RESPONSE_TIME, maxResponseTime);
+    testDataRows = Math.max(1, intOption(TEST_DATA_ROWS, testDataRows));
+    targetRps = doubleOption(TARGET_RPS, targetRps);
   }
 
   @Override
@@ -113,6 +156,79 @@ public class JMeterCodegen extends DefaultCodegen implements CodegenConfig {
         }
       }
     }
+    if (swagger != null) {
+      testDataGenerator = new TestDataGenerator(swagger.getDefinitions());
+      if (swagger.getTags() != null) {
+        for (Tag tag : swagger.getTags()) {
+          if (tag.getVendorExtensions() != null) {
+            tagLoadProfiles.put(tag.getName(), tag.getVendorExtensions());
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the JMeter settings of the operation to its vendor extensions, besides the ones
+   * of {@link AbstractLoadTestCodegen#fromOperation}:
+   * <ul>
+   * <li>x-query-string: query string appended to the path when the request has a body</li>
+   * <li>x-content-type: content type of the request body</li>
+   * </ul>
+   */
+  @Override
+  public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Model> definitions, Swagger swagger) {
+    CodegenOperation op = super.fromOperation(path, httpMethod, operation, definitions, swagger);
+
+    if (op.bodyParam != null) {
+      String contentType = "application/json";
+      if (op.consumes != null && !op.consumes.isEmpty()) {
+        contentType = op.consumes.get(0).get("mediaType");
+      }
+      op.vendorExtensions.put("x-content-type", contentType);
+    }
+    if ((op.bodyParam != null || !op.formParams.isEmpty()) && !op.queryParams.isEmpty()) {
+      // the body (or form) replaces the arguments of the sampler, send the query parameters in the path
+      StringBuilder query = new StringBuilder();
+      for (CodegenParameter param : op.queryParams) {
+        query.append(query.length() == 0 ? "?" : "&")
+            .append(param.baseName).append("=${__urlencode(${").append(param.baseName).append("})}");
+      }
+      op.vendorExtensions.put("x-query-string", query.toString());
+    }
+
+    return op;
+  }
+
+  /**
+   * Computes the load profile of the test plan of the operations (a test plan per tag) and
+   * the lines of the test data file: a column per parameter name, shared by the operations.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
+    Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+    List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
+
+    setLoadPercents(ops);
+
+    Map<String, Object> profile = ops.isEmpty() ? null : tagLoadProfiles.get(ops.get(0).baseName);
+    if (profile == null) {
+      profile = new HashMap<String, Object>();
+    }
+    double planTargetRps = toDouble(profile.get("x-load-target-rps"), targetRps);
+    double planMaxResponseTime = toDouble(profile.get("x-load-max-response-time"), maxResponseTime);
+    objs.put("loadThreads", (long) toDouble(profile.get("x-load-threads"), threads));
+    objs.put("loadRampUp", (long) toDouble(profile.get("x-load-ramp-up"), rampUp));
+    objs.put("loadDuration", (long) toDouble(profile.get("x-load-duration"), duration));
+    objs.put("loadTargetRps", planTargetRps);
+    objs.put("loadTargetRpsEnabled", planTargetRps > 0);
+    objs.put("loadMaxResponseTime", (long) planMaxResponseTime);
+    objs.put("loadMaxResponseTimeEnabled", planMaxResponseTime > 0);
+
+    putTestData(objs, ops, "testDataHeader", "testDataLines");
+
+    return objs;
   }
 
   /**
@@ -234,6 +234,10 @@ public class JavaClientCodegen extends DefaultCodegen implements CodegenConfig {
             supportingFiles.add(new SupportingFile("apiException.mustache", invokerFolder, "ApiException.java"));
             supportingFiles.add(new SupportingFile("Configuration.mustache", invokerFolder, "Configuration.java"));
             supportingFiles.add(new SupportingFile("Pair.mustache", invokerFolder, "Pair.java"));
+            supportingFiles.add(new SupportingFile("PageIterator.mustache", invokerFolder, "PageIterator.java"));
+            supportingFiles.add(new SupportingFile("RetryPolicy.mustache", invokerFolder, "RetryPolicy.java"));
+            supportingFiles.add(new SupportingFile("ApiMetricsListener.mustache", invokerFolder, "ApiMetricsListener.java"));
+            supportingFiles.add(new SupportingFile("HistogramMetricsListener.mustache", invokerFolder, "HistogramMetricsListener.java"));
             supportingFiles.add(new SupportingFile("auth/Authentication.mustache", authFolder, "Authentication.java"));
         }
 
@@ -252,6 +256,9 @@ public class JavaClientCodegen extends DefaultCodegen implements CodegenConfig {
             supportingFiles.add(new SupportingFile("CollectionFormats.mustache", invokerFolder, "CollectionFormats.java"));
         } else if("jersey2".equals(getLibrary())) {
             supportingFiles.add(new SupportingFile("JSON.mustache", invokerFolder, "JSON.java"));
+            supportingFiles.add(new SupportingFile("ResponseCache.mustache", invokerFolder, "ResponseCache.java"));
+        } else if (StringUtils.isEmpty(getLibrary())) {
+            supportingFiles.add(new SupportingFile("ResponseCache.mustache", invokerFolder, "ResponseCache.java"));
         }
     }
 
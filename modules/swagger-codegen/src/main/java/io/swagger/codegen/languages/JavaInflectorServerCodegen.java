@@ -13,6 +13,7 @@ import java.util.*;
 
 public class JavaInflectorServerCodegen extends JavaClientCodegen implements CodegenConfig {
     protected String title = "Swagger Inflector";
+    protected boolean requestValidators = false;
 
     public JavaInflectorServerCodegen() {
         super();
@@ -43,6 +44,8 @@ public class JavaInflectorServerCodegen extends JavaClientCodegen implements Cod
                         "Long",
                         "Float")
         );
+
+        cliOptions.add(CliOption.newBoolean(CodegenConstants.REQUEST_VALIDATORS, CodegenConstants.REQUEST_VALIDATORS_DESC));
     }
 
     @Override
@@ -64,6 +67,15 @@ public class JavaInflectorServerCodegen extends JavaClientCodegen implements Cod
     public void processOpts() {
         super.processOpts();
 
+        if (additionalProperties.containsKey(CodegenConstants.REQUEST_VALIDATORS)) {
+            setRequestValidators(Boolean.valueOf(additionalProperties.get(CodegenConstants.REQUEST_VALIDATORS).toString()));
+        }
+        // a boolean for the templates
+        additionalProperties.put(CodegenConstants.REQUEST_VALIDATORS, requestValidators);
+        if (requestValidators) {
+            apiTemplateFiles.put("apiValidator.mustache", "Validator.java");
+        }
+
         supportingFiles.clear();
         supportingFiles.add(new SupportingFile("pom.mustache", "", "pom.xml"));
         supportingFiles.add(new SupportingFile("README.mustache", "", "README.md"));
@@ -150,6 +162,9 @@ public class JavaInflectorServerCodegen extends JavaClientCodegen implements Cod
                         operation.returnContainer = "Set";
                     }
                 }
+                if (requestValidators) {
+                    JavaRequestValidations.addValidations(operation);
+                }
             }
         }
         return objs;
@@ -182,4 +197,8 @@ public class JavaInflectorServerCodegen extends JavaClientCodegen implements Cod
     public boolean shouldOverwrite(String filename) {
         return super.shouldOverwrite(filename);
     }
+
+    public void setRequestValidators(boolean requestValidators) {
+        this.requestValidators = requestValidators;
+    }
 }
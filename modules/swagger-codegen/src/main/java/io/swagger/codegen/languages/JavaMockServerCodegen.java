@@ -0,0 +1,202 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CliOption;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.CodegenResponse;
+import io.swagger.codegen.CodegenType;
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.SupportingFile;
+import io.swagger.codegen.utils.JavaStringUtils;
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates a Netty based mock server of the API, e.g. to benchmark clients: every operation
+ * responds with the example of its response, serialized at generation time, after an optional
+ * artificial latency, and fails at an optional error rate.
+ */
+public class JavaMockServerCodegen extends DefaultCodegen implements CodegenConfig {
+    public static final String SERVER_PORT = "serverPort";
+    public static final String MOCK_LATENCY = "mockLatency";
+    public static final String MOCK_LATENCY_JITTER = "mockLatencyJitter";
+    public static final String MOCK_ERROR_RATE = "mockErrorRate";
+    public static final String MOCK_ERROR_STATUS = "mockErrorStatus";
+
+    // javac rejects string constants of more than 65535 bytes
+    private static final int BODY_CHUNK_LENGTH = 8192;
+
+    protected String invokerPackage = "io.swagger.mock";
+    protected String groupId = "io.swagger";
+    protected String artifactId = "swagger-mock-server";
+    protected String artifactVersion = "1.0.0";
+    protected String sourceFolder = "src/main/java";
+    protected String basePath = "";
+
+    public JavaMockServerCodegen() {
+        super();
+        outputFolder = "generated-code/javaMockServer";
+        apiTemplateFiles.put("api.mustache", ".java");
+        embeddedTemplateDir = templateDir = "JavaMockServer";
+        apiPackage = "io.swagger.mock.api";
+
+        additionalProperties.put(CodegenConstants.INVOKER_PACKAGE, invokerPackage);
+        additionalProperties.put(CodegenConstants.GROUP_ID, groupId);
+        additionalProperties.put(CodegenConstants.ARTIFACT_ID, artifactId);
+        additionalProperties.put(CodegenConstants.ARTIFACT_VERSION, artifactVersion);
+        additionalProperties.put(SERVER_PORT, "8080");
+        additionalProperties.put(MOCK_LATENCY, "0");
+        additionalProperties.put(MOCK_LATENCY_JITTER, "0");
+        additionalProperties.put(MOCK_ERROR_RATE, "0");
+        additionalProperties.put(MOCK_ERROR_STATUS, "500");
+
+        cliOptions.add(new CliOption(CodegenConstants.INVOKER_PACKAGE, CodegenConstants.INVOKER_PACKAGE_DESC));
+        cliOptions.add(new CliOption(CodegenConstants.API_PACKAGE, CodegenConstants.API_PACKAGE_DESC));
+        cliOptions.add(new CliOption(CodegenConstants.GROUP_ID, CodegenConstants.GROUP_ID_DESC));
+        cliOptions.add(new CliOption(CodegenConstants.ARTIFACT_ID, CodegenConstants.ARTIFACT_ID_DESC));
+        cliOptions.add(new CliOption(CodegenConstants.ARTIFACT_VERSION, CodegenConstants.ARTIFACT_VERSION_DESC));
+        cliOptions.add(new CliOption(SERVER_PORT, "Port of the server.").defaultValue("8080"));
+        cliOptions.add(new CliOption(MOCK_LATENCY, "Artificial latency of the responses in milliseconds.")
+                .defaultValue("0"));
+        cliOptions.add(new CliOption(MOCK_LATENCY_JITTER, "Maximum random variation of the latency in milliseconds.")
+                .defaultValue("0"));
+        cliOptions.add(new CliOption(MOCK_ERROR_RATE, "Ratio of the requests failing with the error status, between 0 and 1.")
+                .defaultValue("0"));
+        cliOptions.add(new CliOption(MOCK_ERROR_STATUS, "Status code of the injected errors.").defaultValue("500"));
+    }
+
+    @Override
+    public CodegenType getTag() {
+        return CodegenType.SERVER;
+    }
+
+    @Override
+    public String getName() {
+        return "java-mock-server";
+    }
+
+    @Override
+    public String getHelp() {
+        return "Generates a Java mock server (Netty) responding with the examples of the responses.";
+    }
+
+    @Override
+    public void processOpts() {
+        super.processOpts();
+
+        if (additionalProperties.containsKey(CodegenConstants.INVOKER_PACKAGE)) {
+            invokerPackage = (String) additionalProperties.get(CodegenConstants.INVOKER_PACKAGE);
+        }
+        validateNumber(SERVER_PORT, "8080");
+        validateNumber(MOCK_LATENCY, "0");
+        validateNumber(MOCK_LATENCY_JITTER, "0");
+        validateNumber(MOCK_ERROR_RATE, "0");
+        validateNumber(MOCK_ERROR_STATUS, "500");
+
+        String invokerFolder = (sourceFolder + File.separator + invokerPackage).replace(".", File.separator);
+        supportingFiles.add(new SupportingFile("pom.mustache", "", "pom.xml"));
+        supportingFiles.add(new SupportingFile("README.mustache", "", "README.md"));
+        supportingFiles.add(new SupportingFile("MockServer.mustache", invokerFolder, "MockServer.java"));
+        supportingFiles.add(new SupportingFile("MockHandler.mustache", invokerFolder, "MockHandler.java"));
+        supportingFiles.add(new SupportingFile("MockRoute.mustache", invokerFolder, "MockRoute.java"));
+        supportingFiles.add(new SupportingFile("MockRoutes.mustache", invokerFolder, "MockRoutes.java"));
+    }
+
+    private void validateNumber(String name, String defaultValue) {
+        try {
+            Double.parseDouble(additionalProperties.get(name).toString());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid " + name + " option, using " + defaultValue);
+            additionalProperties.put(name, defaultValue);
+        }
+    }
+
+    @Override
+    public String apiFileFolder() {
+        return outputFolder + File.separator + sourceFolder + File.separator + apiPackage().replace('.', File.separatorChar);
+    }
+
+    @Override
+    public String toApiName(String name) {
+        if (name.length() == 0) {
+            return "DefaultMock";
+        }
+        return camelize(sanitizeName(name)) + "Mock";
+    }
+
+    @Override
+    public void preprocessSwagger(Swagger swagger) {
+        if (swagger.getBasePath() != null) {
+            basePath = swagger.getBasePath();
+        }
+    }
+
+    /**
+     * Adds the mocked response of the operation to its vendor extensions:
+     * <ul>
+     * <li>x-mock-path: the path template, including the base path</li>
+     * <li>x-mock-status: the status code of the response</li>
+     * <li>x-mock-content-type: the content type of the example, if any</li>
+     * <li>x-mock-body: the example, as escaped chunks of a Java string literal</li>
+     * </ul>
+     */
+    @Override
+    public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Model> definitions, Swagger swagger) {
+        CodegenOperation op = super.fromOperation(path, httpMethod, operation, definitions, swagger);
+
+        String mockPath = (basePath + "/" + path).replaceAll("/+", "/");
+        if (mockPath.length() > 1 && mockPath.endsWith("/")) {
+            mockPath = mockPath.substring(0, mockPath.length() - 1);
+        }
+        op.vendorExtensions.put("x-mock-path", mockPath);
+
+        String status = "200";
+        for (CodegenResponse response : op.responses) {
+            if (Boolean.TRUE.equals(response.isDefault) && !response.isWildcard()) {
+                status = response.code;
+            }
+        }
+        op.vendorExtensions.put("x-mock-status", status);
+
+        Map<String, String> example = null;
+        if (op.examples != null) {
+            for (Map<String, String> candidate : op.examples) {
+                if (candidate.get("example") == null) {
+                    continue;
+                }
+                if (example == null || candidate.get("contentType").startsWith("application/json")) {
+                    example = candidate;
+                }
+            }
+        }
+        List<String> chunks = new ArrayList<String>();
+        if (example != null) {
+            String contentType = example.get("contentType");
+            String body = example.get("example");
+            if (contentType.startsWith("application/json")) {
+                // no indentation on the wire
+                try {
+                    body = Json.mapper().writeValueAsString(Json.mapper().readTree(body));
+                } catch (IOException e) {
+                    LOGGER.warn("Invalid JSON example of " + op.operationId + ", served as is");
+                }
+            }
+            for (int start = 0; start < body.length(); start += BODY_CHUNK_LENGTH) {
+                chunks.add(JavaStringUtils.escapeJavaString(body.substring(start, Math.min(body.length(), start + BODY_CHUNK_LENGTH))));
+            }
+            op.vendorExtensions.put("x-mock-content-type", contentType);
+        }
+        op.vendorExtensions.put("x-mock-body", chunks);
+
+        return op;
+    }
+}
@@ -0,0 +1,171 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.CodegenParameter;
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.utils.JavaStringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translates the constraints of the parameters of an operation into the Java statements of
+ * a precompiled validator, shared by the Java server generators (see the apiValidator templates):
+ * <ul>
+ * <li>x-has-validations (operation): whether any parameter of the operation is constrained</li>
+ * <li>x-validations (operation): the constrained parameters, each with its paramName, dataType,
+ * the checks (Java statements returning the violation) and the patterns to precompile</li>
+ * </ul>
+ * Only the parameters themselves are checked, not the properties of the models of body parameters.
+ */
+public final class JavaRequestValidations {
+    private static final String INDENT = "        ";
+
+    private JavaRequestValidations() {
+    }
+
+    public static void addValidations(CodegenOperation op) {
+        List<Map<String, Object>> validations = new ArrayList<Map<String, Object>>();
+        for (CodegenParameter param : op.allParams) {
+            if (Boolean.TRUE.equals(param.isFile) || param.dataType == null) {
+                // the type of file parameters depends on the framework
+                continue;
+            }
+            List<String> checks = new ArrayList<String>();
+            List<Map<String, String>> patterns = new ArrayList<Map<String, String>>();
+            addChecks(op, param, checks, patterns);
+            if (checks.isEmpty()) {
+                continue;
+            }
+            Map<String, Object> validation = new HashMap<String, Object>();
+            validation.put("paramName", param.paramName);
+            validation.put("dataType", param.dataType);
+            validation.put("checks", checks);
+            validation.put("patterns", patterns);
+            validation.put("hasMore", Boolean.TRUE);
+            validations.add(validation);
+        }
+        if (validations.isEmpty()) {
+            return;
+        }
+        // not removed, or the templates would see the hasMore of the operation
+        validations.get(validations.size() - 1).put("hasMore", Boolean.FALSE);
+
+        // don't modify the vendor extensions of the swagger operation
+        Map<String, Object> vendorExtensions = new HashMap<String, Object>();
+        if (op.vendorExtensions != null) {
+            vendorExtensions.putAll(op.vendorExtensions);
+        }
+        vendorExtensions.put("x-has-validations", Boolean.TRUE);
+        vendorExtensions.put("x-validations", validations);
+        op.vendorExtensions = vendorExtensions;
+    }
+
+    private static void addChecks(CodegenOperation op, CodegenParameter param, List<String> checks, List<Map<String, String>> patterns) {
+        String name = param.paramName;
+        String type = param.dataType;
+        String label = "'" + JavaStringUtils.escapeJavaString(param.baseName) + "'";
+
+        if (Boolean.TRUE.equals(param.required)) {
+            checks.add(check(name + " == null", "Missing the required parameter " + label));
+        }
+
+        if ("String".equals(type)) {
+            if (param.minLength != null) {
+                checks.add(check(name + " != null && " + name + ".length() < " + param.minLength,
+                        "The length of " + label + " must be at least " + param.minLength));
+            }
+            if (param.maxLength != null) {
+                checks.add(check(name + " != null && " + name + ".length() > " + param.maxLength,
+                        "The length of " + label + " must be at most " + param.maxLength));
+            }
+            if (param.pattern != null) {
+                String constant = DefaultCodegen.underscore(op.nickname + "_" + name).toUpperCase() + "_PATTERN";
+                Map<String, String> pattern = new HashMap<String, String>();
+                pattern.put("constant", constant);
+                pattern.put("pattern", JavaStringUtils.escapeJavaString(param.pattern));
+                patterns.add(pattern);
+                // unanchored, as in JSON schema
+                checks.add(check(name + " != null && !" + constant + ".matcher(" + name + ").find()",
+                        label + " must match " + JavaStringUtils.escapeJavaString(param.pattern)));
+            }
+            if (param.isEnum && param._enum != null && !param._enum.isEmpty()) {
+                StringBuilder check = new StringBuilder();
+                check.append(INDENT).append("if (").append(name).append(" != null) {\n");
+                check.append(INDENT).append("    switch (").append(name).append(") {\n");
+                for (String value : param._enum) {
+                    check.append(INDENT).append("        case \"").append(JavaStringUtils.escapeJavaString(value)).append("\":\n");
+                }
+                check.append(INDENT).append("            break;\n");
+                check.append(INDENT).append("        default:\n");
+                check.append(INDENT).append("            return \"").append(label).append(" must be one of ")
+                        .append(JavaStringUtils.escapeJavaString(join(param._enum))).append("\";\n");
+                check.append(INDENT).append("    }\n");
+                check.append(INDENT).append("}");
+                checks.add(check.toString());
+            }
+        } else if ("Integer".equals(type) || "Long".equals(type) || "Float".equals(type) || "Double".equals(type)) {
+            if (param.minimum != null) {
+                String operator = Boolean.TRUE.equals(param.exclusiveMinimum) ? " <= " : " < ";
+                checks.add(check(name + " != null && " + name + operator + literal(param.minimum),
+                        label + " must be " + (operator.contains("=") ? "greater than " : "at least ") + display(param.minimum)));
+            }
+            if (param.maximum != null) {
+                String operator = Boolean.TRUE.equals(param.exclusiveMaximum) ? " >= " : " > ";
+                checks.add(check(name + " != null && " + name + operator + literal(param.maximum),
+                        label + " must be " + (operator.contains("=") ? "less than " : "at most ") + display(param.maximum)));
+            }
+            if (param.multipleOf != null && ("Integer".equals(type) || "Long".equals(type)) && isIntegral(param.multipleOf)) {
+                checks.add(check(name + " != null && " + name + " % " + literal(param.multipleOf) + " != 0",
+                        label + " must be a multiple of " + display(param.multipleOf)));
+            }
+        } else if (type.startsWith("List<")) {
+            if (param.minItems != null) {
+                checks.add(check(name + " != null && " + name + ".size() < " + param.minItems,
+                        label + " must have at least " + param.minItems + " items"));
+            }
+            if (param.maxItems != null) {
+                checks.add(check(name + " != null && " + name + ".size() > " + param.maxItems,
+                        label + " must have at most " + param.maxItems + " items"));
+            }
+        }
+    }
+
+    private static String check(String condition, String violation) {
+        return INDENT + "if (" + condition + ") {\n"
+                + INDENT + "    return \"" + violation + "\";\n"
+                + INDENT + "}";
+    }
+
+    private static boolean isIntegral(Number value) {
+        double d = value.doubleValue();
+        return d == Math.rint(d) && Math.abs(d) < (1L << 53);
+    }
+
+    /**
+     * A Java literal of the number, comparable to any boxed number type.
+     */
+    private static String literal(Number value) {
+        if (isIntegral(value)) {
+            return value.longValue() + "L";
+        }
+        return Double.toString(value.doubleValue());
+    }
+
+    private static String display(Number value) {
+        return isIntegral(value) ? String.valueOf(value.longValue()) : String.valueOf(value.doubleValue());
+    }
+
+    private static String join(List<String> values) {
+        StringBuilder joined = new StringBuilder();
+        for (String value : values) {
+            if (joined.length() > 0) {
+                joined.append(", ");
+            }
+            joined.append(value);
+        }
+        return joined.toString();
+    }
+}
@@ -12,6 +12,7 @@ public class JaxRSServerCodegen extends JavaClientCodegen implements CodegenConf
     protected String dateLibrary = "default";
     protected String title = "Swagger Server";
     protected String implFolder = "src/main/java";
+    protected boolean requestValidators = false;
 
     public static final String DATE_LIBRARY = "dateLibrary";
     public JaxRSServerCodegen() {
@@ -55,11 +56,12 @@ public class JaxRSServerCodegen extends JavaClientCodegen implements CodegenConf
         Map<String, String> supportedLibraries = new LinkedHashMap<String, String>();
 
         supportedLibraries.put(DEFAULT_LIBRARY, "Jersey core 1.18.1");
-//        supportedLibraries.put("jersey2", "Jersey2 core library 2.x");
+        supportedLibraries.put("jersey2", "Jersey2 core library 2.x, with asynchronous resources (Java 8)");
         library.setEnum(supportedLibraries);
 
         cliOptions.add(library);
         cliOptions.add(new CliOption(CodegenConstants.IMPL_FOLDER, CodegenConstants.IMPL_FOLDER_DESC));
+        cliOptions.add(CliOption.newBoolean(CodegenConstants.REQUEST_VALIDATORS, CodegenConstants.REQUEST_VALIDATORS_DESC));
     }
 
     @Override
@@ -85,9 +87,19 @@ public class JaxRSServerCodegen extends JavaClientCodegen implements CodegenConf
         	implFolder = (String) additionalProperties.get(CodegenConstants.IMPL_FOLDER);
         }
 
-//        if("jersey2".equals(getLibrary())) {
-//            embeddedTemplateDir = templateDir = "JavaJaxRS" + File.separator + "jersey2";
-//        }
+        if (additionalProperties.containsKey(CodegenConstants.REQUEST_VALIDATORS)) {
+            setRequestValidators(Boolean.valueOf(additionalProperties.get(CodegenConstants.REQUEST_VALIDATORS).toString()));
+        }
+        // a boolean for the templates
+        additionalProperties.put(CodegenConstants.REQUEST_VALIDATORS, requestValidators);
+        if (requestValidators) {
+            apiTemplateFiles.put("apiValidator.mustache", "Validator.java");
+        }
+
+        if("jersey2".equals(getLibrary())) {
+            // the services return a CompletionStage
+            additionalProperties.put("javaVersion", "1.8");
+        }
 
         supportingFiles.clear();
         supportingFiles.add(new SupportingFile("pom.mustache", "", "pom.xml"));
@@ -246,11 +258,36 @@ public class JaxRSServerCodegen extends JavaClientCodegen implements CodegenConf
                         operation.returnContainer = "Set";
                     }
                 }
+                if (requestValidators) {
+                    JavaRequestValidations.addValidations(operation);
+                }
+                if (operation.isCached) {
+                    addApiSupportingFile("ResponseCache");
+                }
+                if (operation.isRateLimited) {
+                    addApiSupportingFile("RateLimiter");
+                }
+                if (operation.hasMaxConcurrency) {
+                    addApiSupportingFile("Bulkhead");
+                }
             }
         }
         return objs;
     }
 
+    /**
+     * Adds the class generated by the template of the same name to the api package, once.
+     */
+    private void addApiSupportingFile(String className) {
+        for (SupportingFile file : supportingFiles) {
+            if ((className + ".java").equals(file.destinationFilename)) {
+                return;
+            }
+        }
+        supportingFiles.add(new SupportingFile(className + ".mustache",
+                (sourceFolder + '/' + apiPackage).replace(".", "/"), className + ".java"));
+    }
+
     @Override
     public String toApiName(String name) {
         if (name.length() == 0) {
@@ -295,4 +332,8 @@ public class JaxRSServerCodegen extends JavaClientCodegen implements CodegenConf
     public void setDateLibrary(String library) {
         this.dateLibrary = library;
     }
+
+    public void setRequestValidators(boolean requestValidators) {
+        this.requestValidators = requestValidators;
+    }
 }
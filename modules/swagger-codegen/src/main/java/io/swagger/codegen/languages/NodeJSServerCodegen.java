@@ -20,9 +20,16 @@ import java.util.*;
 import java.util.Map.Entry;
 
 public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig {
+    public static final String CLUSTER = "cluster";
+    public static final String KEEP_ALIVE_TIMEOUT = "keepAliveTimeout";
+    public static final String HEADERS_TIMEOUT = "headersTimeout";
+    public static final String COMPRESSION = "compression";
+
     protected String apiVersion = "1.0.0";
     protected int serverPort = 8080;
     protected String projectName = "swagger-server";
+    protected boolean cluster = false;
+    protected boolean compression = false;
 
     public NodeJSServerCodegen() {
         super();
@@ -102,6 +109,47 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
                     "service.mustache",   // the template to use
                     "Service.js");       // the extension for each file to write
         }
+
+        additionalProperties.put(KEEP_ALIVE_TIMEOUT, "5000");
+        additionalProperties.put(HEADERS_TIMEOUT, "60000");
+
+        cliOptions.add(CliOption.newBoolean(CLUSTER, "Generate a cluster launcher (cluster.js) forking one worker per core, "
+                + "restarting the workers which die and all of them gracefully on SIGHUP."));
+        cliOptions.add(new CliOption(KEEP_ALIVE_TIMEOUT, "Milliseconds an idle keep-alive connection is kept open.")
+                .defaultValue("5000"));
+        cliOptions.add(new CliOption(HEADERS_TIMEOUT, "Milliseconds given to a client to send the headers of a request, "
+                + "more than the keep-alive timeout.").defaultValue("60000"));
+        cliOptions.add(CliOption.newBoolean(COMPRESSION, "Compress the responses with the compression middleware."));
+    }
+
+    @Override
+    public void processOpts() {
+        super.processOpts();
+
+        if (additionalProperties.containsKey(CLUSTER)) {
+            setCluster(Boolean.valueOf(additionalProperties.get(CLUSTER).toString()));
+        }
+        if (additionalProperties.containsKey(COMPRESSION)) {
+            setCompression(Boolean.valueOf(additionalProperties.get(COMPRESSION).toString()));
+        }
+        // booleans for the templates
+        additionalProperties.put(CLUSTER, cluster);
+        additionalProperties.put(COMPRESSION, compression);
+        validateTimeout(KEEP_ALIVE_TIMEOUT, "5000");
+        validateTimeout(HEADERS_TIMEOUT, "60000");
+
+        if (cluster) {
+            supportingFiles.add(new SupportingFile("cluster.mustache", "", "cluster.js"));
+        }
+    }
+
+    private void validateTimeout(String name, String defaultValue) {
+        try {
+            Integer.parseInt(additionalProperties.get(name).toString());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid " + name + " option, using " + defaultValue);
+            additionalProperties.put(name, defaultValue);
+        }
     }
 
     @Override
@@ -288,4 +336,12 @@ public class NodeJSServerCodegen extends DefaultCodegen implements CodegenConfig
         }
         return super.postProcessSupportingFileData(objs);
     }
+
+    public void setCluster(boolean cluster) {
+        this.cluster = cluster;
+    }
+
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
 }
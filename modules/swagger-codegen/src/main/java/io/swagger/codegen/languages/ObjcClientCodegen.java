@@ -3,6 +3,7 @@ package io.swagger.codegen.languages;
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.CodegenModel;
 import io.swagger.codegen.CodegenProperty;
 import io.swagger.codegen.CodegenType;
 import io.swagger.codegen.DefaultCodegen;
@@ -13,6 +14,8 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
@@ -24,6 +27,7 @@ public class ObjcClientCodegen extends DefaultCodegen implements CodegenConfig {
     public static final String AUTHOR_EMAIL = "authorEmail";
     public static final String GIT_REPO_URL = "gitRepoURL";
     public static final String LICENSE = "license";
+    public static final String LAZY_MODELS = "lazyModels";
     protected Set<String> foundationClasses = new HashSet<String>();
     protected String podName = "SwaggerClient";
     protected String podVersion = "1.0.0";
@@ -32,6 +36,7 @@ public class ObjcClientCodegen extends DefaultCodegen implements CodegenConfig {
     protected String authorEmail = "apiteam@swagger.io";
     protected String license = "MIT";
     protected String gitRepoURL = "https://github.com/swagger-api/swagger-codegen";
+    protected boolean lazyModels = false;
     protected String[] specialWords = {"new", "copy"};
 
     public ObjcClientCodegen() {
@@ -136,6 +141,8 @@ public class ObjcClientCodegen extends DefaultCodegen implements CodegenConfig {
         cliOptions.add(new CliOption(GIT_REPO_URL, "URL for the git repo where this podspec should point to.")
                 .defaultValue("https://github.com/swagger-api/swagger-codegen"));
         cliOptions.add(new CliOption(LICENSE, "License to use in the podspec file.").defaultValue("MIT"));
+        cliOptions.add(CliOption.newBoolean(LAZY_MODELS, "Generate models keeping the parsed JSON dictionary, "
+                + "and converting it to their properties (and nested models) on the first access of a property."));
     }
 
     @Override
@@ -185,6 +192,10 @@ public class ObjcClientCodegen extends DefaultCodegen implements CodegenConfig {
             setLicense((String) additionalProperties.get(LICENSE));
         }
 
+        if (additionalProperties.containsKey(LAZY_MODELS)) {
+            setLazyModels(Boolean.valueOf(additionalProperties.get(LAZY_MODELS).toString()));
+        }
+
         additionalProperties.put(POD_NAME, podName);
         additionalProperties.put(CodegenConstants.POD_VERSION, podVersion);
         additionalProperties.put(CLASS_PREFIX, classPrefix);
@@ -192,6 +203,8 @@ public class ObjcClientCodegen extends DefaultCodegen implements CodegenConfig {
         additionalProperties.put(AUTHOR_EMAIL, authorEmail);
         additionalProperties.put(GIT_REPO_URL, gitRepoURL);
         additionalProperties.put(LICENSE, license);
+        // boolean for the templates
+        additionalProperties.put(LAZY_MODELS, lazyModels);
 
         String swaggerFolder = podName;
 
@@ -456,6 +469,31 @@ public class ObjcClientCodegen extends DefaultCodegen implements CodegenConfig {
         this.license = license;
     }
 
+    public void setLazyModels(boolean lazyModels) {
+        this.lazyModels = lazyModels;
+    }
+
+    /**
+     * Adds the name of the Objective-C setter of the properties (x-objc-setter) to the models,
+     * overridden by the lazy models to materialize them before setting a property.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> postProcessModels(Map<String, Object> objs) {
+        List<Object> models = (List<Object>) objs.get("models");
+        for (Object _mo : models) {
+            Map<String, Object> mo = (Map<String, Object>) _mo;
+            CodegenModel cm = (CodegenModel) mo.get("model");
+            for (CodegenProperty var : cm.vars) {
+                // copied, the map of the property is the one of the Swagger property
+                var.vendorExtensions = var.vendorExtensions == null
+                        ? new HashMap<String, Object>() : new HashMap<String, Object>(var.vendorExtensions);
+                var.vendorExtensions.put("x-objc-setter", "set" + Character.toUpperCase(var.name.charAt(0)) + var.name.substring(1));
+            }
+        }
+        return objs;
+    }
+
     /**
      * Return the default value of the property
      *
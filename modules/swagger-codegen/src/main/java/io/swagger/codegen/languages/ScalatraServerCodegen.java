@@ -4,6 +4,7 @@ import io.swagger.codegen.CliOption;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.CodegenParameter;
 import io.swagger.codegen.CodegenType;
 import io.swagger.codegen.DefaultCodegen;
 import io.swagger.codegen.SupportingFile;
@@ -17,8 +18,16 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class ScalatraServerCodegen extends DefaultCodegen implements CodegenConfig {
+    public static final String ASYNC = "async";
+
+    // the types Scalatra converts the parameters to
+    private static final Set<String> CONVERTIBLE_TYPES = new HashSet<String>(
+            Arrays.asList("String", "Int", "Long", "Float", "Double", "Boolean"));
+
+    protected boolean async = false;
     protected String invokerPackage = "io.swagger.client";
     protected String groupId = "io.swagger";
     protected String artifactId = "swagger-client";
@@ -121,6 +130,23 @@ public class ScalatraServerCodegen extends DefaultCodegen implements CodegenConf
 
         cliOptions.add(new CliOption(CodegenConstants.MODEL_PACKAGE, CodegenConstants.MODEL_PACKAGE_DESC));
         cliOptions.add(new CliOption(CodegenConstants.API_PACKAGE, CodegenConstants.API_PACKAGE_DESC));
+        cliOptions.add(CliOption.newBoolean(ASYNC, "Generate controllers mixing in FutureSupport, delegating to "
+                + "services returning Futures, so that slow requests don't hold the servlet threads."));
+    }
+
+    @Override
+    public void processOpts() {
+        super.processOpts();
+
+        if (additionalProperties.containsKey(ASYNC)) {
+            setAsync(Boolean.valueOf(additionalProperties.get(ASYNC).toString()));
+        }
+        // boolean for the templates
+        additionalProperties.put(ASYNC, async);
+        if (async) {
+            apiTemplateFiles.put("apiService.mustache", "Service.scala");
+            apiTemplateFiles.put("apiServiceImpl.mustache", "ServiceImpl.scala");
+        }
     }
 
     @Override
@@ -159,10 +185,65 @@ public class ScalatraServerCodegen extends DefaultCodegen implements CodegenConf
         List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
         for (CodegenOperation op : operationList) {
             op.httpMethod = op.httpMethod.toLowerCase();
+            if (async) {
+                // don't modify the vendor extensions of the swagger operation
+                Map<String, Object> vendorExtensions = new HashMap<String, Object>();
+                if (op.vendorExtensions != null) {
+                    vendorExtensions.putAll(op.vendorExtensions);
+                }
+                // the route, with the path parameters in the Scalatra syntax
+                vendorExtensions.put("x-scalatra-path", op.path.replaceAll("\\{([^}/]+)\\}", ":$1"));
+                op.vendorExtensions = vendorExtensions;
+                for (CodegenParameter param : op.allParams) {
+                    addAsyncParam(param);
+                }
+            }
         }
         return objs;
     }
 
+    /**
+     * Adds the Scala type of the parameter as given to the services (x-scalatra-type) and the
+     * expression reading it from the request (x-scalatra-value) to its vendor extensions, the
+     * missing or invalid required parameters halting with 400.
+     */
+    private void addAsyncParam(CodegenParameter param) {
+        String name = "\"" + escapeText(param.baseName) + "\"";
+        String type;
+        String value;
+        if (Boolean.TRUE.equals(param.isBodyParam)) {
+            type = param.dataType;
+            value = "parsedBody.extract[" + param.dataType + "]";
+        } else if (Boolean.TRUE.equals(param.isFile)) {
+            type = "Option[FileItem]";
+            value = "fileParams.get(" + name + ")";
+        } else if (Boolean.TRUE.equals(param.isHeaderParam)) {
+            type = "Option[String]";
+            value = "Option(request.getHeader(" + name + "))";
+        } else if (Boolean.TRUE.equals(param.isContainer)) {
+            // repeated, or comma separated
+            type = "List[String]";
+            value = "multiParams(" + name + ").flatMap(_.split(\",\")).toList";
+        } else {
+            String valueType = CONVERTIBLE_TYPES.contains(param.dataType) ? param.dataType : "String";
+            type = "Option[" + valueType + "]";
+            value = "params.getAs[" + valueType + "](" + name + ")";
+        }
+        if (type.startsWith("Option[") && (Boolean.TRUE.equals(param.required) || Boolean.TRUE.equals(param.isPathParam))) {
+            type = type.substring("Option[".length(), type.length() - 1);
+            value = value + ".getOrElse(halt(400, \"Missing or invalid parameter " + escapeText(param.baseName) + "\"))";
+        }
+
+        // don't modify the vendor extensions of the swagger parameter
+        Map<String, Object> vendorExtensions = new HashMap<String, Object>();
+        if (param.vendorExtensions != null) {
+            vendorExtensions.putAll(param.vendorExtensions);
+        }
+        vendorExtensions.put("x-scalatra-type", type);
+        vendorExtensions.put("x-scalatra-value", value);
+        param.vendorExtensions = vendorExtensions;
+    }
+
 
     @Override
     public String getTypeDeclaration(Property p) {
@@ -193,4 +274,8 @@ public class ScalatraServerCodegen extends DefaultCodegen implements CodegenConf
         }
         return toModelName(type);
     }
-}
\ No newline at end of file
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+}
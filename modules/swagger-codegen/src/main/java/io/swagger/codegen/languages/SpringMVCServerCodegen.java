@@ -6,11 +6,18 @@ import io.swagger.models.Operation;
 import java.io.File;
 import java.util.*;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class SpringMVCServerCodegen extends JavaClientCodegen implements CodegenConfig {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpringMVCServerCodegen.class);
     public static final String CONFIG_PACKAGE = "configPackage";
+    public static final String STREAMING_RESPONSES = "streamingResponses";
     protected String title = "Petstore Server";
     protected String configPackage = "";
     protected String templateFileName = "api.mustache";
+    protected boolean streamingResponses = false;
+    protected boolean requestValidators = false;
 
     public SpringMVCServerCodegen() {
         super();
@@ -44,6 +51,10 @@ public class SpringMVCServerCodegen extends JavaClientCodegen implements Codegen
         );
 
         cliOptions.add(new CliOption(CONFIG_PACKAGE, "configuration package for generated code"));
+        cliOptions.add(CliOption.newBoolean(STREAMING_RESPONSES, "Stream the elements of the array responses to the client "
+                + "while they are produced, instead of materializing the whole array. Overridden per operation by the "
+                + "x-streaming vendor extension."));
+        cliOptions.add(CliOption.newBoolean(CodegenConstants.REQUEST_VALIDATORS, CodegenConstants.REQUEST_VALIDATORS_DESC));
 
         supportedLibraries.clear();
         supportedLibraries.put(DEFAULT_LIBRARY, "Default Spring MVC server stub.");
@@ -74,6 +85,19 @@ public class SpringMVCServerCodegen extends JavaClientCodegen implements Codegen
             this.setConfigPackage((String) additionalProperties.get(CONFIG_PACKAGE));
         }
 
+        if (additionalProperties.containsKey(STREAMING_RESPONSES)) {
+            this.setStreamingResponses(Boolean.valueOf(additionalProperties.get(STREAMING_RESPONSES).toString()));
+        }
+
+        if (additionalProperties.containsKey(CodegenConstants.REQUEST_VALIDATORS)) {
+            this.setRequestValidators(Boolean.valueOf(additionalProperties.get(CodegenConstants.REQUEST_VALIDATORS).toString()));
+        }
+        // a boolean for the templates
+        additionalProperties.put(CodegenConstants.REQUEST_VALIDATORS, requestValidators);
+        if (requestValidators) {
+            apiTemplateFiles.put("apiValidator.mustache", "Validator.java");
+        }
+
         supportingFiles.clear();
         supportingFiles.add(new SupportingFile("pom.mustache", "", "pom.xml"));
         supportingFiles.add(new SupportingFile("README.mustache", "", "README.md"));
@@ -166,8 +190,59 @@ public class SpringMVCServerCodegen extends JavaClientCodegen implements Codegen
                         operation.returnContainer = "Set";
                     }
                 }
+
+                boolean streaming = ("List".equals(operation.returnContainer) || "Set".equals(operation.returnContainer))
+                        && isStreaming(operation);
+                if (streaming || (operation.vendorExtensions != null && operation.vendorExtensions.containsKey("x-streaming"))) {
+                    // don't modify the vendor extensions of the swagger operation
+                    Map<String, Object> vendorExtensions = new HashMap<String, Object>();
+                    if (operation.vendorExtensions != null) {
+                        vendorExtensions.putAll(operation.vendorExtensions);
+                    }
+                    vendorExtensions.put("x-streaming", streaming);
+                    operation.vendorExtensions = vendorExtensions;
+                }
+                if (streaming) {
+                    objs.put("hasStreaming", Boolean.TRUE);
+                    if (operation.isCached) {
+                        LOGGER.warn("x-cache of operation " + operation.operationId + " doesn't apply to streamed responses, ignoring it");
+                        operation.cache = null;
+                        operation.isCached = Boolean.FALSE;
+                    }
+                    if (operation.hasMaxConcurrency) {
+                        // the response is written after the handler returned
+                        LOGGER.warn("x-max-concurrency of operation " + operation.operationId + " doesn't apply to streamed responses, ignoring it");
+                        operation.maxConcurrency = null;
+                        operation.hasMaxConcurrency = Boolean.FALSE;
+                    }
+                }
+                if (operation.isCached) {
+                    objs.put("hasCache", Boolean.TRUE);
+                }
+                if (operation.isRateLimited) {
+                    addApiSupportingFile("rateLimiter.mustache", "RateLimiter.java");
+                }
+                if (operation.hasMaxConcurrency) {
+                    addApiSupportingFile("bulkhead.mustache", "Bulkhead.java");
+                }
+                if (operation.isRateLimited || operation.hasMaxConcurrency) {
+                    additionalProperties.put("hasOverloadProtection", Boolean.TRUE);
+                    addApiSupportingFile("overloadException.mustache", "OverloadException.java");
+                    addApiSupportingFile("overloadExceptionHandler.mustache", "OverloadExceptionHandler.java");
+                }
+                if (requestValidators) {
+                    JavaRequestValidations.addValidations(operation);
+                }
             }
         }
+        if (objs.containsKey("hasStreaming")) {
+            additionalProperties.put("hasStreamingResponses", Boolean.TRUE);
+            addApiSupportingFile("jsonArrayStreamer.mustache", "JsonArrayStreamer.java");
+        }
+        if (objs.containsKey("hasCache")) {
+            additionalProperties.put("hasCachedResponses", Boolean.TRUE);
+            addApiSupportingFile("responseCache.mustache", "ResponseCache.java");
+        }
         if("j8-async".equals(getLibrary())) {
             apiTemplateFiles.remove(this.templateFileName);
             this.templateFileName = "api-j8-async.mustache";
@@ -189,6 +264,19 @@ public class SpringMVCServerCodegen extends JavaClientCodegen implements Codegen
         return objs;
     }
 
+    /**
+     * Adds a supporting file to the api package, once.
+     */
+    private void addApiSupportingFile(String templateFile, String destinationFilename) {
+        for (SupportingFile file : supportingFiles) {
+            if (destinationFilename.equals(file.destinationFilename)) {
+                return;
+            }
+        }
+        supportingFiles.add(new SupportingFile(templateFile,
+                (sourceFolder + File.separator + apiPackage).replace(".", java.io.File.separator), destinationFilename));
+    }
+
     @Override
     public String toApiName(String name) {
         if (name.length() == 0) {
@@ -198,10 +286,30 @@ public class SpringMVCServerCodegen extends JavaClientCodegen implements Codegen
         return camelize(name) + "Api";
     }
 
+    /**
+     * Whether the array response of the operation is streamed: the x-streaming vendor extension
+     * of the operation if any, the streamingResponses option otherwise.
+     */
+    private boolean isStreaming(CodegenOperation operation) {
+        Object streaming = operation.vendorExtensions == null ? null : operation.vendorExtensions.get("x-streaming");
+        if (streaming == null) {
+            return streamingResponses;
+        }
+        return Boolean.valueOf(streaming.toString());
+    }
+
     public void setConfigPackage(String configPackage) {
         this.configPackage = configPackage;
     }
 
+    public void setStreamingResponses(boolean streamingResponses) {
+        this.streamingResponses = streamingResponses;
+    }
+
+    public void setRequestValidators(boolean requestValidators) {
+        this.requestValidators = requestValidators;
+    }
+
     @Override
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
         // remove the import of "Object" to avoid compilation error
@@ -0,0 +1,45 @@
+package io.swagger.codegen.utils;
+
+/**
+ * Helpers for the Java sources generated from code rather than from the templates.
+ */
+public final class JavaStringUtils {
+
+    private JavaStringUtils() {
+    }
+
+    /**
+     * Escapes the value for a Java string literal, non-ASCII characters included so that the
+     * sources don't depend on their encoding.
+     */
+    public static String escapeJavaString(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    escaped.append("\\\"");
+                    break;
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -3,6 +3,8 @@
 #include <QUrl>
 #include <QFileInfo>
 #include <QBuffer>
+#include <QNetworkDiskCache>
+#include <QThreadStorage>
 
 
 HttpRequestInput::HttpRequestInput() {
@@ -35,13 +37,134 @@ void HttpRequestInput::add_file(QString variable_name, QString local_filename, Q
 }
 
 
-HttpRequestWorker::HttpRequestWorker(QObject *parent)
-    : QObject(parent), manager(NULL)
+HttpRequestManager::HttpRequestManager(QObject *parent)
+    : QObject(parent), manager(NULL), max_parallel_requests(0), http2_allowed(false), pipelining_allowed(false)
+{
+    manager = new QNetworkAccessManager(this);
+}
+
+HttpRequestManager::~HttpRequestManager() {
+}
+
+HttpRequestManager *HttpRequestManager::thread_default() {
+    // deleted when the thread exits
+    static QThreadStorage<HttpRequestManager*> managers;
+    if (!managers.hasLocalData()) {
+        managers.setLocalData(new HttpRequestManager());
+    }
+    return managers.localData();
+}
+
+QNetworkAccessManager *HttpRequestManager::network_access_manager() {
+    return manager;
+}
+
+void HttpRequestManager::set_max_parallel_requests(int max_parallel_requests) {
+    this->max_parallel_requests = max_parallel_requests;
+    while (!pending.isEmpty() && (max_parallel_requests <= 0 || in_flight.size() < max_parallel_requests)) {
+        start(pending.dequeue());
+    }
+}
+
+int HttpRequestManager::get_max_parallel_requests() const {
+    return max_parallel_requests;
+}
+
+void HttpRequestManager::set_disk_cache(QString directory, qint64 max_size) {
+    QNetworkDiskCache *cache = new QNetworkDiskCache(manager);
+    cache->setCacheDirectory(directory);
+    cache->setMaximumCacheSize(max_size);
+    // the manager takes the ownership of the cache
+    manager->setCache(cache);
+}
+
+void HttpRequestManager::set_http2_allowed(bool http2_allowed) {
+    this->http2_allowed = http2_allowed;
+}
+
+void HttpRequestManager::set_pipelining_allowed(bool pipelining_allowed) {
+    this->pipelining_allowed = pipelining_allowed;
+}
+
+void HttpRequestManager::send(HttpRequestWorker *worker, QNetworkRequest request, QByteArray http_method, QByteArray content) {
+#if QT_VERSION >= QT_VERSION_CHECK(5, 8, 0)
+    request.setAttribute(QNetworkRequest::HTTP2AllowedAttribute, http2_allowed);
+#endif
+    if (pipelining_allowed && (http_method == "GET" || http_method == "HEAD")) {
+        request.setAttribute(QNetworkRequest::HttpPipeliningAllowedAttribute, true);
+    }
+
+    PendingRequest pending_request;
+    pending_request.worker = worker;
+    pending_request.request = request;
+    pending_request.http_method = http_method;
+    pending_request.content = content;
+
+    if (max_parallel_requests > 0 && in_flight.size() >= max_parallel_requests) {
+        pending.enqueue(pending_request);
+    }
+    else {
+        start(pending_request);
+    }
+}
+
+void HttpRequestManager::start(PendingRequest pending_request) {
+    if (pending_request.worker.isNull()) {
+        // deleted while queued
+        return;
+    }
+
+    QNetworkReply *reply;
+    if (pending_request.http_method == "GET") {
+        reply = manager->get(pending_request.request);
+    }
+    else if (pending_request.http_method == "POST") {
+        reply = manager->post(pending_request.request, pending_request.content);
+    }
+    else if (pending_request.http_method == "PUT") {
+        reply = manager->put(pending_request.request, pending_request.content);
+    }
+    else if (pending_request.http_method == "HEAD") {
+        reply = manager->head(pending_request.request);
+    }
+    else if (pending_request.http_method == "DELETE") {
+        reply = manager->deleteResource(pending_request.request);
+    }
+    else {
+        // read while the request is sent, deleted with the reply
+        QBuffer *buff = new QBuffer();
+        buff->setData(pending_request.content);
+        reply = manager->sendCustomRequest(pending_request.request, pending_request.http_method, buff);
+        buff->setParent(reply);
+    }
+
+    in_flight.insert(reply, pending_request.worker);
+    connect(reply, SIGNAL(finished()), this, SLOT(on_reply_finished()));
+}
+
+void HttpRequestManager::on_reply_finished() {
+    QNetworkReply *reply = qobject_cast<QNetworkReply*>(sender());
+    QPointer<HttpRequestWorker> worker = in_flight.take(reply);
+
+    while (!pending.isEmpty() && (max_parallel_requests <= 0 || in_flight.size() < max_parallel_requests)) {
+        start(pending.dequeue());
+    }
+
+    if (!worker.isNull()) {
+        worker->on_reply_finished(reply);
+    }
+    reply->deleteLater();
+}
+
+
+HttpRequestWorker::HttpRequestWorker(QObject *parent, HttpRequestManager *manager)
+    : QObject(parent), manager(manager)
 {
     qsrand(QDateTime::currentDateTime().toTime_t());
 
-    manager = new QNetworkAccessManager(this);
-    connect(manager, SIGNAL(finished(QNetworkReply*)), this, SLOT(on_manager_finished(QNetworkReply*)));
+    if (this->manager == NULL) {
+        this->manager = HttpRequestManager::thread_default();
+    }
 }
 
 HttpRequestWorker::~HttpRequestWorker() {
@@ -262,29 +385,10 @@ void HttpRequestWorker::execute(HttpRequestInput *input) {
         request.setHeader(QNetworkRequest::ContentTypeHeader, "multipart/form-data; boundary=" + boundary);
     }
 
-    if (input->http_method == "GET") {
-        manager->get(request);
-    }
-    else if (input->http_method == "POST") {
-        manager->post(request, request_content);
-    }
-    else if (input->http_method == "PUT") {
-        manager->put(request, request_content);
-    }
-    else if (input->http_method == "HEAD") {
-        manager->head(request);
-    }
-    else if (input->http_method == "DELETE") {
-        manager->deleteResource(request);
-    }
-    else {
-        QBuffer buff(&request_content);
-        manager->sendCustomRequest(request, input->http_method.toLatin1(), &buff);
-    }
-
+    manager->send(this, request, input->http_method.toLatin1(), request_content);
 }
 
-void HttpRequestWorker::on_manager_finished(QNetworkReply *reply) {
+void HttpRequestWorker::on_reply_finished(QNetworkReply *reply) {
     error_type = reply->error();
     if (error_type == QNetworkReply::NoError) {
         response = reply->readAll();
@@ -293,7 +397,5 @@ void HttpRequestWorker::on_manager_finished(QNetworkReply *reply) {
         error_str = reply->errorString();
     }
 
-    reply->deleteLater();
-
     emit on_execution_finished(this);
 }
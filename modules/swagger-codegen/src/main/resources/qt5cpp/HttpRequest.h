@@ -10,8 +10,12 @@
 #include <QObject>
 #include <QString>
 #include <QMap>
+#include <QHash>
+#include <QPointer>
+#include <QQueue>
 #include <QNetworkAccessManager>
 #include <QNetworkReply>
+#include <QNetworkRequest>
 
 enum HttpRequestVarLayout {NOT_SET, ADDRESS, URL_ENCODED, MULTIPART};
 
@@ -47,6 +51,62 @@ public:
 };
 
 
+class HttpRequestWorker;
+
+
+/**
+ * Network access shared by the requests of the API clients: a single QNetworkAccessManager,
+ * reusing its connections, with an optional disk cache, and a limit on the requests in flight.
+ * Like the QNetworkAccessManager, it must be used from the thread it was created in.
+ */
+class HttpRequestManager : public QObject {
+    Q_OBJECT
+
+public:
+    explicit HttpRequestManager(QObject *parent = 0);
+    virtual ~HttpRequestManager();
+
+    // the manager of the current thread, used by the API clients by default
+    static HttpRequestManager *thread_default();
+
+    QNetworkAccessManager *network_access_manager();
+
+    // maximum number of requests in flight, the next ones being queued (0 for no limit, the default)
+    void set_max_parallel_requests(int max_parallel_requests);
+    int get_max_parallel_requests() const;
+
+    // caches the responses in the directory, up to max_size bytes
+    void set_disk_cache(QString directory, qint64 max_size);
+
+    // HTTP/2 (with Qt 5.8 or later, ignored otherwise) and HTTP pipelining, both disabled by default
+    void set_http2_allowed(bool http2_allowed);
+    void set_pipelining_allowed(bool pipelining_allowed);
+
+    void send(HttpRequestWorker *worker, QNetworkRequest request, QByteArray http_method, QByteArray content);
+
+private:
+    struct PendingRequest {
+        QPointer<HttpRequestWorker> worker;
+        QNetworkRequest request;
+        QByteArray http_method;
+        QByteArray content;
+    };
+
+    QNetworkAccessManager *manager;
+    int max_parallel_requests;
+    bool http2_allowed;
+    bool pipelining_allowed;
+    QQueue<PendingRequest> pending;
+    QHash<QNetworkReply*, QPointer<HttpRequestWorker> > in_flight;
+
+    void start(PendingRequest pending_request);
+
+private slots:
+    void on_reply_finished();
+
+};
+
+
 class HttpRequestWorker : public QObject {
     Q_OBJECT
 
@@ -55,20 +115,20 @@ public:
     QNetworkReply::NetworkError error_type;
     QString error_str;
 
-    explicit HttpRequestWorker(QObject *parent = 0);
+    // the requests are sent with the manager, or the manager of the current thread if NULL
+    explicit HttpRequestWorker(QObject *parent = 0, HttpRequestManager *manager = 0);
     virtual ~HttpRequestWorker();
 
     QString http_attribute_encode(QString attribute_name, QString input);
     void execute(HttpRequestInput *input);
 
+    void on_reply_finished(QNetworkReply *reply);
+
 signals:
     void on_execution_finished(HttpRequestWorker *worker);
 
 private:
-    QNetworkAccessManager *manager;
-
-private slots:
-    void on_manager_finished(QNetworkReply *reply);
+    HttpRequestManager *manager;
 
 };
 
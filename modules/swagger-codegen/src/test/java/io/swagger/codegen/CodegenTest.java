@@ -189,6 +189,153 @@ public class CodegenTest {
 
     }
 
+    @Test(description = "read cursor pagination from the x-pagination vendor extension")
+    public void cursorPaginationTest() {
+        final Swagger model = parseAndPrepareSwagger("src/test/resources/2_0/pagination.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final String path = "/cursor";
+        final Operation p = model.getPaths().get(path).getGet();
+        final CodegenOperation op = codegen.fromOperation(path, "get", p, model.getDefinitions(), model);
+
+        Assert.assertTrue(op.isPaginated);
+        final CodegenPagination pagination = op.pagination;
+        Assert.assertTrue(pagination.isCursor);
+        Assert.assertFalse(pagination.isOffset);
+        Assert.assertEquals(pagination.cursorParam.baseName, "page_token");
+        Assert.assertEquals(pagination.nextCursorProperty.baseName, "next_page_token");
+        Assert.assertEquals(pagination.itemsProperty.baseName, "items");
+        Assert.assertEquals(pagination.itemType, "Item");
+
+        Assert.assertEquals(pagination.params.size(), 1);
+        Assert.assertEquals(pagination.params.get(0).baseName, "status");
+        Assert.assertNull(pagination.params.get(0).hasMore);
+        Assert.assertEquals(pagination.callParams.size(), 2);
+        Assert.assertEquals(pagination.callParams.get(1).vendorExtensions.get("x-pagination-cursor"), Boolean.TRUE);
+        Assert.assertNull(op.allParams.get(1).vendorExtensions.get("x-pagination-cursor"));
+    }
+
+    @Test(description = "read offset pagination from the x-pagination vendor extension")
+    public void offsetPaginationTest() {
+        final Swagger model = parseAndPrepareSwagger("src/test/resources/2_0/pagination.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final String path = "/offset";
+        final Operation p = model.getPaths().get(path).getGet();
+        final CodegenOperation op = codegen.fromOperation(path, "get", p, model.getDefinitions(), model);
+
+        Assert.assertTrue(op.isPaginated);
+        final CodegenPagination pagination = op.pagination;
+        Assert.assertTrue(pagination.isOffset);
+        Assert.assertEquals(pagination.cursorParam.baseName, "offset");
+        Assert.assertEquals(pagination.limitParam.baseName, "limit");
+        Assert.assertNull(pagination.itemsProperty);
+        Assert.assertEquals(pagination.itemType, "Item");
+        Assert.assertEquals(pagination.params.size(), 1);
+    }
+
+    @Test(description = "ignore x-pagination referring to unknown parameters")
+    public void invalidPaginationTest() {
+        final Swagger model = parseAndPrepareSwagger("src/test/resources/2_0/pagination.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final String path = "/invalid";
+        final Operation p = model.getPaths().get(path).getGet();
+        final CodegenOperation op = codegen.fromOperation(path, "get", p, model.getDefinitions(), model);
+
+        Assert.assertFalse(op.isPaginated);
+        Assert.assertNull(op.pagination);
+    }
+
+    @Test(description = "read response caching from the x-cache vendor extension")
+    public void cacheTest() {
+        final Swagger model = parseAndPrepareSwagger("src/test/resources/2_0/cache.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final String path = "/items";
+        final Operation p = model.getPaths().get(path).getGet();
+        final CodegenOperation op = codegen.fromOperation(path, "get", p, model.getDefinitions(), model);
+
+        Assert.assertTrue(op.isCached);
+        final CodegenCache cache = op.cache;
+        Assert.assertEquals(cache.ttl, Integer.valueOf(60));
+        Assert.assertEquals(cache.maxEntries, Integer.valueOf(500));
+        Assert.assertEquals(cache.vary, "Accept-Language, Authorization");
+
+        Assert.assertEquals(cache.keyParts.size(), 3);
+        Assert.assertEquals(cache.keyParts.get(0).get("paramName"), "status");
+        Assert.assertEquals(cache.keyParts.get(0).get("isHeader"), Boolean.FALSE);
+        Assert.assertEquals(cache.keyParts.get(1).get("name"), "Accept-Language");
+        Assert.assertEquals(cache.keyParts.get(1).get("isHeader"), Boolean.TRUE);
+        Assert.assertEquals(cache.keyParts.get(1).get("hasMore"), Boolean.TRUE);
+        Assert.assertEquals(cache.keyParts.get(2).get("hasMore"), Boolean.FALSE);
+    }
+
+    @Test(description = "key the cached responses by all the parameters by default")
+    public void defaultCacheKeyTest() {
+        final Swagger model = parseAndPrepareSwagger("src/test/resources/2_0/cache.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final String path = "/items/{id}";
+        final Operation p = model.getPaths().get(path).getGet();
+        final CodegenOperation op = codegen.fromOperation(path, "get", p, model.getDefinitions(), model);
+
+        final CodegenCache cache = op.cache;
+        Assert.assertEquals(cache.ttl, Integer.valueOf(300));
+        Assert.assertEquals(cache.maxEntries, Integer.valueOf(1000));
+        Assert.assertNull(cache.vary);
+        Assert.assertEquals(cache.keyParts.size(), 2);
+        Assert.assertEquals(cache.keyParts.get(0).get("paramName"), "id");
+        Assert.assertEquals(cache.keyParts.get(1).get("paramName"), "fields");
+    }
+
+    @Test(description = "ignore x-cache of non GET operations or referring to unknown parameters")
+    public void invalidCacheTest() {
+        final Swagger model = parseAndPrepareSwagger("src/test/resources/2_0/cache.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+
+        final Operation post = model.getPaths().get("/items").getPost();
+        final CodegenOperation postOp = codegen.fromOperation("/items", "post", post, model.getDefinitions(), model);
+        Assert.assertFalse(postOp.isCached);
+        Assert.assertNull(postOp.cache);
+
+        final Operation invalid = model.getPaths().get("/invalid").getGet();
+        final CodegenOperation invalidOp = codegen.fromOperation("/invalid", "get", invalid, model.getDefinitions(), model);
+        Assert.assertFalse(invalidOp.isCached);
+        Assert.assertNull(invalidOp.cache);
+    }
+
+    @Test(description = "read the rate limit and maximum concurrency from the vendor extensions")
+    public void overloadProtectionTest() {
+        final Swagger model = parseAndPrepareSwagger("src/test/resources/2_0/overload.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+
+        final Operation search = model.getPaths().get("/search").getGet();
+        final CodegenOperation searchOp = codegen.fromOperation("/search", "get", search, model.getDefinitions(), model);
+        Assert.assertTrue(searchOp.isRateLimited);
+        Assert.assertEquals(searchOp.rateLimit.requests, Integer.valueOf(600));
+        Assert.assertEquals(searchOp.rateLimit.period, Integer.valueOf(60));
+        Assert.assertEquals(searchOp.rateLimit.burst, Integer.valueOf(20));
+        Assert.assertTrue(searchOp.hasMaxConcurrency);
+        Assert.assertEquals(searchOp.maxConcurrency, Integer.valueOf(8));
+
+        final Operation status = model.getPaths().get("/status").getGet();
+        final CodegenOperation statusOp = codegen.fromOperation("/status", "get", status, model.getDefinitions(), model);
+        Assert.assertEquals(statusOp.rateLimit.requests, Integer.valueOf(100));
+        Assert.assertEquals(statusOp.rateLimit.period, Integer.valueOf(1));
+        Assert.assertEquals(statusOp.rateLimit.burst, Integer.valueOf(100));
+        Assert.assertFalse(statusOp.hasMaxConcurrency);
+        Assert.assertNull(statusOp.maxConcurrency);
+    }
+
+    @Test(description = "ignore invalid rate limits and maximum concurrencies")
+    public void invalidOverloadProtectionTest() {
+        final Swagger model = parseAndPrepareSwagger("src/test/resources/2_0/overload.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final Operation p = model.getPaths().get("/invalid").getGet();
+        final CodegenOperation op = codegen.fromOperation("/invalid", "get", p, model.getDefinitions(), model);
+
+        Assert.assertFalse(op.isRateLimited);
+        Assert.assertNull(op.rateLimit);
+        Assert.assertFalse(op.hasMaxConcurrency);
+        Assert.assertNull(op.maxConcurrency);
+    }
+
     private Swagger parseAndPrepareSwagger(String path) {
         Swagger swagger = new SwaggerParser().read(path);
         // resolve inline models
@@ -200,6 +200,26 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testImportPageIteratorOfPaginatedApisOnly() throws Exception {
+        final File output = folder.getRoot();
+        final File apiFolder = new File(output, "src/main/java/io/swagger/client/api");
+
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts())
+                .swagger(new SwaggerParser().read("src/test/resources/2_0/pagination.yaml")).config(codegenConfig)).generate();
+        assertTrue(FileUtils.readFileToString(new File(apiFolder, "DefaultApi.java"), StandardCharsets.UTF_8)
+                .contains("import io.swagger.client.PageIterator;"));
+
+        codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts())
+                .swagger(new SwaggerParser().read("src/test/resources/petstore.json")).config(codegenConfig)).generate();
+        assertFalse(FileUtils.readFileToString(new File(apiFolder, "PetApi.java"), StandardCharsets.UTF_8)
+                .contains("PageIterator"));
+    }
+
     private void changeContent(File file) throws IOException {
         Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), UTF_8));
         out.write(TEST_SKIP_OVERWRITE);
@@ -0,0 +1,115 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.examples.TestDataGenerator;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.RefModel;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.QueryParameter;
+import io.swagger.models.properties.IntegerProperty;
+import io.swagger.models.properties.StringProperty;
+
+import com.google.common.collect.ImmutableMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public class TestDataGeneratorTest {
+
+    @Test(description = "generate values of the enum")
+    public void enumTest() {
+        final QueryParameter parameter = new QueryParameter();
+        parameter.setName("status");
+        parameter.setType("string");
+        parameter.setEnum(Arrays.asList("available", "pending", "sold"));
+
+        final TestDataGenerator generator = new TestDataGenerator(null);
+        final Set<String> values = new HashSet<String>();
+        for (int i = 0; i < 50; i++) {
+            values.add(generator.generate(parameter));
+        }
+        Assert.assertEquals(values, new HashSet<String>(Arrays.asList("available", "pending", "sold")));
+    }
+
+    @Test(description = "generate numbers within the minimum and maximum")
+    public void rangeTest() {
+        final QueryParameter parameter = new QueryParameter();
+        parameter.setName("limit");
+        parameter.setType("integer");
+        parameter.setFormat("int32");
+        parameter.setMinimum(10.0);
+        parameter.setMaximum(20.0);
+        parameter.setExclusiveMaximum(true);
+
+        final TestDataGenerator generator = new TestDataGenerator(null);
+        for (int i = 0; i < 50; i++) {
+            final long value = Long.parseLong(generator.generate(parameter));
+            Assert.assertTrue(value >= 10 && value < 20, "out of range: " + value);
+        }
+    }
+
+    @Test(description = "generate numbers within bounds spanning the int64 range")
+    public void wideRangeTest() {
+        final QueryParameter parameter = new QueryParameter();
+        parameter.setName("id");
+        parameter.setType("integer");
+        parameter.setFormat("int64");
+        parameter.setMinimum(-1.0);
+        parameter.setMaximum((double) Long.MAX_VALUE);
+
+        final QueryParameter full = new QueryParameter();
+        full.setName("offset");
+        full.setType("integer");
+        full.setFormat("int64");
+        full.setMinimum((double) Long.MIN_VALUE);
+        full.setMaximum((double) Long.MAX_VALUE);
+
+        final TestDataGenerator generator = new TestDataGenerator(null);
+        final Set<Long> values = new HashSet<Long>();
+        for (int i = 0; i < 50; i++) {
+            final long value = Long.parseLong(generator.generate(parameter));
+            Assert.assertTrue(value >= -1, "out of range: " + value);
+            values.add(Long.parseLong(generator.generate(full)));
+        }
+        // spread over the range rather than stuck to a bound
+        Assert.assertTrue(values.size() > 1, "constant values: " + values);
+    }
+
+    @Test(description = "generate strings matching the pattern and lengths")
+    public void stringTest() {
+        final QueryParameter pattern = new QueryParameter();
+        pattern.setName("code");
+        pattern.setType("string");
+        pattern.setPattern("^[A-Z]{2}-\\d{3,5}(_(x|yz))?$");
+
+        final QueryParameter length = new QueryParameter();
+        length.setName("name");
+        length.setType("string");
+        length.setMinLength(3);
+        length.setMaxLength(5);
+
+        final TestDataGenerator generator = new TestDataGenerator(null);
+        for (int i = 0; i < 50; i++) {
+            final String code = generator.generate(pattern);
+            Assert.assertTrue(code.matches("^[A-Z]{2}-\\d{3,5}(_(x|yz))?$"), "no match: " + code);
+            final String name = generator.generate(length);
+            Assert.assertTrue(name.length() >= 3 && name.length() <= 5, "wrong length: " + name);
+        }
+    }
+
+    @Test(description = "generate JSON bodies of models")
+    public void bodyTest() {
+        final Model pet = new ModelImpl().name("Pet")
+                .property("id", new IntegerProperty())
+                .property("name", new StringProperty());
+        final BodyParameter parameter = new BodyParameter().schema(new RefModel("Pet"));
+        parameter.setName("body");
+
+        final TestDataGenerator generator = new TestDataGenerator(ImmutableMap.of("Pet", pet));
+        final String body = generator.generate(parameter);
+        Assert.assertTrue(body.matches("\\{\"(id|name)\":.+,\"(id|name)\":.+\\}"), "unexpected body: " + body);
+    }
+}
@@ -0,0 +1,84 @@
+package io.swagger.codegen.gatling;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.GatlingCodegen;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GatlingCodegenTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test(description = "give the operations shares of the load adding up to exactly 100 percent")
+    public void loadPercentTest() {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final GatlingCodegen codegen = new GatlingCodegen();
+        codegen.processOpts();
+        codegen.preprocessSwagger(swagger);
+
+        final List<CodegenOperation> ops = new ArrayList<CodegenOperation>();
+        ops.add(codegen.fromOperation("/pet/{petId}", "GET", swagger.getPaths().get("/pet/{petId}").getGet(),
+                swagger.getDefinitions(), swagger));
+        ops.add(codegen.fromOperation("/pet/findByStatus", "GET", swagger.getPaths().get("/pet/findByStatus").getGet(),
+                swagger.getDefinitions(), swagger));
+        ops.add(codegen.fromOperation("/pet/findByTags", "GET", swagger.getPaths().get("/pet/findByTags").getGet(),
+                swagger.getDefinitions(), swagger));
+        final Map<String, Object> operations = new HashMap<String, Object>();
+        operations.put("operation", ops);
+        final Map<String, Object> objs = new HashMap<String, Object>();
+        objs.put("operations", operations);
+
+        codegen.postProcessOperations(objs);
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (CodegenOperation op : ops) {
+            total = total.add(new BigDecimal((String) op.vendorExtensions.get("x-load-percent")));
+        }
+        Assert.assertEquals(ops.get(0).vendorExtensions.get("x-load-percent"), "33.33");
+        Assert.assertEquals(ops.get(2).vendorExtensions.get("x-load-percent"), "33.34");
+        Assert.assertEquals(total.compareTo(new BigDecimal(100)), 0);
+        Assert.assertNotNull(objs.get("feederHeader"));
+        Assert.assertNotNull(objs.get("feederLines"));
+    }
+
+    @Test(description = "assert the 95th percentile of the response times of the operations")
+    public void responseTimeAssertionTest() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final GatlingCodegen codegen = new GatlingCodegen();
+        codegen.setOutputDir(folder.getRoot().getAbsolutePath());
+
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegen)).generate();
+
+        final File simulation = FileUtils.listFiles(folder.getRoot(), new String[]{"scala"}, true).iterator().next();
+        final String content = FileUtils.readFileToString(simulation);
+        Assert.assertTrue(content.contains(".responseTime.percentile3.lessThan(1000)"), content);
+        Assert.assertFalse(content.contains("percentile1"));
+    }
+}
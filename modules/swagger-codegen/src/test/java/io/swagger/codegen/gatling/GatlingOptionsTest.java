@@ -0,0 +1,34 @@
+package io.swagger.codegen.gatling;
+
+import io.swagger.codegen.AbstractOptionsTest;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.languages.GatlingCodegen;
+import io.swagger.codegen.options.GatlingOptionsProvider;
+
+import mockit.Expectations;
+import mockit.Tested;
+
+public class GatlingOptionsTest extends AbstractOptionsTest {
+
+    @Tested
+    private GatlingCodegen clientCodegen;
+
+    public GatlingOptionsTest() {
+        super(new GatlingOptionsProvider());
+    }
+
+    @Override
+    protected CodegenConfig getCodegenConfig() {
+        return clientCodegen;
+    }
+
+    @Override
+    protected void setExpectations() {
+        new Expectations(clientCodegen) {{
+            clientCodegen.setApiPackage(GatlingOptionsProvider.API_PACKAGE_VALUE);
+            times = 1;
+            clientCodegen.setSortParamsByRequiredFlag(Boolean.valueOf(GatlingOptionsProvider.SORT_PARAMS_VALUE));
+            times = 1;
+        }};
+    }
+}
@@ -50,6 +50,8 @@ public class JavaInflectorServerOptionsTest extends JavaClientOptionsTest {
             times = 1;
             clientCodegen.setSerializeBigDecimalAsString(true);
             times = 1;
+            clientCodegen.setRequestValidators(Boolean.valueOf(JavaInflectorServerOptionsProvider.REQUEST_VALIDATORS_VALUE));
+            times = 1;
         }};
     }
 }
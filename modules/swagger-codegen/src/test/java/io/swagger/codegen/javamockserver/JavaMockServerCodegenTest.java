@@ -0,0 +1,52 @@
+package io.swagger.codegen.javamockserver;
+
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.languages.JavaMockServerCodegen;
+import io.swagger.models.Operation;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class JavaMockServerCodegenTest {
+
+    @Test(description = "precompute the mocked response of an operation")
+    public void mockedResponseTest() {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final JavaMockServerCodegen codegen = new JavaMockServerCodegen();
+        codegen.preprocessSwagger(swagger);
+
+        final String path = "/pet/{petId}";
+        final Operation operation = swagger.getPaths().get(path).getGet();
+        final CodegenOperation op = codegen.fromOperation(path, "GET", operation, swagger.getDefinitions(), swagger);
+
+        Assert.assertEquals(op.vendorExtensions.get("x-mock-path"), "/v2/pet/{petId}");
+        Assert.assertEquals(op.vendorExtensions.get("x-mock-status"), "200");
+        Assert.assertEquals(op.vendorExtensions.get("x-mock-content-type"), "application/json");
+
+        @SuppressWarnings("unchecked")
+        final List<String> body = (List<String>) op.vendorExtensions.get("x-mock-body");
+        Assert.assertEquals(body.size(), 1);
+        // compact JSON, escaped for a Java string literal
+        Assert.assertTrue(body.get(0).startsWith("{\\\""), body.get(0));
+        Assert.assertFalse(body.get(0).contains("\n"));
+        Assert.assertTrue(body.get(0).contains("\\\"name\\\":\\\"doggie\\\""), body.get(0));
+    }
+
+    @Test(description = "respond without body to operations without response schema")
+    public void emptyResponseTest() {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final JavaMockServerCodegen codegen = new JavaMockServerCodegen();
+        codegen.preprocessSwagger(swagger);
+
+        final String path = "/pet/{petId}";
+        final Operation operation = swagger.getPaths().get(path).getDelete();
+        final CodegenOperation op = codegen.fromOperation(path, "DELETE", operation, swagger.getDefinitions(), swagger);
+
+        Assert.assertNull(op.vendorExtensions.get("x-mock-content-type"));
+        Assert.assertTrue(((List<?>) op.vendorExtensions.get("x-mock-body")).isEmpty());
+    }
+}
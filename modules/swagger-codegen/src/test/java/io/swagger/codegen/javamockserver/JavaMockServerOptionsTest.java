@@ -0,0 +1,34 @@
+package io.swagger.codegen.javamockserver;
+
+import io.swagger.codegen.AbstractOptionsTest;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.languages.JavaMockServerCodegen;
+import io.swagger.codegen.options.JavaMockServerOptionsProvider;
+
+import mockit.Expectations;
+import mockit.Tested;
+
+public class JavaMockServerOptionsTest extends AbstractOptionsTest {
+
+    @Tested
+    private JavaMockServerCodegen serverCodegen;
+
+    public JavaMockServerOptionsTest() {
+        super(new JavaMockServerOptionsProvider());
+    }
+
+    @Override
+    protected CodegenConfig getCodegenConfig() {
+        return serverCodegen;
+    }
+
+    @Override
+    protected void setExpectations() {
+        new Expectations(serverCodegen) {{
+            serverCodegen.setApiPackage(JavaMockServerOptionsProvider.API_PACKAGE_VALUE);
+            times = 1;
+            serverCodegen.setSortParamsByRequiredFlag(Boolean.valueOf(JavaMockServerOptionsProvider.SORT_PARAMS_VALUE));
+            times = 1;
+        }};
+    }
+}
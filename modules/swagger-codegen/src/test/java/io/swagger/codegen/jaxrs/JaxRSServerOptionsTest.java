@@ -51,6 +51,8 @@ public class JaxRSServerOptionsTest extends JavaClientOptionsTest {
             times = 1;
             clientCodegen.setDateLibrary("joda");
             times = 1;
+            clientCodegen.setRequestValidators(Boolean.valueOf(JaxRSServerOptionsProvider.REQUEST_VALIDATORS_VALUE));
+            times = 1;
         }};
     }
 }
@@ -0,0 +1,27 @@
+package io.swagger.codegen.jaxrs;
+
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.JaxRSServerCodegen;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static org.testng.Assert.assertEquals;
+
+public class JaxrsJersey2Test {
+    @Test(description = "use the asynchronous jersey2 templates, falling back to the jersey1 ones")
+    public void templatesTest() {
+        final JaxRSServerCodegen codegen = new JaxRSServerCodegen();
+        codegen.setLibrary("jersey2");
+        codegen.processOpts();
+        final DefaultGenerator generator = new DefaultGenerator();
+
+        final String jersey1 = "JavaJaxRS" + File.separator + "jersey1_18" + File.separator;
+        final String jersey2 = jersey1 + "libraries" + File.separator + "jersey2" + File.separator;
+        assertEquals(generator.getFullTemplateFile(codegen, "api.mustache"), jersey2 + "api.mustache");
+        assertEquals(generator.getFullTemplateFile(codegen, "apiService.mustache"), jersey2 + "apiService.mustache");
+        assertEquals(generator.getFullTemplateFile(codegen, "web.mustache"), jersey2 + "web.mustache");
+        assertEquals(generator.getFullTemplateFile(codegen, "queryParams.mustache"), jersey1 + "queryParams.mustache");
+        assertEquals(codegen.additionalProperties().get("javaVersion"), "1.8");
+    }
+}
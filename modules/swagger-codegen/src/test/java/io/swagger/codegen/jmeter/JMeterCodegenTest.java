@@ -0,0 +1,35 @@
+package io.swagger.codegen.jmeter;
+
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.languages.JMeterCodegen;
+import io.swagger.models.Operation;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class JMeterCodegenTest {
+
+    @Test(description = "add the load test settings to a copy of the vendor extensions of the operation")
+    public void vendorExtensionsTest() {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final String path = "/pet";
+        final Operation operation = swagger.getPaths().get(path).getPost();
+        operation.setVendorExtension("x-load-weight", 3);
+        final JMeterCodegen codegen = new JMeterCodegen();
+        codegen.processOpts();
+
+        final CodegenOperation op = codegen.fromOperation(path, "POST", operation, swagger.getDefinitions(), swagger);
+
+        Assert.assertEquals(op.vendorExtensions.get("x-load-weight"), 3.0);
+        Assert.assertNotNull(op.vendorExtensions.get("x-expected-status"));
+        Assert.assertNotNull(op.vendorExtensions.get("x-content-type"));
+        Assert.assertNotNull(op.vendorExtensions.get("x-test-data"));
+        // the swagger operation is left untouched
+        Assert.assertEquals(operation.getVendorExtensions().get("x-load-weight"), 3);
+        Assert.assertNull(operation.getVendorExtensions().get("x-expected-status"));
+        Assert.assertNull(operation.getVendorExtensions().get("x-content-type"));
+        Assert.assertNull(operation.getVendorExtensions().get("x-test-data"));
+    }
+}
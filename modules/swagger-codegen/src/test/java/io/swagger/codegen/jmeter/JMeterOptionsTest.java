@@ -0,0 +1,32 @@
+package io.swagger.codegen.jmeter;
+
+import io.swagger.codegen.AbstractOptionsTest;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.languages.JMeterCodegen;
+import io.swagger.codegen.options.JMeterOptionsProvider;
+
+import mockit.Expectations;
+import mockit.Tested;
+
+public class JMeterOptionsTest extends AbstractOptionsTest {
+
+    @Tested
+    private JMeterCodegen clientCodegen;
+
+    public JMeterOptionsTest() {
+        super(new JMeterOptionsProvider());
+    }
+
+    @Override
+    protected CodegenConfig getCodegenConfig() {
+        return clientCodegen;
+    }
+
+    @Override
+    protected void setExpectations() {
+        new Expectations(clientCodegen) {{
+            clientCodegen.setSortParamsByRequiredFlag(Boolean.valueOf(JMeterOptionsProvider.SORT_PARAMS_VALUE));
+            times = 1;
+        }};
+    }
+}
@@ -0,0 +1,105 @@
+package io.swagger.codegen.languages;
+
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.CodegenParameter;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JavaRequestValidationsTest {
+
+    private static CodegenParameter param(String name, String dataType) {
+        CodegenParameter param = new CodegenParameter();
+        param.baseName = name;
+        param.paramName = name;
+        param.dataType = dataType;
+        return param;
+    }
+
+    private static CodegenOperation operation(CodegenParameter... params) {
+        CodegenOperation op = new CodegenOperation();
+        op.nickname = "findPets";
+        op.vendorExtensions = new HashMap<String, Object>();
+        op.allParams.addAll(Arrays.asList(params));
+        return op;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> validations(CodegenOperation op) {
+        return (List<Map<String, Object>>) op.vendorExtensions.get("x-validations");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldCheckStrings() throws Exception {
+        CodegenParameter name = param("name", "String");
+        name.required = true;
+        name.maxLength = 10;
+        name.pattern = "^[a-z]+$";
+        CodegenParameter status = param("status", "String");
+        status.isEnum = true;
+        status._enum = Arrays.asList("available", "sold");
+        CodegenOperation op = operation(name, status);
+
+        JavaRequestValidations.addValidations(op);
+
+        Assert.assertEquals(op.vendorExtensions.get("x-has-validations"), Boolean.TRUE);
+        List<Map<String, Object>> validations = validations(op);
+        Assert.assertEquals(validations.size(), 2);
+        Assert.assertEquals(validations.get(0).get("hasMore"), Boolean.TRUE);
+        Assert.assertEquals(validations.get(1).get("hasMore"), Boolean.FALSE);
+
+        List<String> checks = (List<String>) validations.get(0).get("checks");
+        Assert.assertEquals(checks.size(), 3);
+        Assert.assertTrue(checks.get(0).contains("if (name == null)"), checks.get(0));
+        Assert.assertTrue(checks.get(1).contains("name.length() > 10"), checks.get(1));
+        Assert.assertTrue(checks.get(2).contains("!FIND_PETS_NAME_PATTERN.matcher(name).find()"), checks.get(2));
+        List<Map<String, String>> patterns = (List<Map<String, String>>) validations.get(0).get("patterns");
+        Assert.assertEquals(patterns.get(0).get("constant"), "FIND_PETS_NAME_PATTERN");
+        Assert.assertEquals(patterns.get(0).get("pattern"), "^[a-z]+$");
+
+        String check = ((List<String>) validations.get(1).get("checks")).get(0);
+        Assert.assertTrue(check.contains("switch (status)"), check);
+        Assert.assertTrue(check.contains("case \"available\":"), check);
+        Assert.assertTrue(check.contains("case \"sold\":"), check);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldCheckNumbers() throws Exception {
+        CodegenParameter limit = param("limit", "Integer");
+        limit.minimum = 1.0;
+        limit.maximum = 100.0;
+        limit.exclusiveMaximum = true;
+        CodegenParameter ratio = param("ratio", "Double");
+        ratio.minimum = 0.5;
+        CodegenOperation op = operation(limit, ratio);
+
+        JavaRequestValidations.addValidations(op);
+
+        List<String> checks = (List<String>) validations(op).get(0).get("checks");
+        Assert.assertTrue(checks.get(0).contains("limit != null && limit < 1L"), checks.get(0));
+        Assert.assertTrue(checks.get(0).contains("'limit' must be at least 1\""), checks.get(0));
+        Assert.assertTrue(checks.get(1).contains("limit != null && limit >= 100L"), checks.get(1));
+        checks = (List<String>) validations(op).get(1).get("checks");
+        Assert.assertTrue(checks.get(0).contains("ratio < 0.5"), checks.get(0));
+    }
+
+    @Test
+    public void shouldSkipUnconstrainedOperations() throws Exception {
+        CodegenParameter file = param("file", "File");
+        file.isFile = true;
+        file.required = true;
+        CodegenOperation op = operation(param("name", "String"), file);
+
+        JavaRequestValidations.addValidations(op);
+
+        Assert.assertNull(op.vendorExtensions.get("x-has-validations"));
+        Assert.assertNull(op.vendorExtensions.get("x-validations"));
+    }
+}
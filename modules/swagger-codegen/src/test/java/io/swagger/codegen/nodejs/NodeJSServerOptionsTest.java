@@ -27,6 +27,10 @@ public class NodeJSServerOptionsTest extends AbstractOptionsTest {
         new Expectations(clientCodegen) {{
             clientCodegen.setSortParamsByRequiredFlag(Boolean.valueOf(NodeJSServerOptionsProvider.SORT_PARAMS_VALUE));
             times = 1;
+            clientCodegen.setCluster(Boolean.valueOf(NodeJSServerOptionsProvider.CLUSTER_VALUE));
+            times = 1;
+            clientCodegen.setCompression(Boolean.valueOf(NodeJSServerOptionsProvider.COMPRESSION_VALUE));
+            times = 1;
         }};
     }
 }
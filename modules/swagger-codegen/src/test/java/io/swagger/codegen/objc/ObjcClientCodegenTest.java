@@ -0,0 +1,77 @@
+package io.swagger.codegen.objc;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.ObjcClientCodegen;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class ObjcClientCodegenTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    private File generate(Swagger swagger, boolean lazyModels) throws Exception {
+        final ObjcClientCodegen codegen = new ObjcClientCodegen();
+        codegen.setOutputDir(folder.getRoot().getAbsolutePath());
+        codegen.additionalProperties().put(ObjcClientCodegen.LAZY_MODELS, lazyModels);
+
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegen)).generate();
+
+        return new File(folder.getRoot(), "SwaggerClient");
+    }
+
+    @Test(description = "generate lazy models materialized before their properties are read or set")
+    public void lazyModelsTest() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final File sources = generate(swagger, true);
+
+        final String pet = FileUtils.readFileToString(new File(sources, "SWGPet.m"));
+        assertTrue(pet.contains("@synthesize name = _name;"));
+        assertTrue(pet.contains("- (NSString*) name {\n    [self materialize];\n    return _name;\n}"));
+        assertTrue(pet.contains("- (void) setName:(NSString*) name {\n"));
+        assertTrue(pet.contains("    [self materialize];\n    _name = name;\n}"));
+        assertTrue(pet.contains("- (void) set_id:(NSNumber*) _id {\n"));
+        assertTrue(pet.contains("arrayByAddingObjectsFromArray:@[@\"name\", @\"photoUrls\", ]]"));
+
+        final String object = FileUtils.readFileToString(new File(sources, "SWGObject.m"));
+        assertTrue(object.contains("for (NSString *key in [[self class] requiredKeys]) {"));
+        assertTrue(object.contains("*err = [JSONModelError errorInvalidDataWithMissingKeys:missingKeys];"));
+        assertTrue(object.contains("- (void) materialize {"));
+
+        // the swagger properties are left untouched
+        assertNull(swagger.getDefinitions().get("Pet").getProperties().get("name").getVendorExtensions().get("x-objc-setter"));
+    }
+
+    @Test(description = "generate plain models without the lazyModels option")
+    public void eagerModelsTest() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final File sources = generate(swagger, false);
+
+        final String pet = FileUtils.readFileToString(new File(sources, "SWGPet.m"));
+        assertFalse(pet.contains("materialize"));
+        assertFalse(pet.contains("requiredKeys"));
+        assertFalse(FileUtils.readFileToString(new File(sources, "SWGObject.m")).contains("materialize"));
+    }
+}
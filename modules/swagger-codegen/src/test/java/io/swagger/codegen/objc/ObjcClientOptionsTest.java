@@ -39,6 +39,8 @@ public class ObjcClientOptionsTest extends AbstractOptionsTest {
             times = 1;
             clientCodegen.setLicense(ObjcClientOptionsProvider.LICENSE_VALUE);
             times = 1;
+            clientCodegen.setLazyModels(Boolean.valueOf(ObjcClientOptionsProvider.LAZY_MODELS_VALUE));
+            times = 1;
         }};
     }
 }
@@ -0,0 +1,43 @@
+package io.swagger.codegen.options;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.languages.GatlingCodegen;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+public class GatlingOptionsProvider implements OptionsProvider {
+    public static final String API_PACKAGE_VALUE = "io.swagger.simulations.test";
+    public static final String SORT_PARAMS_VALUE = "false";
+    public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
+    public static final String USERS_PER_SEC_VALUE = "25";
+    public static final String RAMP_UP_VALUE = "5";
+    public static final String DURATION_VALUE = "300";
+    public static final String MAX_RESPONSE_TIME_VALUE = "500";
+    public static final String FEEDER_ROWS_VALUE = "1000";
+
+    @Override
+    public String getLanguage() {
+        return "gatling";
+    }
+
+    @Override
+    public Map<String, String> createOptions() {
+        ImmutableMap.Builder<String, String> builder = new ImmutableMap.Builder<String, String>();
+        return builder.put(CodegenConstants.API_PACKAGE, API_PACKAGE_VALUE)
+                .put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
+                .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
+                .put(GatlingCodegen.USERS_PER_SEC, USERS_PER_SEC_VALUE)
+                .put(GatlingCodegen.RAMP_UP, RAMP_UP_VALUE)
+                .put(GatlingCodegen.DURATION, DURATION_VALUE)
+                .put(GatlingCodegen.MAX_RESPONSE_TIME, MAX_RESPONSE_TIME_VALUE)
+                .put(GatlingCodegen.FEEDER_ROWS, FEEDER_ROWS_VALUE)
+                .build();
+    }
+
+    @Override
+    public boolean isServer() {
+        return false;
+    }
+}
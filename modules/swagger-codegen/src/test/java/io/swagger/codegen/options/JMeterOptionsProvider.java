@@ -0,0 +1,43 @@
+package io.swagger.codegen.options;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.languages.JMeterCodegen;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+public class JMeterOptionsProvider implements OptionsProvider {
+    public static final String SORT_PARAMS_VALUE = "false";
+    public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
+    public static final String THREADS_VALUE = "20";
+    public static final String RAMP_UP_VALUE = "5";
+    public static final String DURATION_VALUE = "300";
+    public static final String TARGET_RPS_VALUE = "50";
+    public static final String MAX_RESPONSE_TIME_VALUE = "500";
+    public static final String TEST_DATA_ROWS_VALUE = "100";
+
+    @Override
+    public String getLanguage() {
+        return "jmeter";
+    }
+
+    @Override
+    public Map<String, String> createOptions() {
+        ImmutableMap.Builder<String, String> builder = new ImmutableMap.Builder<String, String>();
+        return builder.put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
+                .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
+                .put(JMeterCodegen.THREADS, THREADS_VALUE)
+                .put(JMeterCodegen.RAMP_UP, RAMP_UP_VALUE)
+                .put(JMeterCodegen.DURATION, DURATION_VALUE)
+                .put(JMeterCodegen.TARGET_RPS, TARGET_RPS_VALUE)
+                .put(JMeterCodegen.MAX_RESPONSE_TIME, MAX_RESPONSE_TIME_VALUE)
+                .put(JMeterCodegen.TEST_DATA_ROWS, TEST_DATA_ROWS_VALUE)
+                .build();
+    }
+
+    @Override
+    public boolean isServer() {
+        return false;
+    }
+}
@@ -1,11 +1,25 @@
 package io.swagger.codegen.options;
 
+import io.swagger.codegen.CodegenConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
 public class JavaInflectorServerOptionsProvider extends JavaOptionsProvider {
+    public static final String REQUEST_VALIDATORS_VALUE = "true";
+
     @Override
     public String getLanguage() {
         return "inflector";
     }
 
+    @Override
+    public Map<String, String> createOptions() {
+        Map<String, String> options = new HashMap<String, String>(super.createOptions());
+        options.put(CodegenConstants.REQUEST_VALIDATORS, REQUEST_VALIDATORS_VALUE);
+        return options;
+    }
+
     @Override
     public boolean isServer() {
         return true;
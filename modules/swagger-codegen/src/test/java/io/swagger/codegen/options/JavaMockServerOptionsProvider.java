@@ -0,0 +1,51 @@
+package io.swagger.codegen.options;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.languages.JavaMockServerCodegen;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+public class JavaMockServerOptionsProvider implements OptionsProvider {
+    public static final String INVOKER_PACKAGE_VALUE = "io.swagger.mock.test";
+    public static final String API_PACKAGE_VALUE = "io.swagger.mock.test.api";
+    public static final String GROUP_ID_VALUE = "io.swagger.test";
+    public static final String ARTIFACT_ID_VALUE = "swagger-mock-server-test";
+    public static final String ARTIFACT_VERSION_VALUE = "1.0.0-SNAPSHOT";
+    public static final String SORT_PARAMS_VALUE = "false";
+    public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
+    public static final String SERVER_PORT_VALUE = "9090";
+    public static final String MOCK_LATENCY_VALUE = "20";
+    public static final String MOCK_LATENCY_JITTER_VALUE = "5";
+    public static final String MOCK_ERROR_RATE_VALUE = "0.01";
+    public static final String MOCK_ERROR_STATUS_VALUE = "503";
+
+    @Override
+    public String getLanguage() {
+        return "java-mock-server";
+    }
+
+    @Override
+    public Map<String, String> createOptions() {
+        ImmutableMap.Builder<String, String> builder = new ImmutableMap.Builder<String, String>();
+        return builder.put(CodegenConstants.INVOKER_PACKAGE, INVOKER_PACKAGE_VALUE)
+                .put(CodegenConstants.API_PACKAGE, API_PACKAGE_VALUE)
+                .put(CodegenConstants.GROUP_ID, GROUP_ID_VALUE)
+                .put(CodegenConstants.ARTIFACT_ID, ARTIFACT_ID_VALUE)
+                .put(CodegenConstants.ARTIFACT_VERSION, ARTIFACT_VERSION_VALUE)
+                .put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
+                .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
+                .put(JavaMockServerCodegen.SERVER_PORT, SERVER_PORT_VALUE)
+                .put(JavaMockServerCodegen.MOCK_LATENCY, MOCK_LATENCY_VALUE)
+                .put(JavaMockServerCodegen.MOCK_LATENCY_JITTER, MOCK_LATENCY_JITTER_VALUE)
+                .put(JavaMockServerCodegen.MOCK_ERROR_RATE, MOCK_ERROR_RATE_VALUE)
+                .put(JavaMockServerCodegen.MOCK_ERROR_STATUS, MOCK_ERROR_STATUS_VALUE)
+                .build();
+    }
+
+    @Override
+    public boolean isServer() {
+        return true;
+    }
+}
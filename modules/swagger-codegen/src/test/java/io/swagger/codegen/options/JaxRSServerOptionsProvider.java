@@ -9,6 +9,7 @@ import java.util.Map;
 public class JaxRSServerOptionsProvider extends JavaOptionsProvider {
     public static final String JODA_DATE_LIBRARY = "joda";
     public static final String IMPL_FOLDER_VALUE = "src/main/java/impl";	
+    public static final String REQUEST_VALIDATORS_VALUE = "true";
 
     @Override
     public boolean isServer() {
@@ -27,7 +28,8 @@ public class JaxRSServerOptionsProvider extends JavaOptionsProvider {
         ImmutableMap.Builder<String, String> builder = new ImmutableMap.Builder<String, String>();
         builder.putAll(options)
                 .put(CodegenConstants.IMPL_FOLDER, IMPL_FOLDER_VALUE)
-                .put(JaxRSServerCodegen.DATE_LIBRARY, "joda");
+                .put(JaxRSServerCodegen.DATE_LIBRARY, "joda")
+                .put(CodegenConstants.REQUEST_VALIDATORS, REQUEST_VALIDATORS_VALUE);
 
         return builder.build();
     }
@@ -1,6 +1,7 @@
 package io.swagger.codegen.options;
 
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.languages.NodeJSServerCodegen;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -9,6 +10,10 @@ import java.util.Map;
 public class NodeJSServerOptionsProvider implements OptionsProvider {
     public static final String SORT_PARAMS_VALUE = "false";
     public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
+    public static final String CLUSTER_VALUE = "true";
+    public static final String KEEP_ALIVE_TIMEOUT_VALUE = "65000";
+    public static final String HEADERS_TIMEOUT_VALUE = "66000";
+    public static final String COMPRESSION_VALUE = "true";
 
     @Override
     public String getLanguage() {
@@ -20,6 +25,10 @@ public class NodeJSServerOptionsProvider implements OptionsProvider {
         ImmutableMap.Builder<String, String> builder = new ImmutableMap.Builder<String, String>();
         return builder.put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
                 .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
+                .put(NodeJSServerCodegen.CLUSTER, CLUSTER_VALUE)
+                .put(NodeJSServerCodegen.KEEP_ALIVE_TIMEOUT, KEEP_ALIVE_TIMEOUT_VALUE)
+                .put(NodeJSServerCodegen.HEADERS_TIMEOUT, HEADERS_TIMEOUT_VALUE)
+                .put(NodeJSServerCodegen.COMPRESSION, COMPRESSION_VALUE)
                 .build();
     }
 
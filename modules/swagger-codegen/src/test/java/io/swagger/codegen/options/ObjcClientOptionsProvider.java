@@ -15,6 +15,7 @@ public class ObjcClientOptionsProvider implements OptionsProvider {
     public static final String AUTHOR_EMAIL_VALUE = "objc@swagger.io";
     public static final String GIT_REPO_URL_VALUE = "https://github.com/swagger-api/swagger-codegen";
     public static final String LICENSE_VALUE = "MIT";
+    public static final String LAZY_MODELS_VALUE = "false";
 
     @Override
     public String getLanguage() {
@@ -31,6 +32,7 @@ public class ObjcClientOptionsProvider implements OptionsProvider {
                 .put(ObjcClientCodegen.AUTHOR_EMAIL, AUTHOR_EMAIL_VALUE)
                 .put(ObjcClientCodegen.GIT_REPO_URL, GIT_REPO_URL_VALUE)
                 .put(ObjcClientCodegen.LICENSE, LICENSE_VALUE)
+                .put(ObjcClientCodegen.LAZY_MODELS, LAZY_MODELS_VALUE)
                 .build();
     }
 
@@ -1,6 +1,7 @@
 package io.swagger.codegen.options;
 
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.languages.ScalatraServerCodegen;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -11,6 +12,7 @@ public class ScalatraServerOptionsProvider implements OptionsProvider {
     public static final String API_PACKAGE_VALUE = "apiPackage";
     public static final String SORT_PARAMS_VALUE = "false";
     public static final String ENSURE_UNIQUE_PARAMS_VALUE = "true";
+    public static final String ASYNC_VALUE = "true";
 
     @Override
     public String getLanguage() {
@@ -24,6 +26,7 @@ public class ScalatraServerOptionsProvider implements OptionsProvider {
                 .put(CodegenConstants.API_PACKAGE, API_PACKAGE_VALUE)
                 .put(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG, SORT_PARAMS_VALUE)
                 .put(CodegenConstants.ENSURE_UNIQUE_PARAMS, ENSURE_UNIQUE_PARAMS_VALUE)
+                .put(ScalatraServerCodegen.ASYNC, ASYNC_VALUE)
                 .build();
     }
 
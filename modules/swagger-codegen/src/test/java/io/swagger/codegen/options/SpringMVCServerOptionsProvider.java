@@ -9,6 +9,8 @@ import java.util.Map;
 public class SpringMVCServerOptionsProvider extends JavaOptionsProvider {
     public static final String CONFIG_PACKAGE_VALUE = "configPackage";
     public static final String LIBRARY_VALUE = "j8-async";
+    public static final String STREAMING_RESPONSES_VALUE = "true";
+    public static final String REQUEST_VALIDATORS_VALUE = "true";
 
     @Override
     public String getLanguage() {
@@ -20,6 +22,8 @@ public class SpringMVCServerOptionsProvider extends JavaOptionsProvider {
         Map<String, String> options = new HashMap<String, String>(super.createOptions());
         options.put(SpringMVCServerCodegen.CONFIG_PACKAGE, CONFIG_PACKAGE_VALUE);
         options.put(CodegenConstants.LIBRARY, LIBRARY_VALUE);
+        options.put(SpringMVCServerCodegen.STREAMING_RESPONSES, STREAMING_RESPONSES_VALUE);
+        options.put(CodegenConstants.REQUEST_VALIDATORS, REQUEST_VALIDATORS_VALUE);
         return options;
     }
 
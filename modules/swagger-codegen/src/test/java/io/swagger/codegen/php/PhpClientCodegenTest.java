@@ -0,0 +1,53 @@
+package io.swagger.codegen.php;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.PhpClientCodegen;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static org.testng.Assert.assertTrue;
+
+public class PhpClientCodegenTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test(description = "generate the gzip compression settings of the configuration and the api client")
+    public void gzipTest() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final PhpClientCodegen codegen = new PhpClientCodegen();
+        codegen.setOutputDir(folder.getRoot().getAbsolutePath());
+
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegen)).generate();
+
+        final File lib = new File(folder.getRoot(), "SwaggerClient-php" + File.separator + "lib");
+        final String configuration = FileUtils.readFileToString(new File(lib, "Configuration.php"));
+        assertTrue(configuration.contains("protected $acceptGzip = true;"));
+        assertTrue(configuration.contains("protected $gzipRequestThreshold = null;"));
+        assertTrue(configuration.contains("public function setGzipRequestThreshold($gzipRequestThreshold)"));
+
+        final String apiClient = FileUtils.readFileToString(new File(lib, "ApiClient.php"));
+        assertTrue(apiClient.contains("curl_setopt($curl, CURLOPT_ENCODING, 'gzip');"));
+        assertTrue(apiClient.contains("$threshold = $this->config->getGzipRequestThreshold();"));
+        assertTrue(apiClient.contains("$postData = gzencode($postData);"));
+        assertTrue(apiClient.contains("$headers[] = 'Content-Encoding: gzip';"));
+    }
+}
@@ -0,0 +1,48 @@
+package io.swagger.codegen.scalatra;
+
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.languages.ScalatraServerCodegen;
+import io.swagger.models.Operation;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ScalatraServerCodegenTest {
+
+    @Test(description = "read the parameters of asynchronous routes in the request thread")
+    public void asyncParamsTest() {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final ScalatraServerCodegen codegen = new ScalatraServerCodegen();
+        codegen.setAsync(true);
+
+        final CodegenOperation getPet = fromOperation(codegen, swagger, "/pet/{petId}");
+        Assert.assertEquals(getPet.vendorExtensions.get("x-scalatra-path"), "/pet/:petId");
+        Assert.assertEquals(getPet.allParams.get(0).vendorExtensions.get("x-scalatra-type"), "Long");
+        Assert.assertEquals(getPet.allParams.get(0).vendorExtensions.get("x-scalatra-value"),
+                "params.getAs[Long](\"petId\").getOrElse(halt(400, \"Missing or invalid parameter petId\"))");
+
+        final CodegenOperation findByStatus = fromOperation(codegen, swagger, "/pet/findByStatus");
+        Assert.assertEquals(findByStatus.allParams.get(0).vendorExtensions.get("x-scalatra-type"), "List[String]");
+        Assert.assertEquals(findByStatus.allParams.get(0).vendorExtensions.get("x-scalatra-value"),
+                "multiParams(\"status\").flatMap(_.split(\",\")).toList");
+        Assert.assertNull(swagger.getPaths().get("/pet/findByStatus").getGet().getVendorExtensions().get("x-scalatra-path"));
+    }
+
+    private static CodegenOperation fromOperation(ScalatraServerCodegen codegen, Swagger swagger, String path) {
+        final Operation operation = swagger.getPaths().get(path).getGet();
+        final CodegenOperation op = codegen.fromOperation(path, "GET", operation, swagger.getDefinitions(), swagger);
+
+        final Map<String, Object> operations = new HashMap<String, Object>();
+        operations.put("operation", Arrays.asList(op));
+        final Map<String, Object> objs = new HashMap<String, Object>();
+        objs.put("operations", operations);
+        codegen.postProcessOperations(objs);
+        return op;
+    }
+}
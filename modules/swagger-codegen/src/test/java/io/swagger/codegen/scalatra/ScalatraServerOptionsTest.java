@@ -31,6 +31,8 @@ public class ScalatraServerOptionsTest extends AbstractOptionsTest {
             times = 1;
             clientCodegen.setSortParamsByRequiredFlag(Boolean.valueOf(ScalatraServerOptionsProvider.SORT_PARAMS_VALUE));
             times = 1;
+            clientCodegen.setAsync(Boolean.valueOf(ScalatraServerOptionsProvider.ASYNC_VALUE));
+            times = 1;
         }};
     }
 }
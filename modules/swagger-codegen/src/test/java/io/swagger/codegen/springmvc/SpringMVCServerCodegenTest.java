@@ -0,0 +1,131 @@
+package io.swagger.codegen.springmvc;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenOperation;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.SpringMVCServerCodegen;
+import io.swagger.models.Operation;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SpringMVCServerCodegenTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    private static Map<String, Object> process(SpringMVCServerCodegen codegen, CodegenOperation op) {
+        final Map<String, Object> operations = new HashMap<String, Object>();
+        operations.put("operation", Arrays.asList(op));
+        final Map<String, Object> objs = new HashMap<String, Object>();
+        objs.put("operations", operations);
+        return codegen.postProcessOperations(objs);
+    }
+
+    private static CodegenOperation findPetsByStatus(SpringMVCServerCodegen codegen, Swagger swagger) {
+        final String path = "/pet/findByStatus";
+        final Operation operation = swagger.getPaths().get(path).getGet();
+        return codegen.fromOperation(path, "GET", operation, swagger.getDefinitions(), swagger);
+    }
+
+    @Test(description = "stream the array responses when enabled")
+    public void streamingTest() {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final SpringMVCServerCodegen codegen = new SpringMVCServerCodegen();
+        codegen.setStreamingResponses(true);
+        codegen.processOpts();
+
+        final CodegenOperation op = findPetsByStatus(codegen, swagger);
+        final Map<String, Object> objs = process(codegen, op);
+
+        Assert.assertEquals(op.vendorExtensions.get("x-streaming"), Boolean.TRUE);
+        Assert.assertEquals(objs.get("hasStreaming"), Boolean.TRUE);
+        Assert.assertEquals(codegen.additionalProperties().get("hasStreamingResponses"), Boolean.TRUE);
+        // the swagger operation is left untouched
+        Assert.assertNull(swagger.getPaths().get("/pet/findByStatus").getGet().getVendorExtensions().get("x-streaming"));
+    }
+
+    @Test(description = "don't stream the responses which aren't arrays")
+    public void singleObjectTest() {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final SpringMVCServerCodegen codegen = new SpringMVCServerCodegen();
+        codegen.setStreamingResponses(true);
+        codegen.processOpts();
+
+        final String path = "/pet/{petId}";
+        final Operation operation = swagger.getPaths().get(path).getGet();
+        final CodegenOperation op = codegen.fromOperation(path, "GET", operation, swagger.getDefinitions(), swagger);
+        final Map<String, Object> objs = process(codegen, op);
+
+        Assert.assertNull(op.vendorExtensions.get("x-streaming"));
+        Assert.assertNull(objs.get("hasStreaming"));
+    }
+
+    @Test(description = "enable streaming per operation with the x-streaming vendor extension")
+    public void vendorExtensionTest() {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        swagger.getPaths().get("/pet/findByStatus").getGet().setVendorExtension("x-streaming", true);
+        final SpringMVCServerCodegen codegen = new SpringMVCServerCodegen();
+        codegen.processOpts();
+
+        final CodegenOperation op = findPetsByStatus(codegen, swagger);
+        process(codegen, op);
+
+        Assert.assertEquals(op.vendorExtensions.get("x-streaming"), Boolean.TRUE);
+    }
+
+    @Test(description = "stream the responses with the object mapper of the Jackson message converter")
+    public void streamingObjectMapperTest() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final SpringMVCServerCodegen codegen = new SpringMVCServerCodegen();
+        codegen.setStreamingResponses(true);
+        codegen.setOutputDir(folder.getRoot().getAbsolutePath());
+
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegen)).generate();
+
+        final File sources = new File(folder.getRoot(), "src/main/java/io/swagger");
+        final String configuration = FileUtils.readFileToString(new File(sources, "configuration/WebMvcConfiguration.java"));
+        Assert.assertTrue(configuration.contains("protected void extendMessageConverters(List<HttpMessageConverter<?>> converters) {"));
+        Assert.assertTrue(configuration.contains(
+                "JsonArrayStreamer.setObjectMapper(((MappingJackson2HttpMessageConverter) converter).getObjectMapper());"));
+        Assert.assertTrue(configuration.contains("import io.swagger.api.JsonArrayStreamer;"));
+
+        final String streamer = FileUtils.readFileToString(new File(sources, "api/JsonArrayStreamer.java"));
+        Assert.assertTrue(streamer.contains("objectMapper.getFactory().createGenerator(outputStream)"));
+    }
+
+    @Test(description = "leave the message converters alone without streamed responses")
+    public void noStreamingObjectMapperTest() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.json");
+        final SpringMVCServerCodegen codegen = new SpringMVCServerCodegen();
+        codegen.setOutputDir(folder.getRoot().getAbsolutePath());
+
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegen)).generate();
+
+        final String configuration = FileUtils.readFileToString(
+                new File(folder.getRoot(), "src/main/java/io/swagger/configuration/WebMvcConfiguration.java"));
+        Assert.assertFalse(configuration.contains("JsonArrayStreamer"));
+        Assert.assertFalse(configuration.contains("import java.util.List;"));
+    }
+}
@@ -51,6 +51,10 @@ public class SpringMVCServerOptionsTest extends JavaClientOptionsTest {
             times = 1;
             clientCodegen.setConfigPackage(SpringMVCServerOptionsProvider.CONFIG_PACKAGE_VALUE);
             times = 1;
+            clientCodegen.setStreamingResponses(Boolean.valueOf(SpringMVCServerOptionsProvider.STREAMING_RESPONSES_VALUE));
+            times = 1;
+            clientCodegen.setRequestValidators(Boolean.valueOf(SpringMVCServerOptionsProvider.REQUEST_VALIDATORS_VALUE));
+            times = 1;
         }};
     }
 }
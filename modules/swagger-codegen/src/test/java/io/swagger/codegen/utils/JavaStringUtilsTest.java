@@ -0,0 +1,17 @@
+package io.swagger.codegen.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class JavaStringUtilsTest {
+
+    @Test
+    public void shouldEscapeJavaStrings() throws Exception {
+        Assert.assertEquals(JavaStringUtils.escapeJavaString("\\d+\"\u00e9"), "\\\\d+\\\"\\u00e9");
+    }
+
+    @Test
+    public void shouldEscapeControlCharacters() throws Exception {
+        Assert.assertEquals(JavaStringUtils.escapeJavaString("a\tb\r\n\u0001"), "a\\tb\\r\\n\\u0001");
+    }
+}
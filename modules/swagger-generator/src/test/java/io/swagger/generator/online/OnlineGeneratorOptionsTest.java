@@ -14,6 +14,9 @@ import io.swagger.codegen.options.CsharpDotNet2ClientOptionsProvider;
 import io.swagger.codegen.options.DartClientOptionsProvider;
 import io.swagger.codegen.options.FlashClienOptionsProvider;
 import io.swagger.codegen.options.JavaInflectorServerOptionsProvider;
+import io.swagger.codegen.options.GatlingOptionsProvider;
+import io.swagger.codegen.options.JMeterOptionsProvider;
+import io.swagger.codegen.options.JavaMockServerOptionsProvider;
 import io.swagger.codegen.options.JavaOptionsProvider;
 import io.swagger.codegen.options.JaxRSServerOptionsProvider;
 import io.swagger.codegen.options.NodeJSServerOptionsProvider;
@@ -72,7 +75,9 @@ public class OnlineGeneratorOptionsTest {
                 {new AsyncScalaClientOptionsProvider()}, {new CSharpClientOptionsProvider()},
                 {new CsharpDotNet2ClientOptionsProvider()}, {new DartClientOptionsProvider()},
                 {new FlashClienOptionsProvider()}, {new JavaInflectorServerOptionsProvider()},
-                {new JavaOptionsProvider()}, {new JaxRSServerOptionsProvider()},
+                {new JMeterOptionsProvider()}, {new JavaOptionsProvider()},
+                {new JaxRSServerOptionsProvider()}, {new GatlingOptionsProvider()},
+                {new JavaMockServerOptionsProvider()},
                 {new NodeJSServerOptionsProvider()}, {new ObjcClientOptionsProvider()},
                 {new PerlClientOptionsProvider()}, {new PhpClientOptionsProvider()},
                 {new PythonClientOptionsProvider()}, {new Qt5CPPOptionsProvider()},
@@ -0,0 +1,16 @@
+package io.swagger.client;
+
+/**
+ * Callback of an asynchronous API call, called on the main thread.
+ */
+public interface ApiCallback<T> {
+  /**
+   * Called with the deserialized response of the call.
+   */
+  void onSuccess(T result);
+
+  /**
+   * Called with the error of the call.
+   */
+  void onFailure(ApiException e);
+}
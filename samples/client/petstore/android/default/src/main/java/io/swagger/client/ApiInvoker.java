@@ -4,6 +4,7 @@ import org.apache.http.*;
 import org.apache.http.client.*;
 import org.apache.http.client.methods.*;
 import org.apache.http.conn.*;
+import org.apache.http.conn.params.*;
 import org.apache.http.conn.scheme.*;
 import org.apache.http.conn.ssl.*;
 import org.apache.http.entity.ContentType;
@@ -24,6 +25,16 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
@@ -50,18 +61,52 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 
+import android.os.Handler;
+import android.os.Looper;
+
 import com.google.gson.JsonParseException;
 
 public class ApiInvoker {
+  /** Maximum number of pooled connections, kept small to spare the radio and the battery. */
+  public static final int MAX_CONNECTIONS = 4;
+
+  /** Maximum number of pooled connections to the same host. */
+  public static final int MAX_CONNECTIONS_PER_HOST = 2;
+
+  /** Seconds after which an idle connection is closed, whatever the keep-alive of the server. */
+  public static final int IDLE_CONNECTION_TIMEOUT = 20;
+
   private static ApiInvoker INSTANCE = new ApiInvoker();
   private Map<String, String> defaultHeaderMap = new HashMap<String, String>();
 
   private HttpClient client = null;
 
+  private boolean clientIgnoresSSLCertificates = false;
+
   private boolean ignoreSSLCertificates = false;
 
+  private HttpParams connectionParams;
+
+  private ClientConnectionManager connectionManager;
+
   private ClientConnectionManager ignoreSSLConnectionManager;
 
+  /** The GET requests in flight, shared by the identical ones. */
+  private final ConcurrentMap<String, InFlightRequest> inFlightGets = new ConcurrentHashMap<String, InFlightRequest>();
+
+  /** Runs the asynchronous calls, as many at a time as pooled connections. */
+  private final ExecutorService executor = Executors.newFixedThreadPool(MAX_CONNECTIONS, new ThreadFactory() {
+    private final AtomicInteger count = new AtomicInteger();
+
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "ApiInvoker-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
+
+  private Handler mainHandler;
+
   /** Content type "text/plain" with UTF-8 encoding. */
   public static final ContentType TEXT_PLAIN_UTF8 = ContentType.create("text/plain", Consts.UTF_8);
 
@@ -241,6 +286,43 @@ public class ApiInvoker {
     }
   }
 
+  /**
+   * Calls the API in the background, then the callback on the main thread.
+   */
+  public <T> void invokeAsync(final Callable<T> call, final ApiCallback<T> callback) {
+    executor.execute(new Runnable() {
+      public void run() {
+        T result = null;
+        ApiException error = null;
+        try {
+          result = call.call();
+        } catch (ApiException e) {
+          error = e;
+        } catch (Exception e) {
+          error = new ApiException(500, e.getMessage());
+        }
+        final T finalResult = result;
+        final ApiException finalError = error;
+        getMainHandler().post(new Runnable() {
+          public void run() {
+            if (finalError != null) {
+              callback.onFailure(finalError);
+            } else {
+              callback.onSuccess(finalResult);
+            }
+          }
+        });
+      }
+    });
+  }
+
+  private synchronized Handler getMainHandler() {
+    if (mainHandler == null) {
+      mainHandler = new Handler(Looper.getMainLooper());
+    }
+    return mainHandler;
+  }
+
   public String invokeAPI(String host, String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, String> formParams, String contentType) throws ApiException {
     HttpClient client = getClient(host);
 
@@ -298,6 +380,38 @@ public class ApiInvoker {
       formParamStr = formParamBuilder.toString();
     }
 
+    if ("GET".equals(method)) {
+      return coalesceGet(client, url, headers);
+    }
+    return execute(client, url, method, body, headers, formParamStr, contentType);
+  }
+
+  /**
+   * Executes the GET request, unless an identical one is in flight: its response is shared then.
+   */
+  private String coalesceGet(HttpClient client, String url, Map<String, String> headers) throws ApiException {
+    String key = url + "\n" + new TreeMap<String, String>(headers);
+    InFlightRequest request = new InFlightRequest();
+    InFlightRequest identical = inFlightGets.putIfAbsent(key, request);
+    if (identical != null) {
+      return identical.await();
+    }
+    try {
+      request.response = execute(client, url, "GET", null, headers, null, null);
+      return request.response;
+    } catch (ApiException e) {
+      request.error = e;
+      throw e;
+    } catch (RuntimeException e) {
+      request.error = new ApiException(500, e.getMessage());
+      throw e;
+    } finally {
+      inFlightGets.remove(key, request);
+      request.done.countDown();
+    }
+  }
+
+  private String execute(HttpClient client, String url, String method, Object body, Map<String, String> headers, String formParamStr, String contentType) throws ApiException {
     HttpResponse response = null;
     try {
       if ("GET".equals(method)) {
@@ -366,6 +480,10 @@ public class ApiInvoker {
       int code = response.getStatusLine().getStatusCode();
       String responseString = null;
       if(code == 204) {
+        if(response.getEntity() != null) {
+          // releases the connection
+          response.getEntity().consumeContent();
+        }
         responseString = "";
         return responseString;
       }
@@ -389,21 +507,47 @@ public class ApiInvoker {
     catch(IOException e) {
       throw new ApiException(500, e.getMessage());
     }
+    finally {
+      evictIdleConnections();
+    }
   }
 
-  private HttpClient getClient(String host) {
-    if (client == null) {
-      if (ignoreSSLCertificates && ignoreSSLConnectionManager != null) {
-        // Trust self signed certificates
-        client = new DefaultHttpClient(ignoreSSLConnectionManager, new BasicHttpParams());
-      } else {
-        client = new DefaultHttpClient();
-      }
+  private void evictIdleConnections() {
+    ClientConnectionManager manager = clientIgnoresSSLCertificates ? ignoreSSLConnectionManager : connectionManager;
+    manager.closeExpiredConnections();
+    manager.closeIdleConnections(IDLE_CONNECTION_TIMEOUT, TimeUnit.SECONDS);
+  }
+
+  private synchronized HttpClient getClient(String host) {
+    // Trust self signed certificates if asked to
+    boolean ignoresSSLCertificates = ignoreSSLCertificates && ignoreSSLConnectionManager != null;
+    if (client == null || clientIgnoresSSLCertificates != ignoresSSLCertificates) {
+      DefaultHttpClient client = new DefaultHttpClient(
+          ignoresSSLCertificates ? ignoreSSLConnectionManager : connectionManager, connectionParams);
+      client.setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy() {
+        @Override
+        public long getKeepAliveDuration(HttpResponse response, org.apache.http.protocol.HttpContext context) {
+          long duration = super.getKeepAliveDuration(response, context);
+          long max = TimeUnit.SECONDS.toMillis(IDLE_CONNECTION_TIMEOUT);
+          return duration < 0 || duration > max ? max : duration;
+        }
+      });
+      this.client = client;
+      this.clientIgnoresSSLCertificates = ignoresSSLCertificates;
     }
     return client;
   }
 
   private void initConnectionManager() {
+    connectionParams = new BasicHttpParams();
+    ConnManagerParams.setMaxTotalConnections(connectionParams, MAX_CONNECTIONS);
+    ConnManagerParams.setMaxConnectionsPerRoute(connectionParams, new ConnPerRouteBean(MAX_CONNECTIONS_PER_HOST));
+
+    SchemeRegistry defaultSchemeRegistry = new SchemeRegistry();
+    defaultSchemeRegistry.register(new Scheme("http", PlainSocketFactory.getSocketFactory(), 80));
+    defaultSchemeRegistry.register(new Scheme("https", SSLSocketFactory.getSocketFactory(), 443));
+    connectionManager = new ThreadSafeClientConnManager(connectionParams, defaultSchemeRegistry);
+
     try {
       final SSLContext sslContext = SSLContext.getInstance("SSL");
 
@@ -438,7 +582,7 @@ public class ApiInvoker {
       schemeRegistry.register(httpsScheme);
       schemeRegistry.register(new Scheme("http", PlainSocketFactory.getSocketFactory(), 80));
 
-      ignoreSSLConnectionManager = new ThreadSafeClientConnManager(new BasicHttpParams(), schemeRegistry);
+      ignoreSSLConnectionManager = new ThreadSafeClientConnManager(connectionParams, schemeRegistry);
     } catch (NoSuchAlgorithmException e) {
       // This will only be thrown if SSL isn't available for some reason.
     } catch (KeyManagementException e) {
@@ -448,4 +592,26 @@ public class ApiInvoker {
       // If anything goes wrong we default to the standard connection manager.
     }
   }
+
+  /**
+   * A GET request in flight, with its outcome once done.
+   */
+  private static class InFlightRequest {
+    final CountDownLatch done = new CountDownLatch(1);
+    String response;
+    ApiException error;
+
+    String await() throws ApiException {
+      try {
+        done.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ApiException(500, "Interrupted while waiting for an identical request");
+      }
+      if (error != null) {
+        throw new ApiException(error.getCode(), error.getMessage());
+      }
+      return response;
+    }
+  }
 }
@@ -10,14 +10,27 @@ import io.swagger.client.model.*;
 public class JsonUtil {
   public static GsonBuilder gsonBuilder;
 
+  // thread-safe, created once as it caches the type adapters of the models
+  private static volatile Gson gson;
+
   static {
     gsonBuilder = new GsonBuilder();
     gsonBuilder.serializeNulls();
     gsonBuilder.setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
   }
 
+  /**
+   * Gets the Gson instance, created from gsonBuilder on first use (customize gsonBuilder before).
+   */
   public static Gson getGson() {
-    return gsonBuilder.create();
+    if (gson == null) {
+      synchronized (JsonUtil.class) {
+        if (gson == null) {
+          gson = gsonBuilder.create();
+        }
+      }
+    }
+    return gson;
   }
 
   public static String serialize(Object obj){
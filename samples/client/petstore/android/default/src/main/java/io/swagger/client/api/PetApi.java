@@ -1,5 +1,6 @@
 package io.swagger.client.api;
 
+import io.swagger.client.ApiCallback;
 import io.swagger.client.ApiException;
 import io.swagger.client.ApiInvoker;
 import io.swagger.client.Pair;
@@ -16,6 +17,7 @@ import org.apache.http.entity.mime.MultipartEntityBuilder;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.Callable;
 import java.io.File;
 
 public class PetApi {
@@ -92,6 +94,22 @@ public class PetApi {
       throw ex;
     }
   }
+
+  /**
+   * Update an existing pet (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param body Pet object that needs to be added to the store
+   * @param callback called with the null result or the error
+   */
+  public void updatePetAsync (final Pet body, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        updatePet(body);
+        return null;
+      }
+    }, callback);
+  }
   
   /**
    * Add a new pet to the store
@@ -146,6 +164,22 @@ public class PetApi {
       throw ex;
     }
   }
+
+  /**
+   * Add a new pet to the store (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param body Pet object that needs to be added to the store
+   * @param callback called with the null result or the error
+   */
+  public void addPetAsync (final Pet body, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        addPet(body);
+        return null;
+      }
+    }, callback);
+  }
   
   /**
    * Finds Pets by status
@@ -202,6 +236,21 @@ public class PetApi {
       throw ex;
     }
   }
+
+  /**
+   * Finds Pets by status (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param status Status values that need to be considered for filter
+   * @param callback called with the List<Pet> or the error
+   */
+  public void findPetsByStatusAsync (final List<String> status, final ApiCallback<List<Pet>> callback) {
+    apiInvoker.invokeAsync(new Callable<List<Pet>>() {
+      @Override
+      public List<Pet> call() throws ApiException {
+        return findPetsByStatus(status);
+      }
+    }, callback);
+  }
   
   /**
    * Finds Pets by tags
@@ -258,6 +307,21 @@ public class PetApi {
       throw ex;
     }
   }
+
+  /**
+   * Finds Pets by tags (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param tags Tags to filter by
+   * @param callback called with the List<Pet> or the error
+   */
+  public void findPetsByTagsAsync (final List<String> tags, final ApiCallback<List<Pet>> callback) {
+    apiInvoker.invokeAsync(new Callable<List<Pet>>() {
+      @Override
+      public List<Pet> call() throws ApiException {
+        return findPetsByTags(tags);
+      }
+    }, callback);
+  }
   
   /**
    * Find pet by ID
@@ -317,6 +381,21 @@ public class PetApi {
       throw ex;
     }
   }
+
+  /**
+   * Find pet by ID (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param petId ID of pet that needs to be fetched
+   * @param callback called with the Pet or the error
+   */
+  public void getPetByIdAsync (final Long petId, final ApiCallback<Pet> callback) {
+    apiInvoker.invokeAsync(new Callable<Pet>() {
+      @Override
+      public Pet call() throws ApiException {
+        return getPetById(petId);
+      }
+    }, callback);
+  }
   
   /**
    * Updates a pet in the store with form data
@@ -388,6 +467,24 @@ public class PetApi {
       throw ex;
     }
   }
+
+  /**
+   * Updates a pet in the store with form data (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param petId ID of pet that needs to be updated
+   * @param name Updated name of the pet
+   * @param status Updated status of the pet
+   * @param callback called with the null result or the error
+   */
+  public void updatePetWithFormAsync (final String petId, final String name, final String status, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        updatePetWithForm(petId, name, status);
+        return null;
+      }
+    }, callback);
+  }
   
   /**
    * Deletes a pet
@@ -450,6 +547,23 @@ public class PetApi {
       throw ex;
     }
   }
+
+  /**
+   * Deletes a pet (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param petId Pet id to delete
+   * @param apiKey 
+   * @param callback called with the null result or the error
+   */
+  public void deletePetAsync (final Long petId, final String apiKey, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        deletePet(petId, apiKey);
+        return null;
+      }
+    }, callback);
+  }
   
   /**
    * uploads an image
@@ -521,5 +635,23 @@ public class PetApi {
       throw ex;
     }
   }
+
+  /**
+   * uploads an image (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param petId ID of pet to update
+   * @param additionalMetadata Additional data to pass to server
+   * @param file file to upload
+   * @param callback called with the null result or the error
+   */
+  public void uploadFileAsync (final Long petId, final String additionalMetadata, final File file, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        uploadFile(petId, additionalMetadata, file);
+        return null;
+      }
+    }, callback);
+  }
   
 }
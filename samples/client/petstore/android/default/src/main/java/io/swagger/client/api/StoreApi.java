@@ -1,5 +1,6 @@
 package io.swagger.client.api;
 
+import io.swagger.client.ApiCallback;
 import io.swagger.client.ApiException;
 import io.swagger.client.ApiInvoker;
 import io.swagger.client.Pair;
@@ -16,6 +17,7 @@ import org.apache.http.entity.mime.MultipartEntityBuilder;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.Callable;
 import java.io.File;
 
 public class StoreApi {
@@ -91,6 +93,20 @@ public class StoreApi {
       throw ex;
     }
   }
+
+  /**
+   * Returns pet inventories by status (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param callback called with the Map<String, Integer> or the error
+   */
+  public void getInventoryAsync (final ApiCallback<Map<String, Integer>> callback) {
+    apiInvoker.invokeAsync(new Callable<Map<String, Integer>>() {
+      @Override
+      public Map<String, Integer> call() throws ApiException {
+        return getInventory();
+      }
+    }, callback);
+  }
   
   /**
    * Place an order for a pet
@@ -145,6 +161,21 @@ public class StoreApi {
       throw ex;
     }
   }
+
+  /**
+   * Place an order for a pet (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param body order placed for purchasing the pet
+   * @param callback called with the Order or the error
+   */
+  public void placeOrderAsync (final Order body, final ApiCallback<Order> callback) {
+    apiInvoker.invokeAsync(new Callable<Order>() {
+      @Override
+      public Order call() throws ApiException {
+        return placeOrder(body);
+      }
+    }, callback);
+  }
   
   /**
    * Find purchase order by ID
@@ -204,6 +235,21 @@ public class StoreApi {
       throw ex;
     }
   }
+
+  /**
+   * Find purchase order by ID (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param orderId ID of pet that needs to be fetched
+   * @param callback called with the Order or the error
+   */
+  public void getOrderByIdAsync (final String orderId, final ApiCallback<Order> callback) {
+    apiInvoker.invokeAsync(new Callable<Order>() {
+      @Override
+      public Order call() throws ApiException {
+        return getOrderById(orderId);
+      }
+    }, callback);
+  }
   
   /**
    * Delete purchase order by ID
@@ -263,5 +309,21 @@ public class StoreApi {
       throw ex;
     }
   }
+
+  /**
+   * Delete purchase order by ID (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param orderId ID of the order that needs to be deleted
+   * @param callback called with the null result or the error
+   */
+  public void deleteOrderAsync (final String orderId, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        deleteOrder(orderId);
+        return null;
+      }
+    }, callback);
+  }
   
 }
@@ -1,5 +1,6 @@
 package io.swagger.client.api;
 
+import io.swagger.client.ApiCallback;
 import io.swagger.client.ApiException;
 import io.swagger.client.ApiInvoker;
 import io.swagger.client.Pair;
@@ -16,6 +17,7 @@ import org.apache.http.entity.mime.MultipartEntityBuilder;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.Callable;
 import java.io.File;
 
 public class UserApi {
@@ -92,6 +94,22 @@ public class UserApi {
       throw ex;
     }
   }
+
+  /**
+   * Create user (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param body Created user object
+   * @param callback called with the null result or the error
+   */
+  public void createUserAsync (final User body, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        createUser(body);
+        return null;
+      }
+    }, callback);
+  }
   
   /**
    * Creates list of users with given input array
@@ -146,6 +164,22 @@ public class UserApi {
       throw ex;
     }
   }
+
+  /**
+   * Creates list of users with given input array (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param body List of user object
+   * @param callback called with the null result or the error
+   */
+  public void createUsersWithArrayInputAsync (final List<User> body, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        createUsersWithArrayInput(body);
+        return null;
+      }
+    }, callback);
+  }
   
   /**
    * Creates list of users with given input array
@@ -200,6 +234,22 @@ public class UserApi {
       throw ex;
     }
   }
+
+  /**
+   * Creates list of users with given input array (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param body List of user object
+   * @param callback called with the null result or the error
+   */
+  public void createUsersWithListInputAsync (final List<User> body, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        createUsersWithListInput(body);
+        return null;
+      }
+    }, callback);
+  }
   
   /**
    * Logs user into the system
@@ -259,6 +309,22 @@ public class UserApi {
       throw ex;
     }
   }
+
+  /**
+   * Logs user into the system (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param username The user name for login
+   * @param password The password for login in clear text
+   * @param callback called with the String or the error
+   */
+  public void loginUserAsync (final String username, final String password, final ApiCallback<String> callback) {
+    apiInvoker.invokeAsync(new Callable<String>() {
+      @Override
+      public String call() throws ApiException {
+        return loginUser(username, password);
+      }
+    }, callback);
+  }
   
   /**
    * Logs out current logged in user session
@@ -312,6 +378,21 @@ public class UserApi {
       throw ex;
     }
   }
+
+  /**
+   * Logs out current logged in user session (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param callback called with the null result or the error
+   */
+  public void logoutUserAsync (final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        logoutUser();
+        return null;
+      }
+    }, callback);
+  }
   
   /**
    * Get user by user name
@@ -371,6 +452,21 @@ public class UserApi {
       throw ex;
     }
   }
+
+  /**
+   * Get user by user name (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param username The name that needs to be fetched. Use user1 for testing.
+   * @param callback called with the User or the error
+   */
+  public void getUserByNameAsync (final String username, final ApiCallback<User> callback) {
+    apiInvoker.invokeAsync(new Callable<User>() {
+      @Override
+      public User call() throws ApiException {
+        return getUserByName(username);
+      }
+    }, callback);
+  }
   
   /**
    * Updated user
@@ -431,6 +527,23 @@ public class UserApi {
       throw ex;
     }
   }
+
+  /**
+   * Updated user (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param username name that need to be deleted
+   * @param body Updated user object
+   * @param callback called with the null result or the error
+   */
+  public void updateUserAsync (final String username, final User body, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        updateUser(username, body);
+        return null;
+      }
+    }, callback);
+  }
   
   /**
    * Delete user
@@ -490,5 +603,21 @@ public class UserApi {
       throw ex;
     }
   }
+
+  /**
+   * Delete user (asynchronously)
+   * The request and the deserialization of the response run in the background, the callback is called on the main thread.
+   * @param username The name that needs to be deleted
+   * @param callback called with the null result or the error
+   */
+  public void deleteUserAsync (final String username, final ApiCallback<Void> callback) {
+    apiInvoker.invokeAsync(new Callable<Void>() {
+      @Override
+      public Void call() throws ApiException {
+        deleteUser(username);
+        return null;
+      }
+    }, callback);
+  }
   
 }
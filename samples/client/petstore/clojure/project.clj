@@ -3,5 +3,6 @@
   :license {:name "Apache 2.0"
             :url "http://www.apache.org/licenses/LICENSE-2.0.html"}
   :dependencies [[org.clojure/clojure "1.7.0"]
-                 [clj-http "2.0.0"]
+                 [clj-http "3.4.1"]
+                 [org.clojure/core.async "0.2.395"]
                  [cheshire "5.5.0"]])
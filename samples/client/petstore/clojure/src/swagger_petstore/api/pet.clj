@@ -1,5 +1,5 @@
 (ns swagger-petstore.api.pet
-  (:require [swagger-petstore.core :refer [call-api check-required-params with-collection-format]])
+  (:require [swagger-petstore.core :refer [call-api check-required-params with-collection-format *async* async-data]])
   (:import (java.io File)))
 
 (defn update-pet-with-http-info
@@ -24,6 +24,17 @@
   ([optional-params]
    (:data (update-pet-with-http-info optional-params))))
 
+(defn update-pet-with-http-info-async
+  "Asynchronous update-pet-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply update-pet-with-http-info args)))
+
+(defn update-pet-async
+  "Asynchronous update-pet: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply update-pet-with-http-info-async args)))
+
 (defn add-pet-with-http-info
   "Add a new pet to the store
   "
@@ -46,6 +57,17 @@
   ([optional-params]
    (:data (add-pet-with-http-info optional-params))))
 
+(defn add-pet-with-http-info-async
+  "Asynchronous add-pet-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply add-pet-with-http-info args)))
+
+(defn add-pet-async
+  "Asynchronous add-pet: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply add-pet-with-http-info-async args)))
+
 (defn find-pets-by-status-with-http-info
   "Finds Pets by status
   Multiple status values can be provided with comma seperated strings"
@@ -67,6 +89,17 @@
   ([optional-params]
    (:data (find-pets-by-status-with-http-info optional-params))))
 
+(defn find-pets-by-status-with-http-info-async
+  "Asynchronous find-pets-by-status-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply find-pets-by-status-with-http-info args)))
+
+(defn find-pets-by-status-async
+  "Asynchronous find-pets-by-status: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply find-pets-by-status-with-http-info-async args)))
+
 (defn find-pets-by-tags-with-http-info
   "Finds Pets by tags
   Muliple tags can be provided with comma seperated strings. Use tag1, tag2, tag3 for testing."
@@ -88,6 +121,17 @@
   ([optional-params]
    (:data (find-pets-by-tags-with-http-info optional-params))))
 
+(defn find-pets-by-tags-with-http-info-async
+  "Asynchronous find-pets-by-tags-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply find-pets-by-tags-with-http-info args)))
+
+(defn find-pets-by-tags-async
+  "Asynchronous find-pets-by-tags: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply find-pets-by-tags-with-http-info-async args)))
+
 (defn get-pet-by-id-with-http-info
   "Find pet by ID
   Returns a pet when ID < 10.  ID > 10 or nonintegers will simulate API error conditions"
@@ -107,6 +151,17 @@
   [pet-id ]
   (:data (get-pet-by-id-with-http-info pet-id)))
 
+(defn get-pet-by-id-with-http-info-async
+  "Asynchronous get-pet-by-id-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply get-pet-by-id-with-http-info args)))
+
+(defn get-pet-by-id-async
+  "Asynchronous get-pet-by-id: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply get-pet-by-id-with-http-info-async args)))
+
 (defn update-pet-with-form-with-http-info
   "Updates a pet in the store with form data
   "
@@ -128,6 +183,17 @@
   ([pet-id optional-params]
    (:data (update-pet-with-form-with-http-info pet-id optional-params))))
 
+(defn update-pet-with-form-with-http-info-async
+  "Asynchronous update-pet-with-form-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply update-pet-with-form-with-http-info args)))
+
+(defn update-pet-with-form-async
+  "Asynchronous update-pet-with-form: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply update-pet-with-form-with-http-info-async args)))
+
 (defn delete-pet-with-http-info
   "Deletes a pet
   "
@@ -149,6 +215,17 @@
   ([pet-id optional-params]
    (:data (delete-pet-with-http-info pet-id optional-params))))
 
+(defn delete-pet-with-http-info-async
+  "Asynchronous delete-pet-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply delete-pet-with-http-info args)))
+
+(defn delete-pet-async
+  "Asynchronous delete-pet: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply delete-pet-with-http-info-async args)))
+
 (defn upload-file-with-http-info
   "uploads an image
   "
@@ -169,3 +246,14 @@
   ([pet-id ] (upload-file pet-id nil))
   ([pet-id optional-params]
    (:data (upload-file-with-http-info pet-id optional-params))))
+
+(defn upload-file-with-http-info-async
+  "Asynchronous upload-file-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply upload-file-with-http-info args)))
+
+(defn upload-file-async
+  "Asynchronous upload-file: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply upload-file-with-http-info-async args)))
@@ -1,5 +1,5 @@
 (ns swagger-petstore.api.store
-  (:require [swagger-petstore.core :refer [call-api check-required-params with-collection-format]])
+  (:require [swagger-petstore.core :refer [call-api check-required-params with-collection-format *async* async-data]])
   (:import (java.io File)))
 
 (defn get-inventory-with-http-info
@@ -21,6 +21,17 @@
   []
   (:data (get-inventory-with-http-info)))
 
+(defn get-inventory-with-http-info-async
+  "Asynchronous get-inventory-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply get-inventory-with-http-info args)))
+
+(defn get-inventory-async
+  "Asynchronous get-inventory: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply get-inventory-with-http-info-async args)))
+
 (defn place-order-with-http-info
   "Place an order for a pet
   "
@@ -43,6 +54,17 @@
   ([optional-params]
    (:data (place-order-with-http-info optional-params))))
 
+(defn place-order-with-http-info-async
+  "Asynchronous place-order-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply place-order-with-http-info args)))
+
+(defn place-order-async
+  "Asynchronous place-order: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply place-order-with-http-info-async args)))
+
 (defn get-order-by-id-with-http-info
   "Find purchase order by ID
   For valid response try integer IDs with value <= 5 or > 10. Other values will generated exceptions"
@@ -62,6 +84,17 @@
   [order-id ]
   (:data (get-order-by-id-with-http-info order-id)))
 
+(defn get-order-by-id-with-http-info-async
+  "Asynchronous get-order-by-id-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply get-order-by-id-with-http-info args)))
+
+(defn get-order-by-id-async
+  "Asynchronous get-order-by-id: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply get-order-by-id-with-http-info-async args)))
+
 (defn delete-order-with-http-info
   "Delete purchase order by ID
   For valid response try integer IDs with value < 1000. Anything above 1000 or nonintegers will generate API errors"
@@ -80,3 +113,14 @@
   For valid response try integer IDs with value < 1000. Anything above 1000 or nonintegers will generate API errors"
   [order-id ]
   (:data (delete-order-with-http-info order-id)))
+
+(defn delete-order-with-http-info-async
+  "Asynchronous delete-order-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply delete-order-with-http-info args)))
+
+(defn delete-order-async
+  "Asynchronous delete-order: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply delete-order-with-http-info-async args)))
@@ -1,5 +1,5 @@
 (ns swagger-petstore.api.user
-  (:require [swagger-petstore.core :refer [call-api check-required-params with-collection-format]])
+  (:require [swagger-petstore.core :refer [call-api check-required-params with-collection-format *async* async-data]])
   (:import (java.io File)))
 
 (defn create-user-with-http-info
@@ -24,6 +24,17 @@
   ([optional-params]
    (:data (create-user-with-http-info optional-params))))
 
+(defn create-user-with-http-info-async
+  "Asynchronous create-user-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply create-user-with-http-info args)))
+
+(defn create-user-async
+  "Asynchronous create-user: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply create-user-with-http-info-async args)))
+
 (defn create-users-with-array-input-with-http-info
   "Creates list of users with given input array
   "
@@ -46,6 +57,17 @@
   ([optional-params]
    (:data (create-users-with-array-input-with-http-info optional-params))))
 
+(defn create-users-with-array-input-with-http-info-async
+  "Asynchronous create-users-with-array-input-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply create-users-with-array-input-with-http-info args)))
+
+(defn create-users-with-array-input-async
+  "Asynchronous create-users-with-array-input: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply create-users-with-array-input-with-http-info-async args)))
+
 (defn create-users-with-list-input-with-http-info
   "Creates list of users with given input array
   "
@@ -68,6 +90,17 @@
   ([optional-params]
    (:data (create-users-with-list-input-with-http-info optional-params))))
 
+(defn create-users-with-list-input-with-http-info-async
+  "Asynchronous create-users-with-list-input-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply create-users-with-list-input-with-http-info args)))
+
+(defn create-users-with-list-input-async
+  "Asynchronous create-users-with-list-input: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply create-users-with-list-input-with-http-info-async args)))
+
 (defn login-user-with-http-info
   "Logs user into the system
   "
@@ -89,6 +122,17 @@
   ([optional-params]
    (:data (login-user-with-http-info optional-params))))
 
+(defn login-user-with-http-info-async
+  "Asynchronous login-user-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply login-user-with-http-info args)))
+
+(defn login-user-async
+  "Asynchronous login-user: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply login-user-with-http-info-async args)))
+
 (defn logout-user-with-http-info
   "Logs out current logged in user session
   "
@@ -108,6 +152,17 @@
   []
   (:data (logout-user-with-http-info)))
 
+(defn logout-user-with-http-info-async
+  "Asynchronous logout-user-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply logout-user-with-http-info args)))
+
+(defn logout-user-async
+  "Asynchronous logout-user: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply logout-user-with-http-info-async args)))
+
 (defn get-user-by-name-with-http-info
   "Get user by user name
   "
@@ -127,6 +182,17 @@
   [username ]
   (:data (get-user-by-name-with-http-info username)))
 
+(defn get-user-by-name-with-http-info-async
+  "Asynchronous get-user-by-name-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply get-user-by-name-with-http-info args)))
+
+(defn get-user-by-name-async
+  "Asynchronous get-user-by-name: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply get-user-by-name-with-http-info-async args)))
+
 (defn update-user-with-http-info
   "Updated user
   This can only be done by the logged in user."
@@ -149,6 +215,17 @@
   ([username optional-params]
    (:data (update-user-with-http-info username optional-params))))
 
+(defn update-user-with-http-info-async
+  "Asynchronous update-user-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply update-user-with-http-info args)))
+
+(defn update-user-async
+  "Asynchronous update-user: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply update-user-with-http-info-async args)))
+
 (defn delete-user-with-http-info
   "Delete user
   This can only be done by the logged in user."
@@ -167,3 +244,14 @@
   This can only be done by the logged in user."
   [username ]
   (:data (delete-user-with-http-info username)))
+
+(defn delete-user-with-http-info-async
+  "Asynchronous delete-user-with-http-info: return a core.async channel receiving the response, or the exception."
+  [& args]
+  (binding [*async* true]
+    (apply delete-user-with-http-info args)))
+
+(defn delete-user-async
+  "Asynchronous delete-user: return a core.async channel receiving the data of the response, or the exception."
+  [& args]
+  (async-data (apply delete-user-with-http-info-async args)))
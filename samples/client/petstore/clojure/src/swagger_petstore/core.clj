@@ -1,7 +1,9 @@
 (ns swagger-petstore.core
   (:require [cheshire.core :refer [generate-string parse-string]]
             [clojure.string :as str]
-            [clj-http.client :as client])
+            [clojure.core.async :as async]
+            [clj-http.client :as client]
+            [clj-http.conn-mgr :as conn-mgr])
   (:import (com.fasterxml.jackson.core JsonParseException)
            (java.io File)
            (java.util Date TimeZone)
@@ -17,6 +19,9 @@
    :date-format     "yyyy-MM-dd"
    :datetime-format "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"
    :debug           false
+   ;; options of the pooling connection managers shared by the API calls (see clj-http.conn-mgr),
+   ;; the timeout of the idle connections being in seconds; nil for a connection per request
+   :connection-pool {:timeout 10 :threads 20 :default-per-route 20}
    :auths           {"petstore_auth" nil
                      "api_key" nil}})
 
@@ -30,7 +35,10 @@
   `(let [api-context# ~api-context
          api-context# (-> *api-context*
                           (merge api-context#)
-                          (assoc :auths (merge (:auths *api-context*) (:auths api-context#))))]
+                          (assoc :auths (merge (:auths *api-context*) (:auths api-context#)))
+                          (cond-> (contains? api-context# :connection-pool)
+                            (assoc :connection-pool (some->> (:connection-pool api-context#)
+                                                             (merge (:connection-pool *api-context*))))))]
      (binding [*api-context* api-context#]
        ~@body)))
 
@@ -213,10 +221,23 @@
        (map (fn [[k v]] (array-map :name k :content v)))
        vec))
 
-(defn call-api
-  "Call an API by making HTTP request and return its response."
+(def ^:private conn-manager
+  "The pooling connection manager of the given options, created once."
+  (memoize (fn [pool-opts] (conn-mgr/make-reusable-conn-manager pool-opts))))
+
+(def ^:private async-conn-manager
+  "The pooling connection manager of the given options for asynchronous requests, created once."
+  (memoize (fn [pool-opts] (conn-mgr/make-reuseable-async-conn-manager pool-opts))))
+
+(def ^:dynamic *async*
+  "Whether call-api sends the request asynchronously, returning a core.async channel,
+  see the -async variants of the API functions."
+  false)
+
+(defn make-request-opts
+  "Make the clj-http request options of an API call."
   [path method {:keys [path-params body-param content-types accepts auth-names] :as opts}]
-  (let [{:keys [debug]} *api-context*
+  (let [{:keys [debug connection-pool]} *api-context*
         {:keys [req-opts query-params header-params form-params]} (auths->opts auth-names)
         query-params (merge query-params (:query-params opts))
         header-params (merge header-params (:header-params opts))
@@ -227,6 +248,8 @@
         multipart? (= "multipart/form-data" content-type)
         req-opts (cond-> req-opts
                    true (assoc :url url :method method)
+                   (and connection-pool (not *async*)) (assoc :connection-manager (conn-manager connection-pool))
+                   (and connection-pool *async*) (assoc :connection-manager (async-conn-manager connection-pool))
                    accept (assoc :accept accept)
                    (seq query-params) (assoc :query-params (normalize-params query-params))
                    (seq header-params) (assoc :headers (normalize-params header-params))
@@ -234,9 +257,45 @@
                    multipart? (assoc :multipart (-> form-params normalize-params form-params->multipart))
                    (and (not multipart?) (seq form-params)) (assoc :form-params (normalize-params form-params))
                    body-param (assoc :body (serialize body-param content-type))
-                   debug (assoc :debug true :debug-body true))
-        resp (client/request req-opts)]
-    (when debug
-      (println "Response:")
-      (println resp))
-    (assoc resp :data (deserialize resp))))
+                   debug (assoc :debug true :debug-body true))]
+    req-opts))
+
+(defn- process-response
+  [resp debug]
+  (when debug
+    (println "Response:")
+    (println resp))
+  (assoc resp :data (deserialize resp)))
+
+(defn call-api-async
+  "Call an API by making an asynchronous HTTP request and return a core.async channel
+  receiving its response, or the exception it failed with."
+  [path method opts]
+  (let [{:keys [debug]} *api-context*
+        req-opts (binding [*async* true]
+                   (make-request-opts path method opts))
+        ch (async/promise-chan)]
+    (client/request (assoc req-opts :async? true)
+                    (fn [resp]
+                      (async/put! ch (try
+                                       (process-response resp debug)
+                                       (catch Exception e e))))
+                    (fn [e]
+                      (async/put! ch e)))
+    ch))
+
+(defn call-api
+  "Call an API by making HTTP request and return its response.
+  Within the -async variants of the API functions, return a channel of the response instead (see call-api-async)."
+  [path method opts]
+  (if *async*
+    (call-api-async path method opts)
+    (let [{:keys [debug]} *api-context*]
+      (process-response (client/request (make-request-opts path method opts)) debug))))
+
+(defn async-data
+  "Map the channel of a response to a channel of its data, or the exception."
+  [ch]
+  (let [data-ch (async/promise-chan)]
+    (async/take! ch #(async/put! data-ch (if (instance? Throwable %) % (:data %))))
+    data-ch))
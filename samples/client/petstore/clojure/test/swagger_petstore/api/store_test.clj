@@ -1,5 +1,6 @@
 (ns swagger-petstore.api.store-test
-  (:require [clojure.test :refer :all]
+  (:require [clojure.core.async :as async]
+            [clojure.test :refer :all]
             [swagger-petstore.core :refer [with-api-context]]
             [swagger-petstore.api.store :refer :all])
   (:import (java.util Date)))
@@ -22,6 +23,11 @@
   (let [inventory (get-inventory)]
     (is (pos? (count inventory)))))
 
+(deftest test-get-inventory-async
+  (let [inventory (async/<!! (get-inventory-async))]
+    (is (map? inventory))
+    (is (pos? (count inventory)))))
+
 (deftest test-place-and-delete-order
   (let [order (make-random-order)
         order-id (:id order)
@@ -10,6 +10,7 @@
             :date-format     "yyyy-MM-dd"
             :datetime-format "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"
             :debug           false
+            :connection-pool {:timeout 10 :threads 20 :default-per-route 20}
             :auths           {"api_key"       nil
                               "petstore_auth" nil}}
            default-api-context
@@ -25,6 +26,7 @@
               :date-format     "yyyy-MM-dd"
               :datetime-format "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"
               :debug           true
+              :connection-pool {:timeout 10 :threads 20 :default-per-route 20}
               :auths           {"api_key"       "key1"
                                 "petstore_auth" "token1"}}
              *api-context*))
@@ -35,14 +37,22 @@
                 :date-format     "yyyy-MM-dd"
                 :datetime-format "yyyy-MM-dd HH:mm:ss"
                 :debug           true
+                :connection-pool {:timeout 10 :threads 20 :default-per-route 20}
                 :auths           {"api_key"       "key2"
                                   "petstore_auth" "token1"}}
                *api-context*))))
+    ;; connection pool options are merged with the outer ones, nil disabling the pool
+    (with-api-context {:connection-pool {:threads 50}}
+      (is (= {:timeout 10 :threads 50 :default-per-route 20}
+             (:connection-pool *api-context*)))
+      (with-api-context {:connection-pool nil}
+        (is (nil? (:connection-pool *api-context*)))))
     ;; back to default api context
     (is (= {:base-url        "http://petstore.swagger.io/v2"
             :date-format     "yyyy-MM-dd"
             :datetime-format "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"
             :debug           false
+            :connection-pool {:timeout 10 :threads 20 :default-per-route 20}
             :auths           {"api_key"       nil
                               "petstore_auth" nil}}
            default-api-context
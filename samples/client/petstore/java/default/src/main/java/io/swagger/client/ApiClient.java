@@ -5,11 +5,16 @@ import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.datatype.joda.*;
 import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
 
+import com.sun.jersey.api.client.AbstractClientRequestAdapter;
 import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientHandlerException;
+import com.sun.jersey.api.client.ClientRequest;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.GenericType;
 import com.sun.jersey.api.client.config.DefaultClientConfig;
+import com.sun.jersey.api.client.filter.ClientFilter;
 import com.sun.jersey.api.client.filter.LoggingFilter;
+import com.sun.jersey.api.client.WebResource;
 import com.sun.jersey.api.client.WebResource.Builder;
 
 import com.sun.jersey.multipart.FormDataMultiPart;
@@ -27,10 +32,15 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
 
 import java.net.URLEncoder;
 
 import java.io.File;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 
 import java.text.DateFormat;
@@ -41,13 +51,17 @@ import io.swagger.client.auth.HttpBasicAuth;
 import io.swagger.client.auth.ApiKeyAuth;
 import io.swagger.client.auth.OAuth;
 
-@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2016-01-05T14:39:16.440+08:00")
+@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2026-10-19T18:04:43.445Z")
 public class ApiClient {
   private Map<String, Client> hostMap = new HashMap<String, Client>();
   private Map<String, String> defaultHeaderMap = new HashMap<String, String>();
   private boolean debugging = false;
   private String basePath = "http://petstore.swagger.io/v2";
   private ObjectMapper mapper;
+  private RetryPolicy retryPolicy;
+  private ResponseCache responseCache;
+  private ApiMetricsListener metricsListener;
+  private ExecutorService pageExecutor;
 
   private Map<String, Authentication> authentications;
 
@@ -79,8 +93,8 @@ public class ApiClient {
 
     // Setup authentications (key: authentication name, value: authentication).
     authentications = new HashMap<String, Authentication>();
-    authentications.put("api_key", new ApiKeyAuth("header", "api_key"));
     authentications.put("petstore_auth", new OAuth());
+    authentications.put("api_key", new ApiKeyAuth("header", "api_key"));
     // Prevent the authentications from being modified.
     authentications = Collections.unmodifiableMap(authentications);
   }
@@ -226,6 +240,77 @@ public class ApiClient {
     return this;
   }
 
+  /**
+   * Get the retry policy, null when retries are disabled (the default).
+   */
+  public RetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+
+  /**
+   * Set the policy to retry failed calls with exponential backoff.
+   * Use null to disable retries.
+   */
+  public ApiClient setRetryPolicy(RetryPolicy retryPolicy) {
+    this.retryPolicy = retryPolicy;
+    return this;
+  }
+
+  /**
+   * Get the response cache, null when caching is disabled (the default).
+   */
+  public ResponseCache getResponseCache() {
+    return responseCache;
+  }
+
+  /**
+   * Set the in-memory cache of GET responses. Use null to disable caching.
+   *
+   * @see ResponseCache
+   */
+  public ApiClient setResponseCache(ResponseCache responseCache) {
+    this.responseCache = responseCache;
+    return this;
+  }
+
+  /**
+   * Get the metrics listener, null when metrics are disabled (the default).
+   */
+  public ApiMetricsListener getMetricsListener() {
+    return metricsListener;
+  }
+
+  /**
+   * Set the listener of the metrics (latency, status code, sizes, retries and cache hits) of the API calls.
+   * Use null to disable metrics.
+   *
+   * @see HistogramMetricsListener
+   */
+  public ApiClient setMetricsListener(ApiMetricsListener metricsListener) {
+    this.metricsListener = metricsListener;
+    return this;
+  }
+
+  /**
+   * Get the executor prefetching the pages of the page iterators. Unless set,
+   * a pool of at most 4 daemon threads is created on first use.
+   */
+  public synchronized ExecutorService getPageExecutor() {
+    if (pageExecutor == null) {
+      pageExecutor = PageIterator.newExecutor(4);
+    }
+    return pageExecutor;
+  }
+
+  /**
+   * Set the executor prefetching the pages of the page iterators,
+   * which is not shut down by the API client.
+   */
+  public synchronized ApiClient setPageExecutor(ExecutorService pageExecutor) {
+    this.pageExecutor = pageExecutor;
+    return this;
+  }
+
   /**
    * Get the date format used to parse/format date parameters.
    */
@@ -427,36 +512,25 @@ public class ApiClient {
     }
   }
 
-  private ClientResponse getAPIResponse(String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames) throws ApiException {
+  private ClientResponse getAPIResponse(String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames, CallStats callStats) throws ApiException {
 
     if (body != null && !formParams.isEmpty()){
       throw new ApiException(500, "Cannot have body and form params");
     }
 
-    updateParamsForAuth(authNames, queryParams, headerParams);
-
     Client client = getClient();
 
-    StringBuilder b = new StringBuilder();
-    b.append("?");
-    if (queryParams != null){
-      for (Pair queryParam : queryParams){
-        if (!queryParam.getName().isEmpty()) {
-          b.append(escapeString(queryParam.getName()));
-          b.append("=");
-          b.append(escapeString(queryParam.getValue()));
-          b.append("&");
-        }
-      }
-    }
+    String url = buildUrl(path, queryParams);
 
-    String querystring = b.substring(0, b.length() - 1);
+    WebResource resource = client.resource(url);
+    if (callStats != null)
+      resource.setProperty(CallStats.PROPERTY, callStats);
 
     Builder builder;
     if (accept == null)
-      builder = client.resource(basePath + path + querystring).getRequestBuilder();
+      builder = resource.getRequestBuilder();
     else
-      builder = client.resource(basePath + path + querystring).accept(accept);
+      builder = resource.accept(accept);
 
     for (String key : headerParams.keySet()) {
       builder = builder.header(key, headerParams.get(key));
@@ -483,6 +557,27 @@ public class ApiClient {
     return response;
   }
 
+  /**
+   * Build full URL by concatenating base path, the given sub path and query parameters.
+   */
+  private String buildUrl(String path, List<Pair> queryParams) {
+    StringBuilder b = new StringBuilder();
+    b.append("?");
+    if (queryParams != null){
+      for (Pair queryParam : queryParams){
+        if (!queryParam.getName().isEmpty()) {
+          b.append(escapeString(queryParam.getName()));
+          b.append("=");
+          b.append(escapeString(queryParam.getValue()));
+          b.append("&");
+        }
+      }
+    }
+
+    String querystring = b.substring(0, b.length() - 1);
+    return basePath + path + querystring;
+  }
+
   /**
    * Invoke API by sending HTTP request with the given options.
    *
@@ -498,19 +593,78 @@ public class ApiClient {
    * @return The response body in type of string
    */
    public <T> T invokeAPI(String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames, GenericType<T> returnType) throws ApiException {
+    return invokeAPI(null, path, method, queryParams, body, headerParams, formParams, accept, contentType, authNames, returnType);
+  }
+
+  /**
+   * Invoke API by sending HTTP request with the given options.
+   *
+   * @param operationId The operationId of the called operation, reported to the metrics listener
+   * @see #invokeAPI(String, String, List, Object, Map, Map, String, String, String[], GenericType)
+   */
+  public <T> T invokeAPI(String operationId, String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames, GenericType<T> returnType) throws ApiException {
+
+    updateParamsForAuth(authNames, queryParams, headerParams);
+
+    ApiMetricsListener listener = metricsListener;
+    long start = System.nanoTime();
+    String cacheKey = null;
+    ResponseCache.Entry cacheEntry = null;
+    if (responseCache != null && "GET".equals(method) && returnType != null) {
+      cacheKey = ResponseCache.key(buildUrl(path, queryParams), accept, requestHeaders(headerParams));
+      cacheEntry = responseCache.get(cacheKey);
+      if (cacheEntry != null) {
+        if (cacheEntry.isFresh()) {
+          statusCode = cacheEntry.getStatusCode();
+          responseHeaders = cacheEntry.getHeaders();
+          if (listener != null)
+            listener.onCallCompleted(new ApiMetricsListener.CallMetrics(operationId, method, statusCode, System.nanoTime() - start, 0, 0, 0, null, true));
+          return (T) cacheEntry.getData();
+        }
+        cacheEntry.addConditionalHeaders(headerParams);
+      }
+    }
+
+    CallStats callStats = listener == null ? null : new CallStats();
+    ClientResponse response;
+    try {
+      response = getAPIResponse(path, method, queryParams, body, headerParams, formParams, accept, contentType, authNames, callStats);
+    } catch (RuntimeException e) {
+      if (listener != null)
+        listener.onCallCompleted(callStats.toMetrics(operationId, method, 0, start, e));
+      throw e;
+    }
+
+    try {
+      return readAPIResponse(response, method, path, queryParams, returnType, cacheKey, cacheEntry);
+    } finally {
+      if (listener != null)
+        listener.onCallCompleted(callStats.toMetrics(operationId, method, response.getStatus(), start, null));
+    }
+  }
 
-    ClientResponse response = getAPIResponse(path, method, queryParams, body, headerParams, formParams, accept, contentType, authNames);
+  private <T> T readAPIResponse(ClientResponse response, String method, String path, List<Pair> queryParams, GenericType<T> returnType, String cacheKey, ResponseCache.Entry cacheEntry) throws ApiException {
+    if (responseCache != null && !"GET".equals(method)) {
+      responseCache.invalidate(buildUrl(path, queryParams));
+    }
 
     statusCode = response.getStatusInfo().getStatusCode();
     responseHeaders = response.getHeaders();
 
-    if(response.getStatusInfo() == ClientResponse.Status.NO_CONTENT) {
+    if (cacheEntry != null && statusCode == ClientResponse.Status.NOT_MODIFIED.getStatusCode()) {
+      response.close();
+      cacheEntry.refresh(responseHeaders);
+      statusCode = cacheEntry.getStatusCode();
+      return (T) cacheEntry.getData();
+    } else if(response.getStatusInfo() == ClientResponse.Status.NO_CONTENT) {
       return null;
     } else if (response.getStatusInfo().getFamily() == Family.SUCCESSFUL) {
       if (returnType == null)
         return null;
-      else
-        return response.getEntity(returnType);
+      T data = response.getEntity(returnType);
+      if (cacheKey != null)
+        responseCache.put(cacheKey, data, statusCode, responseHeaders);
+      return data;
     } else {
       String message = "error";
       String respBody = null;
@@ -530,6 +684,16 @@ public class ApiClient {
     }
   }
 
+  /**
+   * Get the headers sent with a request: the default headers, overridden by
+   * the header parameters (which include the authentication headers).
+   */
+  private Map<String, String> requestHeaders(Map<String, String> headerParams) {
+    Map<String, String> headers = new HashMap<String, String>(defaultHeaderMap);
+    headers.putAll(headerParams);
+    return headers;
+  }
+
   /**
    * Update query and header parameters based on authentication settings.
    *
@@ -579,10 +743,127 @@ public class ApiClient {
       DefaultClientConfig conf = new DefaultClientConfig();
       conf.getSingletons().add(jsonProvider);
       Client client = Client.create(conf);
+      client.addFilter(new RetryFilter());
+      client.addFilter(new MetricsFilter());
       if (debugging)
         client.addFilter(new LoggingFilter());
       hostMap.put(basePath, client);
     }
     return hostMap.get(basePath);
   }
+
+  /**
+   * Retry the request according to the retry policy of this API client.
+   */
+  private class RetryFilter extends ClientFilter {
+    @Override
+    public ClientResponse handle(ClientRequest request) throws ClientHandlerException {
+      int attempt = 1;
+      while (true) {
+        RetryPolicy policy = retryPolicy;
+        ClientResponse response;
+        try {
+          response = getNext().handle(request);
+        } catch (ClientHandlerException e) {
+          if (policy == null || !policy.shouldRetry(request.getMethod(), attempt, 0))
+            throw e;
+          waitBeforeRetry(policy, attempt, null);
+          attempt++;
+          continue;
+        }
+
+        if (policy == null || !policy.shouldRetry(request.getMethod(), attempt, response.getStatus())) {
+          CallStats callStats = (CallStats) request.getProperties().get(CallStats.PROPERTY);
+          if (callStats != null)
+            callStats.retries = attempt - 1;
+          return response;
+        }
+        String retryAfter = response.getHeaders().getFirst("Retry-After");
+        response.close();
+        waitBeforeRetry(policy, attempt, retryAfter);
+        attempt++;
+      }
+    }
+
+    private void waitBeforeRetry(RetryPolicy policy, int attempt, String retryAfter) {
+      try {
+        policy.waitBeforeRetry(attempt, retryAfter);
+      } catch (ApiException e) {
+        throw new ClientHandlerException(e);
+      }
+    }
+  }
+
+  /**
+   * Count the bytes of the request and response bodies of the calls reporting metrics.
+   */
+  private static class MetricsFilter extends ClientFilter {
+    @Override
+    public ClientResponse handle(ClientRequest request) throws ClientHandlerException {
+      final CallStats callStats = (CallStats) request.getProperties().get(CallStats.PROPERTY);
+      if (callStats == null)
+        return getNext().handle(request);
+
+      if (request.getEntity() == null)
+        callStats.requestBytes = 0;
+      request.setAdapter(new AbstractClientRequestAdapter(request.getAdapter()) {
+        @Override
+        public OutputStream adapt(ClientRequest request, OutputStream stream) throws IOException {
+          // called for each attempt: only count the last one
+          callStats.requestBytes = 0;
+          return new FilterOutputStream(getAdapter().adapt(request, stream)) {
+            @Override
+            public void write(int b) throws IOException {
+              out.write(b);
+              callStats.requestBytes++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+              out.write(b, off, len);
+              callStats.requestBytes += len;
+            }
+          };
+        }
+      });
+
+      ClientResponse response = getNext().handle(request);
+      if (response.getEntityInputStream() != null) {
+        callStats.responseBytes = 0;
+        response.setEntityInputStream(new FilterInputStream(response.getEntityInputStream()) {
+          @Override
+          public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0)
+              callStats.responseBytes++;
+            return b;
+          }
+
+          @Override
+          public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0)
+              callStats.responseBytes += n;
+            return n;
+          }
+        });
+      }
+      return response;
+    }
+  }
+
+  /**
+   * The statistics of a call collected by the client filters, for the metrics listener.
+   */
+  private static class CallStats {
+    static final String PROPERTY = CallStats.class.getName();
+
+    volatile long requestBytes = -1;
+    volatile long responseBytes = -1;
+    volatile int retries = 0;
+
+    ApiMetricsListener.CallMetrics toMetrics(String operationId, String method, int statusCode, long start, Throwable error) {
+      return new ApiMetricsListener.CallMetrics(operationId, method, statusCode, System.nanoTime() - start, requestBytes, responseBytes, retries, error);
+    }
+  }
 }
@@ -0,0 +1,113 @@
+package io.swagger.client;
+
+/**
+ * Listener of the metrics of the API calls, see {@link ApiClient#setMetricsListener(ApiMetricsListener)}.
+ *
+ * Listeners are called synchronously by the thread making the call (or, for asynchronous
+ * calls, by the thread executing it), so they should return quickly.
+ *
+ * @see HistogramMetricsListener
+ */
+@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2026-10-19T18:04:43.445Z")
+public interface ApiMetricsListener {
+  /**
+   * Called when an API call is completed, successfully or not.
+   *
+   * @param metrics The metrics of the call
+   */
+  void onCallCompleted(CallMetrics metrics);
+
+  /**
+   * The metrics of an API call.
+   */
+  class CallMetrics {
+    private final String operationId;
+    private final String method;
+    private final int statusCode;
+    private final long latencyNanos;
+    private final long requestBytes;
+    private final long responseBytes;
+    private final int retries;
+    private final Throwable error;
+    private final boolean cached;
+
+    public CallMetrics(String operationId, String method, int statusCode, long latencyNanos, long requestBytes, long responseBytes, int retries, Throwable error) {
+      this(operationId, method, statusCode, latencyNanos, requestBytes, responseBytes, retries, error, false);
+    }
+
+    public CallMetrics(String operationId, String method, int statusCode, long latencyNanos, long requestBytes, long responseBytes, int retries, Throwable error, boolean cached) {
+      this.operationId = operationId;
+      this.method = method;
+      this.statusCode = statusCode;
+      this.latencyNanos = latencyNanos;
+      this.requestBytes = requestBytes;
+      this.responseBytes = responseBytes;
+      this.retries = retries;
+      this.error = error;
+      this.cached = cached;
+    }
+
+    /**
+     * The operationId of the called operation, null for calls not made through a generated API class.
+     */
+    public String getOperationId() {
+      return operationId;
+    }
+
+    /**
+     * The HTTP method.
+     */
+    public String getMethod() {
+      return method;
+    }
+
+    /**
+     * The status code of the (last) response, 0 if no response was received.
+     */
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    /**
+     * The duration of the call (including retries) in nanoseconds.
+     */
+    public long getLatencyNanos() {
+      return latencyNanos;
+    }
+
+    /**
+     * The size of the request body in bytes, -1 if unknown.
+     */
+    public long getRequestBytes() {
+      return requestBytes;
+    }
+
+    /**
+     * The size of the response body in bytes (as sent, i.e. compressed), -1 if unknown.
+     */
+    public long getResponseBytes() {
+      return responseBytes;
+    }
+
+    /**
+     * The number of retries made according to the retry policy.
+     */
+    public int getRetries() {
+      return retries;
+    }
+
+    /**
+     * The error of a call which did not get a response, null otherwise.
+     */
+    public Throwable getError() {
+      return error;
+    }
+
+    /**
+     * Whether the response was served from the cache, without a request.
+     */
+    public boolean isCached() {
+      return cached;
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package io.swagger.client;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lazy iterator over the items of a paginated operation.
+ *
+ * The first page is fetched on the first call to {@link #hasNext()}. While the items
+ * of a page are consumed, the next page is fetched in the background, so that at most
+ * two pages are held in memory and the latency of a request is hidden by the processing
+ * of the previous page. The next page is fetched on the given executor, usually the one
+ * of the API client (see <code>ApiClient.getPageExecutor()</code>).
+ *
+ * Errors while fetching a page are thrown as {@link PageIterator.PageException} by
+ * {@link #hasNext()} and {@link #next()}.
+ *
+ * @param <T> The type of the items
+ */
+@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2026-10-19T18:03:05.637Z")
+public class PageIterator<T> implements Iterator<T>, Iterable<T> {
+  private final ExecutorService executor;
+  private final PageFetcher<T> fetcher;
+  private Iterator<T> current;
+  private Future<Page<T>> next;
+  private boolean started = false;
+
+  /**
+   * @param executor The executor prefetching the next page
+   * @param fetcher The fetcher of the pages
+   */
+  public PageIterator(ExecutorService executor, PageFetcher<T> fetcher) {
+    this.executor = executor;
+    this.fetcher = fetcher;
+  }
+
+  /**
+   * Create an executor prefetching pages with at most the given number of daemon threads,
+   * which are stopped when idle.
+   *
+   * @param maxThreads The maximum number of pages fetched at the same time
+   * @return The executor
+   */
+  public static ExecutorService newExecutor(int maxThreads) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "PageIterator");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return this;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (!started) {
+      started = true;
+      try {
+        accept(fetcher.fetch(null));
+      } catch (ApiException e) {
+        throw new PageException(e);
+      }
+    }
+    while (!current.hasNext()) {
+      if (next == null) {
+        return false;
+      }
+      try {
+        accept(next.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PageException(new ApiException(e));
+      } catch (ExecutionException e) {
+        next = null;
+        Throwable cause = e.getCause();
+        throw new PageException(cause instanceof ApiException ? (ApiException) cause : new ApiException(cause));
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Cancel the prefetching of the next page, e.g. when the iteration is stopped early.
+   */
+  public void cancel() {
+    if (next != null) {
+      next.cancel(true);
+      next = null;
+    }
+    current = Collections.<T>emptyList().iterator();
+    started = true;
+  }
+
+  /**
+   * Start consuming the given page and prefetch the one after it.
+   */
+  private void accept(Page<T> page) {
+    List<T> items = page.getItems();
+    current = items == null ? Collections.<T>emptyList().iterator() : items.iterator();
+    final Object cursor = page.getNextCursor();
+    if (cursor == null || "".equals(cursor)) {
+      next = null;
+    } else {
+      next = executor.submit(new Callable<Page<T>>() {
+        @Override
+        public Page<T> call() throws ApiException {
+          return fetcher.fetch(cursor);
+        }
+      });
+    }
+  }
+
+  /**
+   * Fetches the pages of a paginated operation.
+   */
+  public interface PageFetcher<T> {
+    /**
+     * @param cursor The cursor (or offset) of the page, null for the first page
+     * @return The page
+     */
+    Page<T> fetch(Object cursor) throws ApiException;
+  }
+
+  /**
+   * A page of items.
+   */
+  public static class Page<T> {
+    private final List<T> items;
+    private final Object nextCursor;
+
+    /**
+     * @param items The items of the page
+     * @param nextCursor The cursor (or offset) of the next page, null (or empty) if this is the last page
+     */
+    public Page(List<T> items, Object nextCursor) {
+      this.items = items;
+      this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+      return items;
+    }
+
+    public Object getNextCursor() {
+      return nextCursor;
+    }
+  }
+
+  /**
+   * Thrown by the iterator when a page cannot be fetched.
+   */
+  public static class PageException extends RuntimeException {
+    public PageException(ApiException cause) {
+      super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public ApiException getCause() {
+      return (ApiException) super.getCause();
+    }
+  }
+}
@@ -12,7 +12,7 @@ import java.io.File;
 
 import java.util.*;
 
-@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2016-01-05T14:39:16.440+08:00")
+@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2026-10-19T18:28:11.419Z")
 public class PetApi {
   private ApiClient apiClient;
 
@@ -69,9 +69,10 @@ public class PetApi {
     String[] authNames = new String[] { "petstore_auth" };
 
     
-    apiClient.invokeAPI(path, "PUT", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("updatePet", path, "PUT", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
   /**
    * Add a new pet to the store
@@ -109,9 +110,10 @@ public class PetApi {
     String[] authNames = new String[] { "petstore_auth" };
 
     
-    apiClient.invokeAPI(path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("addPet", path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
   /**
    * Finds Pets by status
@@ -152,9 +154,10 @@ public class PetApi {
 
     
     GenericType<List<Pet>> returnType = new GenericType<List<Pet>>() {};
-    return apiClient.invokeAPI(path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
+    return apiClient.invokeAPI("findPetsByStatus", path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
     
   }
+
   
   /**
    * Finds Pets by tags
@@ -195,9 +198,10 @@ public class PetApi {
 
     
     GenericType<List<Pet>> returnType = new GenericType<List<Pet>>() {};
-    return apiClient.invokeAPI(path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
+    return apiClient.invokeAPI("findPetsByTags", path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
     
   }
+
   
   /**
    * Find pet by ID
@@ -242,9 +246,10 @@ public class PetApi {
 
     
     GenericType<Pet> returnType = new GenericType<Pet>() {};
-    return apiClient.invokeAPI(path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
+    return apiClient.invokeAPI("getPetById", path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
     
   }
+
   
   /**
    * Updates a pet in the store with form data
@@ -294,9 +299,10 @@ public class PetApi {
     String[] authNames = new String[] { "petstore_auth" };
 
     
-    apiClient.invokeAPI(path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("updatePetWithForm", path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
   /**
    * Deletes a pet
@@ -343,9 +349,10 @@ public class PetApi {
     String[] authNames = new String[] { "petstore_auth" };
 
     
-    apiClient.invokeAPI(path, "DELETE", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("deletePet", path, "DELETE", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
   /**
    * uploads an image
@@ -395,8 +402,9 @@ public class PetApi {
     String[] authNames = new String[] { "petstore_auth" };
 
     
-    apiClient.invokeAPI(path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("uploadFile", path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
 }
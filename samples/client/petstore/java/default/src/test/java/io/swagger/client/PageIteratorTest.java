@@ -0,0 +1,108 @@
+package io.swagger.client;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+
+public class PageIteratorTest {
+    /**
+     * Serves the items 0 to 9 in pages of 3, the cursor being the offset of the next page.
+     */
+    static class NumberFetcher implements PageIterator.PageFetcher<Integer> {
+        final List<Object> cursors = Collections.synchronizedList(new ArrayList<Object>());
+        final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+
+        @Override
+        public PageIterator.Page<Integer> fetch(Object cursor) throws ApiException {
+            cursors.add(cursor);
+            threads.add(Thread.currentThread().getName());
+            int offset = cursor == null ? 0 : (Integer) cursor;
+            if (offset == 6 && "fail".equals(Thread.currentThread().getName())) {
+                throw new ApiException(503, "unavailable");
+            }
+            List<Integer> items = new ArrayList<Integer>();
+            for (int i = offset; i < Math.min(offset + 3, 10); i++) {
+                items.add(i);
+            }
+            return new PageIterator.Page<Integer>(items, offset + 3 < 10 ? offset + 3 : null);
+        }
+    }
+
+    @Test
+    public void testIterateAllPages() {
+        NumberFetcher fetcher = new NumberFetcher();
+        List<Integer> items = new ArrayList<Integer>();
+        for (Integer item : new PageIterator<Integer>(new ApiClient().getPageExecutor(), fetcher)) {
+            items.add(item);
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), items);
+        assertEquals(Arrays.<Object>asList(null, 3, 6, 9), fetcher.cursors);
+        // the next pages are prefetched by the executor of the api client
+        assertTrue(fetcher.threads.contains("PageIterator"));
+    }
+
+    @Test
+    public void testConfiguredExecutor() {
+        final AtomicInteger submitted = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                submitted.incrementAndGet();
+                return new Thread(runnable, "custom");
+            }
+        });
+        ApiClient apiClient = new ApiClient().setPageExecutor(executor);
+        assertSame(executor, apiClient.getPageExecutor());
+
+        NumberFetcher fetcher = new NumberFetcher();
+        int count = 0;
+        for (Integer item : new PageIterator<Integer>(apiClient.getPageExecutor(), fetcher)) {
+            count++;
+        }
+        assertEquals(10, count);
+        assertEquals(new HashSet<String>(Arrays.asList(Thread.currentThread().getName(), "custom")), fetcher.threads);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testPageError() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "fail");
+            }
+        });
+        PageIterator<Integer> iterator = new PageIterator<Integer>(executor, new NumberFetcher());
+        int count = 0;
+        try {
+            while (iterator.hasNext()) {
+                iterator.next();
+                count++;
+            }
+            fail("expected a PageException");
+        } catch (PageIterator.PageException e) {
+            assertEquals(503, e.getCause().getCode());
+        }
+        assertEquals(6, count);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testDefaultExecutor() throws Exception {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) PageIterator.newExecutor(2);
+        assertEquals(2, executor.getMaximumPoolSize());
+        assertTrue(executor.allowsCoreThreadTimeOut());
+        final boolean[] daemon = new boolean[1];
+        executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                daemon[0] = Thread.currentThread().isDaemon();
+            }
+        }).get();
+        assertTrue(daemon[0]);
+    }
+}
@@ -0,0 +1,102 @@
+package io.swagger.client;
+
+import io.swagger.client.api.PetApi;
+import io.swagger.client.auth.ApiKeyAuth;
+import io.swagger.client.model.Pet;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+
+/**
+ * Caching against a stub server answering with cacheable responses, named after the credentials of the caller.
+ */
+public class ResponseCacheTest {
+    HttpServer server = null;
+    PetApi api = null;
+    final AtomicInteger requests = new AtomicInteger();
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/pet", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                requests.incrementAndGet();
+                String caller = exchange.getRequestHeaders().getFirst("api_key") + "/" + exchange.getRequestHeaders().getFirst("X-Tenant");
+                byte[] body = ("{\"id\":1,\"name\":\"" + caller + "\",\"photoUrls\":[]}").getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.getResponseHeaders().add("Cache-Control", "max-age=60");
+                exchange.sendResponseHeaders(200, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+
+        ApiClient apiClient = new ApiClient();
+        apiClient.setBasePath("http://localhost:" + server.getAddress().getPort() + "/v2");
+        apiClient.setResponseCache(new ResponseCache(100));
+        api = new PetApi(apiClient);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private void setApiKey(String apiKey) {
+        ((ApiKeyAuth) api.getApiClient().getAuthentication("api_key")).setApiKey(apiKey);
+    }
+
+    @Test
+    public void testFreshResponseIsCached() throws ApiException {
+        setApiKey("alice");
+        assertEquals("alice/null", api.getPetById(1L).getName());
+        assertEquals("alice/null", api.getPetById(1L).getName());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testCredentialsDoNotShareCacheEntries() throws ApiException {
+        setApiKey("alice");
+        assertEquals("alice/null", api.getPetById(1L).getName());
+        setApiKey("bob");
+        assertEquals("bob/null", api.getPetById(1L).getName());
+        assertEquals(2, requests.get());
+
+        // both responses are cached
+        setApiKey("alice");
+        assertEquals("alice/null", api.getPetById(1L).getName());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testDefaultHeadersDoNotShareCacheEntries() throws ApiException {
+        setApiKey("alice");
+        api.getApiClient().addDefaultHeader("X-Tenant", "one");
+        assertEquals("alice/one", api.getPetById(1L).getName());
+        api.getApiClient().addDefaultHeader("X-Tenant", "two");
+        assertEquals("alice/two", api.getPetById(1L).getName());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testOtherMethodsInvalidateCacheEntries() throws ApiException {
+        setApiKey("alice");
+        api.getPetById(1L);
+        api.deletePet(1L, null);
+        api.getPetById(1L);
+        assertEquals(3, requests.get());
+    }
+}
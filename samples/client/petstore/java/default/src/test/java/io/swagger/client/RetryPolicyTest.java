@@ -0,0 +1,122 @@
+package io.swagger.client;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+
+public class RetryPolicyTest {
+    RetryPolicy policy = null;
+
+    @Before
+    public void setup() {
+        policy = new RetryPolicy();
+    }
+
+    @Test
+    public void testBackoffBounds() {
+        policy.setJitter(false).setInitialBackoffMillis(100).setMultiplier(2.0).setMaxBackoffMillis(1000);
+        assertEquals(100, policy.getDelayMillis(1, null));
+        assertEquals(200, policy.getDelayMillis(2, null));
+        assertEquals(400, policy.getDelayMillis(3, null));
+        assertEquals(800, policy.getDelayMillis(4, null));
+        // capped at the max backoff
+        assertEquals(1000, policy.getDelayMillis(5, null));
+        assertEquals(1000, policy.getDelayMillis(20, null));
+    }
+
+    @Test
+    public void testJitterRange() {
+        policy.setInitialBackoffMillis(100).setMultiplier(2.0).setMaxBackoffMillis(1000);
+        Set<Long> delays = new HashSet<Long>();
+        for (int i = 0; i < 1000; i++) {
+            long delay = policy.getDelayMillis(3, null);
+            assertTrue(delay >= 0);
+            assertTrue(delay <= 400);
+            delays.add(delay);
+        }
+        // the delays are spread over the range
+        assertTrue(delays.size() > 10);
+
+        for (int i = 0; i < 1000; i++) {
+            long delay = policy.getDelayMillis(10, null);
+            assertTrue(delay >= 0);
+            assertTrue(delay <= 1000);
+        }
+    }
+
+    @Test
+    public void testRetryableStatusCodes() {
+        assertTrue(policy.shouldRetry("GET", 1, 429));
+        assertTrue(policy.shouldRetry("GET", 1, 503));
+        // connection error
+        assertTrue(policy.shouldRetry("GET", 1, 0));
+        assertFalse(policy.shouldRetry("GET", 1, 200));
+        assertFalse(policy.shouldRetry("GET", 1, 404));
+        assertFalse(policy.shouldRetry("GET", 1, 500));
+
+        policy.setRetryableStatusCodes(new HashSet<Integer>(Arrays.asList(500)));
+        assertTrue(policy.shouldRetry("GET", 1, 500));
+        assertFalse(policy.shouldRetry("GET", 1, 503));
+    }
+
+    @Test
+    public void testMaxAttempts() {
+        policy.setMaxAttempts(3);
+        assertTrue(policy.shouldRetry("GET", 1, 503));
+        assertTrue(policy.shouldRetry("GET", 2, 503));
+        assertFalse(policy.shouldRetry("GET", 3, 503));
+
+        policy.setMaxAttempts(1);
+        assertFalse(policy.shouldRetry("GET", 1, 503));
+    }
+
+    @Test
+    public void testIdempotentMethods() {
+        for (String method : Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "get")) {
+            assertTrue(method, policy.shouldRetry(method, 1, 503));
+        }
+        assertFalse(policy.shouldRetry("POST", 1, 503));
+        assertFalse(policy.shouldRetry("PATCH", 1, 503));
+        assertFalse(policy.shouldRetry("POST", 1, 0));
+
+        policy.setIdempotentOnly(false);
+        assertTrue(policy.shouldRetry("POST", 1, 503));
+        assertTrue(policy.shouldRetry("PATCH", 1, 0));
+    }
+
+    @Test
+    public void testRetryAfterSeconds() {
+        policy.setMaxBackoffMillis(10000);
+        assertEquals(3000, policy.getDelayMillis(1, "3"));
+        assertEquals(0, policy.getDelayMillis(1, "0"));
+        assertEquals(0, policy.getDelayMillis(1, "-5"));
+        // capped at the max backoff
+        assertEquals(10000, policy.getDelayMillis(1, "120"));
+    }
+
+    @Test
+    public void testRetryAfterDate() {
+        policy.setMaxBackoffMillis(60000);
+        SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+        format.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        long delay = policy.getDelayMillis(1, format.format(new Date(System.currentTimeMillis() + 30000)));
+        assertTrue(delay > 25000);
+        assertTrue(delay <= 30000);
+        // dates in the past do not delay
+        assertEquals(0, policy.getDelayMillis(1, format.format(new Date(System.currentTimeMillis() - 30000))));
+    }
+
+    @Test
+    public void testInvalidOrIgnoredRetryAfter() {
+        policy.setJitter(false).setInitialBackoffMillis(100);
+        // falls back to the backoff
+        assertEquals(100, policy.getDelayMillis(1, "soon"));
+
+        policy.setRespectRetryAfter(false);
+        assertEquals(100, policy.getDelayMillis(1, "3"));
+    }
+}
@@ -0,0 +1,117 @@
+package io.swagger.client;
+
+import io.swagger.client.api.PetApi;
+import io.swagger.client.model.Pet;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+
+/**
+ * Retries against a stub server answering with the given status codes, then with 200.
+ */
+public class RetryTest {
+    HttpServer server = null;
+    PetApi api = null;
+    final AtomicInteger attempts = new AtomicInteger();
+    final List<Integer> statusCodes = Collections.synchronizedList(new ArrayList<Integer>());
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/pet", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                attempts.incrementAndGet();
+                int status = statusCodes.isEmpty() ? 200 : statusCodes.remove(0);
+                byte[] body = (status == 200 ? "{\"id\":1,\"name\":\"doggie\",\"photoUrls\":[]}" : "{}").getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                if (status == 429) {
+                    exchange.getResponseHeaders().add("Retry-After", "0");
+                }
+                exchange.sendResponseHeaders(status, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+
+        ApiClient apiClient = new ApiClient();
+        apiClient.setBasePath("http://localhost:" + server.getAddress().getPort() + "/v2");
+        apiClient.setRetryPolicy(new RetryPolicy().setMaxAttempts(3).setInitialBackoffMillis(10));
+        api = new PetApi(apiClient);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testRetryUntilSuccess() throws ApiException {
+        statusCodes.addAll(Arrays.asList(503, 429));
+        Pet pet = api.getPetById(1L);
+        assertEquals("doggie", pet.getName());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testGiveUpAfterMaxAttempts() {
+        statusCodes.addAll(Arrays.asList(503, 503, 503, 503));
+        try {
+            api.getPetById(1L);
+            fail("expected an ApiException");
+        } catch (ApiException e) {
+            assertEquals(503, e.getCode());
+        }
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testNonRetryableStatusCode() {
+        statusCodes.addAll(Arrays.asList(404));
+        try {
+            api.getPetById(1L);
+            fail("expected an ApiException");
+        } catch (ApiException e) {
+            assertEquals(404, e.getCode());
+        }
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testNonIdempotentMethod() {
+        statusCodes.addAll(Arrays.asList(503));
+        try {
+            api.addPet(new Pet());
+            fail("expected an ApiException");
+        } catch (ApiException e) {
+            assertEquals(503, e.getCode());
+        }
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testRetriesDisabled() {
+        api.getApiClient().setRetryPolicy(null);
+        statusCodes.addAll(Arrays.asList(503));
+        try {
+            api.getPetById(1L);
+            fail("expected an ApiException");
+        } catch (ApiException e) {
+            assertEquals(503, e.getCode());
+        }
+        assertEquals(1, attempts.get());
+    }
+}
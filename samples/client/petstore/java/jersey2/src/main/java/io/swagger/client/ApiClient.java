@@ -1,15 +1,21 @@
 package io.swagger.client;
 
+import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.Priorities;
 import javax.ws.rs.core.Form;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
 
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.filter.LoggingFilter;
@@ -17,6 +23,7 @@ import org.glassfish.jersey.media.multipart.FormDataBodyPart;
 import org.glassfish.jersey.media.multipart.FormDataContentDisposition;
 import org.glassfish.jersey.media.multipart.MultiPart;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
+import org.glassfish.jersey.message.GZipEncoder;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -27,11 +34,18 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
 
 import java.net.URLEncoder;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.zip.GZIPOutputStream;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
@@ -41,12 +55,18 @@ import io.swagger.client.auth.HttpBasicAuth;
 import io.swagger.client.auth.ApiKeyAuth;
 import io.swagger.client.auth.OAuth;
 
-@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2016-01-05T14:39:17.660+08:00")
+@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2026-10-19T18:04:44.645Z")
 public class ApiClient {
   private Client client;
   private Map<String, Client> hostMap = new HashMap<String, Client>();
   private Map<String, String> defaultHeaderMap = new HashMap<String, String>();
   private boolean debugging = false;
+  private boolean acceptGzip = true;
+  private long gzipRequestThreshold = -1;
+  private RetryPolicy retryPolicy;
+  private ResponseCache responseCache;
+  private ApiMetricsListener metricsListener;
+  private ExecutorService pageExecutor;
   private String basePath = "http://petstore.swagger.io/v2";
   private JSON json = new JSON();
 
@@ -74,8 +94,8 @@ public class ApiClient {
 
     // Setup authentications (key: authentication name, value: authentication).
     authentications = new HashMap<String, Authentication>();
-    authentications.put("api_key", new ApiKeyAuth("header", "api_key"));
     authentications.put("petstore_auth", new OAuth());
+    authentications.put("api_key", new ApiKeyAuth("header", "api_key"));
     // Prevent the authentications from being modified.
     authentications = Collections.unmodifiableMap(authentications);
   }
@@ -229,6 +249,114 @@ public class ApiClient {
     return this;
   }
 
+  /**
+   * Check whether gzip-encoded responses are requested with the "Accept-Encoding" header.
+   */
+  public boolean isAcceptGzip() {
+    return acceptGzip;
+  }
+
+  /**
+   * Enable/disable requesting gzip-encoded responses (enabled by default).
+   * Responses sent with "Content-Encoding: gzip" are always decoded transparently.
+   *
+   * @param acceptGzip To enable (true) or disable (false) gzip response negotiation
+   */
+  public ApiClient setAcceptGzip(boolean acceptGzip) {
+    this.acceptGzip = acceptGzip;
+    return this;
+  }
+
+  /**
+   * Minimum size (in bytes) of a request body to be gzip-compressed before sending.
+   * A negative value (the default) disables request compression.
+   */
+  public long getGzipRequestThreshold() {
+    return gzipRequestThreshold;
+  }
+
+  /**
+   * Compress request bodies that are at least the given size (in bytes) with gzip
+   * and send them with the "Content-Encoding: gzip" header.
+   * Use a negative value to disable request compression.
+   * NOTE: Only enable this when the server supports gzip-encoded request bodies.
+   */
+  public ApiClient setGzipRequestThreshold(long gzipRequestThreshold) {
+    this.gzipRequestThreshold = gzipRequestThreshold;
+    return this;
+  }
+
+  /**
+   * Get the retry policy, null when retries are disabled (the default).
+   */
+  public RetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+
+  /**
+   * Set the policy to retry failed calls with exponential backoff.
+   * Use null to disable retries.
+   */
+  public ApiClient setRetryPolicy(RetryPolicy retryPolicy) {
+    this.retryPolicy = retryPolicy;
+    return this;
+  }
+
+  /**
+   * Get the response cache, null when caching is disabled (the default).
+   */
+  public ResponseCache getResponseCache() {
+    return responseCache;
+  }
+
+  /**
+   * Set the in-memory cache of GET responses. Use null to disable caching.
+   *
+   * @see ResponseCache
+   */
+  public ApiClient setResponseCache(ResponseCache responseCache) {
+    this.responseCache = responseCache;
+    return this;
+  }
+
+  /**
+   * Get the metrics listener, null when metrics are disabled (the default).
+   */
+  public ApiMetricsListener getMetricsListener() {
+    return metricsListener;
+  }
+
+  /**
+   * Set the listener of the metrics (latency, status code, sizes, retries and cache hits) of the API calls.
+   * Use null to disable metrics.
+   *
+   * @see HistogramMetricsListener
+   */
+  public ApiClient setMetricsListener(ApiMetricsListener metricsListener) {
+    this.metricsListener = metricsListener;
+    return this;
+  }
+
+  /**
+   * Get the executor prefetching the pages of the page iterators. Unless set,
+   * a pool of at most 4 daemon threads is created on first use.
+   */
+  public synchronized ExecutorService getPageExecutor() {
+    if (pageExecutor == null) {
+      pageExecutor = PageIterator.newExecutor(4);
+    }
+    return pageExecutor;
+  }
+
+  /**
+   * Set the executor prefetching the pages of the page iterators,
+   * which is not shut down by the API client.
+   */
+  public synchronized ApiClient setPageExecutor(ExecutorService pageExecutor) {
+    this.pageExecutor = pageExecutor;
+    return this;
+  }
+
   /**
    * Get the date format used to parse/format date parameters.
    */
@@ -469,6 +597,16 @@ public class ApiClient {
    * @return The response body in type of string
    */
   public <T> T invokeAPI(String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames, GenericType<T> returnType) throws ApiException {
+    return invokeAPI(null, path, method, queryParams, body, headerParams, formParams, accept, contentType, authNames, returnType);
+  }
+
+  /**
+   * Invoke API by sending HTTP request with the given options.
+   *
+   * @param operationId The operationId of the called operation, reported to the metrics listener
+   * @see #invokeAPI(String, String, List, Object, Map, Map, String, String, String[], GenericType)
+   */
+  public <T> T invokeAPI(String operationId, String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames, GenericType<T> returnType) throws ApiException {
     updateParamsForAuth(authNames, queryParams, headerParams);
 
     WebTarget target = client.target(this.basePath).path(path);
@@ -481,6 +619,25 @@ public class ApiClient {
       }
     }
 
+    ApiMetricsListener listener = metricsListener;
+    long start = System.nanoTime();
+    String cacheKey = null;
+    ResponseCache.Entry cacheEntry = null;
+    if (responseCache != null && "GET".equals(method) && returnType != null) {
+      cacheKey = ResponseCache.key(target.getUri().toString(), accept, requestHeaders(headerParams));
+      cacheEntry = responseCache.get(cacheKey);
+      if (cacheEntry != null) {
+        if (cacheEntry.isFresh()) {
+          statusCode = cacheEntry.getStatusCode();
+          responseHeaders = cacheEntry.getHeaders();
+          if (listener != null)
+            listener.onCallCompleted(new ApiMetricsListener.CallMetrics(operationId, method, statusCode, System.nanoTime() - start, 0, 0, 0, null, true));
+          return (T) cacheEntry.getData();
+        }
+        cacheEntry.addConditionalHeaders(headerParams);
+      }
+    }
+
     Invocation.Builder invocationBuilder = target.request().accept(accept);
 
     for (String key : headerParams.keySet()) {
@@ -499,32 +656,79 @@ public class ApiClient {
       }
     }
 
+    if (acceptGzip && !headerParams.containsKey("Accept-Encoding") && !defaultHeaderMap.containsKey("Accept-Encoding")) {
+      invocationBuilder = invocationBuilder.header("Accept-Encoding", "gzip");
+    }
+
     Entity<?> entity = serialize(body, formParams, contentType);
 
+    CallStats callStats = null;
+    if (listener != null) {
+      callStats = new CallStats();
+      // counted by the MetricsInterceptor when a request body is written
+      callStats.requestBytes = 0;
+      invocationBuilder = invocationBuilder.property(CallStats.PROPERTY, callStats);
+    }
+
     Response response = null;
 
-    if ("GET".equals(method)) {
-      response = invocationBuilder.get();
-    } else if ("POST".equals(method)) {
-      response = invocationBuilder.post(entity);
-    } else if ("PUT".equals(method)) {
-      response = invocationBuilder.put(entity);
-    } else if ("DELETE".equals(method)) {
-      response = invocationBuilder.delete();
-    } else {
-      throw new ApiException(500, "unknown method type " + method);
+    int attempt = 1;
+    while (true) {
+      try {
+        response = sendRequest(invocationBuilder, method, entity);
+      } catch (ProcessingException e) {
+        if (retryPolicy == null || !retryPolicy.shouldRetry(method, attempt, 0)) {
+          if (listener != null) {
+            callStats.retries = attempt - 1;
+            listener.onCallCompleted(callStats.toMetrics(operationId, method, 0, start, e));
+          }
+          throw e;
+        }
+        retryPolicy.waitBeforeRetry(attempt, null);
+        attempt++;
+        continue;
+      }
+
+      if (retryPolicy == null || !retryPolicy.shouldRetry(method, attempt, response.getStatus()))
+        break;
+      String retryAfter = response.getHeaderString("Retry-After");
+      response.close();
+      retryPolicy.waitBeforeRetry(attempt, retryAfter);
+      attempt++;
+    }
+
+    if (listener != null)
+      callStats.retries = attempt - 1;
+    try {
+      return readResponse(response, method, target, returnType, cacheKey, cacheEntry);
+    } finally {
+      if (listener != null)
+        listener.onCallCompleted(callStats.toMetrics(operationId, method, response.getStatus(), start, null));
+    }
+  }
+
+  private <T> T readResponse(Response response, String method, WebTarget target, GenericType<T> returnType, String cacheKey, ResponseCache.Entry cacheEntry) throws ApiException {
+    if (responseCache != null && !"GET".equals(method)) {
+      responseCache.invalidate(target.getUri().toString());
     }
 
     statusCode = response.getStatusInfo().getStatusCode();
     responseHeaders = buildResponseHeaders(response);
 
-    if (response.getStatus() == Status.NO_CONTENT.getStatusCode()) {
+    if (cacheEntry != null && response.getStatus() == Status.NOT_MODIFIED.getStatusCode()) {
+      response.close();
+      cacheEntry.refresh(responseHeaders);
+      statusCode = cacheEntry.getStatusCode();
+      return (T) cacheEntry.getData();
+    } else if (response.getStatus() == Status.NO_CONTENT.getStatusCode()) {
       return null;
     } else if (response.getStatusInfo().getFamily().equals(Status.Family.SUCCESSFUL)) {
       if (returnType == null)
         return null;
-      else
-        return deserialize(response, returnType);
+      T data = deserialize(response, returnType);
+      if (cacheKey != null)
+        responseCache.put(cacheKey, data, statusCode, responseHeaders);
+      return data;
     } else {
       String message = "error";
       String respBody = null;
@@ -544,11 +748,31 @@ public class ApiClient {
     }
   }
 
+  private Response sendRequest(Invocation.Builder invocationBuilder, String method, Entity<?> entity) throws ApiException {
+    if ("GET".equals(method)) {
+      return invocationBuilder.get();
+    } else if ("POST".equals(method)) {
+      return invocationBuilder.post(entity);
+    } else if ("PUT".equals(method)) {
+      return invocationBuilder.put(entity);
+    } else if ("DELETE".equals(method)) {
+      return invocationBuilder.delete();
+    } else {
+      throw new ApiException(500, "unknown method type " + method);
+    }
+  }
+
   private void buildClient() {
     final ClientConfig clientConfig = new ClientConfig();
     clientConfig.register(MultiPartFeature.class);
     clientConfig.register(json);
     clientConfig.register(org.glassfish.jersey.jackson.JacksonFeature.class);
+    // decode gzip-encoded responses
+    clientConfig.register(GZipEncoder.class);
+    // must run before GZipEncoder so that it sees the uncompressed entity
+    clientConfig.register(new GzipRequestInterceptor(), Priorities.ENTITY_CODER - 100);
+    // must run before the other interceptors so that it counts the bytes as sent and received
+    clientConfig.register(new MetricsInterceptor(), Priorities.ENTITY_CODER - 200);
     if (debugging) {
       clientConfig.register(LoggingFilter.class);
     }
@@ -568,6 +792,16 @@ public class ApiClient {
     return responseHeaders;
   }
 
+  /**
+   * Get the headers sent with a request: the default headers, overridden by
+   * the header parameters (which include the authentication headers).
+   */
+  private Map<String, String> requestHeaders(Map<String, String> headerParams) {
+    Map<String, String> headers = new HashMap<String, String>(defaultHeaderMap);
+    headers.putAll(headerParams);
+    return headers;
+  }
+
   /**
    * Update query and header parameters based on authentication settings.
    *
@@ -580,4 +814,108 @@ public class ApiClient {
       auth.applyToParams(queryParams, headerParams);
     }
   }
+
+  /**
+   * Compress the serialized request entity with gzip when it is at least
+   * <code>gzipRequestThreshold</code> bytes long.
+   */
+  private class GzipRequestInterceptor implements WriterInterceptor {
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+      if (gzipRequestThreshold < 0) {
+        context.proceed();
+        return;
+      }
+
+      final OutputStream originalStream = context.getOutputStream();
+      final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      context.setOutputStream(buffer);
+      context.proceed();
+      context.setOutputStream(originalStream);
+
+      // headers are not committed until the first byte is written to the original stream
+      if (buffer.size() >= gzipRequestThreshold) {
+        context.getHeaders().putSingle("Content-Encoding", "gzip");
+        GZIPOutputStream gzipStream = new GZIPOutputStream(originalStream);
+        buffer.writeTo(gzipStream);
+        gzipStream.finish();
+      } else {
+        buffer.writeTo(originalStream);
+      }
+    }
+  }
+
+  /**
+   * Count the bytes of the request and response bodies of the calls reporting metrics.
+   */
+  private static class MetricsInterceptor implements WriterInterceptor, ReaderInterceptor {
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+      final CallStats callStats = (CallStats) context.getProperty(CallStats.PROPERTY);
+      if (callStats == null) {
+        context.proceed();
+        return;
+      }
+
+      // called for each attempt: only count the last one
+      callStats.requestBytes = 0;
+      context.setOutputStream(new FilterOutputStream(context.getOutputStream()) {
+        @Override
+        public void write(int b) throws IOException {
+          out.write(b);
+          callStats.requestBytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          out.write(b, off, len);
+          callStats.requestBytes += len;
+        }
+      });
+      context.proceed();
+    }
+
+    @Override
+    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+      final CallStats callStats = (CallStats) context.getProperty(CallStats.PROPERTY);
+      if (callStats == null) {
+        return context.proceed();
+      }
+
+      callStats.responseBytes = 0;
+      context.setInputStream(new FilterInputStream(context.getInputStream()) {
+        @Override
+        public int read() throws IOException {
+          int b = in.read();
+          if (b >= 0)
+            callStats.responseBytes++;
+          return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+          int n = in.read(b, off, len);
+          if (n > 0)
+            callStats.responseBytes += n;
+          return n;
+        }
+      });
+      return context.proceed();
+    }
+  }
+
+  /**
+   * The statistics of a call collected by the interceptors, for the metrics listener.
+   */
+  private static class CallStats {
+    static final String PROPERTY = CallStats.class.getName();
+
+    volatile long requestBytes = -1;
+    volatile long responseBytes = -1;
+    volatile int retries = 0;
+
+    ApiMetricsListener.CallMetrics toMetrics(String operationId, String method, int statusCode, long start, Throwable error) {
+      return new ApiMetricsListener.CallMetrics(operationId, method, statusCode, System.nanoTime() - start, requestBytes, responseBytes, retries, error);
+    }
+  }
 }
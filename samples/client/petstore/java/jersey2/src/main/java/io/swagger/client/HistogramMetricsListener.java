@@ -0,0 +1,226 @@
+package io.swagger.client;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory metrics of the API calls, aggregated by operationId.
+ *
+ * Latencies are recorded in a histogram with exponentially growing buckets (5% wide),
+ * so that percentiles can be computed in constant memory with a relative error below 5%.
+ *
+ * <pre>
+ * HistogramMetricsListener metrics = new HistogramMetricsListener();
+ * apiClient.setMetricsListener(metrics);
+ * ...
+ * double p99 = metrics.getStats("getPetById").getLatencyPercentileMillis(99);
+ * </pre>
+ */
+@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2026-10-19T18:04:44.645Z")
+public class HistogramMetricsListener implements ApiMetricsListener {
+  /**
+   * The key of the calls without operationId.
+   */
+  public static final String UNKNOWN_OPERATION = "<unknown>";
+
+  private final ConcurrentMap<String, OperationStats> stats = new ConcurrentHashMap<String, OperationStats>();
+
+  @Override
+  public void onCallCompleted(CallMetrics metrics) {
+    String operationId = metrics.getOperationId() == null ? UNKNOWN_OPERATION : metrics.getOperationId();
+    OperationStats operationStats = stats.get(operationId);
+    if (operationStats == null) {
+      OperationStats created = new OperationStats();
+      operationStats = stats.putIfAbsent(operationId, created);
+      if (operationStats == null) {
+        operationStats = created;
+      }
+    }
+    operationStats.record(metrics);
+  }
+
+  /**
+   * Get the metrics of the given operation, null if it has not been called.
+   */
+  public OperationStats getStats(String operationId) {
+    return stats.get(operationId);
+  }
+
+  /**
+   * Get the metrics of all called operations, by operationId.
+   */
+  public Map<String, OperationStats> getAllStats() {
+    return Collections.unmodifiableMap(new TreeMap<String, OperationStats>(stats));
+  }
+
+  /**
+   * Discard all recorded metrics.
+   */
+  public void reset() {
+    stats.clear();
+  }
+
+  /**
+   * The aggregated metrics of an operation.
+   */
+  public static class OperationStats {
+    private static final double BUCKET_GROWTH = 1.05;
+    // the first bucket holds latencies up to 1 microsecond, the last one those over ~ 16 minutes
+    private static final int BUCKETS = 425;
+    private static final double LOG_GROWTH = Math.log(BUCKET_GROWTH);
+
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final AtomicLong requestBytes = new AtomicLong();
+    private final AtomicLong responseBytes = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final ConcurrentMap<Integer, AtomicLong> statusCodes = new ConcurrentHashMap<Integer, AtomicLong>();
+
+    void record(CallMetrics metrics) {
+      long latency = Math.max(0, metrics.getLatencyNanos());
+      latencyBuckets.incrementAndGet(bucket(latency));
+      count.incrementAndGet();
+      totalLatencyNanos.addAndGet(latency);
+      long max = maxLatencyNanos.get();
+      while (latency > max && !maxLatencyNanos.compareAndSet(max, latency)) {
+        max = maxLatencyNanos.get();
+      }
+      if (metrics.getError() != null || metrics.getStatusCode() == 0 || metrics.getStatusCode() >= 400) {
+        errors.incrementAndGet();
+      }
+      if (metrics.getRequestBytes() > 0) {
+        requestBytes.addAndGet(metrics.getRequestBytes());
+      }
+      if (metrics.getResponseBytes() > 0) {
+        responseBytes.addAndGet(metrics.getResponseBytes());
+      }
+      retries.addAndGet(metrics.getRetries());
+      if (metrics.isCached()) {
+        cacheHits.incrementAndGet();
+      }
+      AtomicLong statusCount = statusCodes.get(metrics.getStatusCode());
+      if (statusCount == null) {
+        AtomicLong created = new AtomicLong();
+        statusCount = statusCodes.putIfAbsent(metrics.getStatusCode(), created);
+        if (statusCount == null) {
+          statusCount = created;
+        }
+      }
+      statusCount.incrementAndGet();
+    }
+
+    private static int bucket(long latencyNanos) {
+      double micros = latencyNanos / 1000.0;
+      if (micros <= 1) {
+        return 0;
+      }
+      return Math.min(BUCKETS - 1, 1 + (int) (Math.log(micros) / LOG_GROWTH));
+    }
+
+    /**
+     * The number of calls.
+     */
+    public long getCount() {
+      return count.get();
+    }
+
+    /**
+     * The number of calls without a response or with an error status code (4xx or 5xx).
+     */
+    public long getErrors() {
+      return errors.get();
+    }
+
+    /**
+     * The number of calls by response status code (0 for calls without a response).
+     */
+    public Map<Integer, Long> getStatusCodes() {
+      Map<Integer, Long> result = new TreeMap<Integer, Long>();
+      for (Map.Entry<Integer, AtomicLong> entry : statusCodes.entrySet()) {
+        result.put(entry.getKey(), entry.getValue().get());
+      }
+      return result;
+    }
+
+    /**
+     * The total size of the request bodies in bytes (of the calls where it is known).
+     */
+    public long getRequestBytes() {
+      return requestBytes.get();
+    }
+
+    /**
+     * The total size of the response bodies in bytes (of the calls where it is known).
+     */
+    public long getResponseBytes() {
+      return responseBytes.get();
+    }
+
+    /**
+     * The total number of retries.
+     */
+    public long getRetries() {
+      return retries.get();
+    }
+
+    /**
+     * The number of calls served from the cache (which are included in the count and latencies).
+     */
+    public long getCacheHits() {
+      return cacheHits.get();
+    }
+
+    public double getMeanLatencyMillis() {
+      long n = count.get();
+      return n == 0 ? 0 : totalLatencyNanos.get() / 1e6 / n;
+    }
+
+    public double getMaxLatencyMillis() {
+      return maxLatencyNanos.get() / 1e6;
+    }
+
+    /**
+     * Get the latency below which the given percentage of the calls completed.
+     *
+     * @param percentile The percentile, e.g. 99 for the 99th percentile
+     * @return The latency in milliseconds (the upper bound of the histogram bucket), 0 if there are no calls
+     */
+    public double getLatencyPercentileMillis(double percentile) {
+      long total = 0;
+      long[] counts = new long[BUCKETS];
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] = latencyBuckets.get(i);
+        total += counts[i];
+      }
+      if (total == 0) {
+        return 0;
+      }
+      long rank = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100.0);
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += counts[i];
+        if (seen >= rank && counts[i] > 0) {
+          // the upper bound of the bucket, capped by the largest recorded latency
+          return Math.min(Math.pow(BUCKET_GROWTH, i) / 1000.0, getMaxLatencyMillis());
+        }
+      }
+      return getMaxLatencyMillis();
+    }
+
+    @Override
+    public String toString() {
+      return String.format("count=%d errors=%d retries=%d cacheHits=%d mean=%.1fms p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms",
+          getCount(), getErrors(), getRetries(), getCacheHits(), getMeanLatencyMillis(), getLatencyPercentileMillis(50),
+          getLatencyPercentileMillis(90), getLatencyPercentileMillis(99), getMaxLatencyMillis());
+    }
+  }
+}
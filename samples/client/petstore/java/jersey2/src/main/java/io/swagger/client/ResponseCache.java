@@ -0,0 +1,213 @@
+package io.swagger.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory LRU cache of deserialized GET responses.
+ *
+ * Responses are cached by URL, Accept header and request headers (the default headers
+ * and the header parameters, which include the authentication headers), so that callers
+ * with different credentials do not share cached responses. A cached response is returned without a request while
+ * it is fresh according to its <code>Cache-Control: max-age</code> directive; afterwards
+ * it is revalidated with <code>If-None-Match</code>/<code>If-Modified-Since</code> and
+ * the cached object is returned on <code>304 Not Modified</code>.
+ * Responses with <code>Cache-Control: no-store</code> are not cached, and a
+ * non-GET call invalidates the cached responses of the same path.
+ *
+ * NOTE: Cached objects are shared between calls and must not be modified.
+ */
+@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2026-10-19T18:01:16.988Z")
+public class ResponseCache {
+  private final int maxEntries;
+  private final Map<String, Entry> entries;
+
+  /**
+   * @param maxEntries The maximum number of responses to keep, least recently used ones are evicted first
+   */
+  public ResponseCache(final int maxEntries) {
+    this.maxEntries = maxEntries;
+    this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > ResponseCache.this.maxEntries;
+      }
+    };
+  }
+
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  /**
+   * Build the cache key of a GET request.
+   *
+   * @param url The full URL including the query string
+   * @param accept The request's Accept header
+   * @param headerParams All the request headers: the default headers, the header parameters and the authentication headers
+   * @return The cache key
+   */
+  public static String key(String url, String accept, Map<String, String> headerParams) {
+    StringBuilder key = new StringBuilder(url).append('\n').append(accept);
+    for (Map.Entry<String, String> header : new TreeMap<String, String>(headerParams).entrySet()) {
+      key.append('\n').append(header.getKey()).append(": ").append(header.getValue());
+    }
+    return key.toString();
+  }
+
+  /**
+   * Get the cached response for the given key, null if not cached.
+   */
+  public synchronized Entry get(String key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Cache the given response data, unless the response headers forbid it
+   * or it could not be revalidated.
+   *
+   * @param key The cache key
+   * @param data The deserialized response body
+   * @param statusCode The response status code
+   * @param responseHeaders The response headers
+   */
+  public void put(String key, Object data, int statusCode, Map<String, List<String>> responseHeaders) {
+    String cacheControl = header(responseHeaders, "Cache-Control");
+    if (cacheControl != null && cacheControl.matches("(?i).*\\bno-store\\b.*")) {
+      remove(key);
+      return;
+    }
+    Entry entry = new Entry(data, statusCode, responseHeaders);
+    if (entry.etag == null && entry.lastModified == null && !entry.isFresh()) {
+      // neither fresh nor revalidatable
+      remove(key);
+      return;
+    }
+    synchronized (this) {
+      entries.put(key, entry);
+    }
+  }
+
+  /**
+   * Remove the cached response for the given key.
+   */
+  public synchronized void remove(String key) {
+    entries.remove(key);
+  }
+
+  /**
+   * Remove all cached responses of the given URL's path (ignoring the query string).
+   */
+  public synchronized void invalidate(String url) {
+    String path = stripQuery(url);
+    Iterator<String> keys = entries.keySet().iterator();
+    while (keys.hasNext()) {
+      if (stripQuery(keys.next()).equals(path)) {
+        keys.remove();
+      }
+    }
+  }
+
+  /**
+   * Remove all cached responses.
+   */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  private static String stripQuery(String urlOrKey) {
+    int end = urlOrKey.indexOf('\n');
+    String url = end < 0 ? urlOrKey : urlOrKey.substring(0, end);
+    int query = url.indexOf('?');
+    return query < 0 ? url : url.substring(0, query);
+  }
+
+  /**
+   * Get the first value of the given header (case-insensitive), null if absent.
+   */
+  private static String header(Map<String, List<String>> headers, String name) {
+    if (headers == null) return null;
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey()) && header.getValue() != null && !header.getValue().isEmpty()) {
+        return header.getValue().get(0);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A cached response.
+   */
+  public static class Entry {
+    private final Object data;
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final String etag;
+    private final String lastModified;
+    private volatile long expiresAt;
+
+    Entry(Object data, int statusCode, Map<String, List<String>> headers) {
+      this.data = data;
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.etag = header(headers, "ETag");
+      this.lastModified = header(headers, "Last-Modified");
+      refresh(headers);
+    }
+
+    public Object getData() {
+      return data;
+    }
+
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+      return headers;
+    }
+
+    /**
+     * Whether the response can be used without revalidation.
+     */
+    public boolean isFresh() {
+      return System.currentTimeMillis() < expiresAt;
+    }
+
+    /**
+     * Add the conditional headers to revalidate this response.
+     */
+    public void addConditionalHeaders(Map<String, String> headerParams) {
+      if (etag != null) {
+        headerParams.put("If-None-Match", etag);
+      }
+      if (lastModified != null) {
+        headerParams.put("If-Modified-Since", lastModified);
+      }
+    }
+
+    /**
+     * Update the freshness from the headers of a response (e.g. 304 Not Modified).
+     */
+    public void refresh(Map<String, List<String>> responseHeaders) {
+      String cacheControl = header(responseHeaders, "Cache-Control");
+      long maxAge = 0;
+      if (cacheControl != null && !cacheControl.matches("(?i).*\\bno-cache\\b.*")) {
+        for (String directive : cacheControl.split(",")) {
+          String[] parts = directive.trim().split("=", 2);
+          if (parts.length == 2 && "max-age".equalsIgnoreCase(parts[0].trim())) {
+            try {
+              maxAge = Long.parseLong(parts[1].trim().replace("\"", ""));
+            } catch (NumberFormatException e) {
+              maxAge = 0;
+            }
+          }
+        }
+      }
+      this.expiresAt = System.currentTimeMillis() + maxAge * 1000;
+    }
+  }
+}
@@ -12,7 +12,7 @@ import io.swagger.client.model.Order;
 
 import java.util.*;
 
-@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2016-01-05T14:39:17.660+08:00")
+@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2026-10-19T18:28:12.675Z")
 public class StoreApi {
   private ApiClient apiClient;
 
@@ -69,9 +69,10 @@ public class StoreApi {
 
     
     GenericType<Map<String, Integer>> returnType = new GenericType<Map<String, Integer>>() {};
-    return apiClient.invokeAPI(path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
+    return apiClient.invokeAPI("getInventory", path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
     
   }
+
   
   /**
    * Place an order for a pet
@@ -110,9 +111,10 @@ public class StoreApi {
 
     
     GenericType<Order> returnType = new GenericType<Order>() {};
-    return apiClient.invokeAPI(path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
+    return apiClient.invokeAPI("placeOrder", path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
     
   }
+
   
   /**
    * Find purchase order by ID
@@ -157,9 +159,10 @@ public class StoreApi {
 
     
     GenericType<Order> returnType = new GenericType<Order>() {};
-    return apiClient.invokeAPI(path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
+    return apiClient.invokeAPI("getOrderById", path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
     
   }
+
   
   /**
    * Delete purchase order by ID
@@ -203,8 +206,9 @@ public class StoreApi {
     String[] authNames = new String[] {  };
 
     
-    apiClient.invokeAPI(path, "DELETE", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("deleteOrder", path, "DELETE", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
 }
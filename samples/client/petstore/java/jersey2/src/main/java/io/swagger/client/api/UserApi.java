@@ -12,7 +12,7 @@ import java.util.*;
 
 import java.util.*;
 
-@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2016-01-05T14:39:17.660+08:00")
+@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2026-10-19T18:28:12.675Z")
 public class UserApi {
   private ApiClient apiClient;
 
@@ -69,9 +69,10 @@ public class UserApi {
     String[] authNames = new String[] {  };
 
     
-    apiClient.invokeAPI(path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("createUser", path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
   /**
    * Creates list of users with given input array
@@ -109,9 +110,10 @@ public class UserApi {
     String[] authNames = new String[] {  };
 
     
-    apiClient.invokeAPI(path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("createUsersWithArrayInput", path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
   /**
    * Creates list of users with given input array
@@ -149,9 +151,10 @@ public class UserApi {
     String[] authNames = new String[] {  };
 
     
-    apiClient.invokeAPI(path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("createUsersWithListInput", path, "POST", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
   /**
    * Logs user into the system
@@ -195,9 +198,10 @@ public class UserApi {
 
     
     GenericType<String> returnType = new GenericType<String>() {};
-    return apiClient.invokeAPI(path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
+    return apiClient.invokeAPI("loginUser", path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
     
   }
+
   
   /**
    * Logs out current logged in user session
@@ -234,9 +238,10 @@ public class UserApi {
     String[] authNames = new String[] {  };
 
     
-    apiClient.invokeAPI(path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("logoutUser", path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
   /**
    * Get user by user name
@@ -281,9 +286,10 @@ public class UserApi {
 
     
     GenericType<User> returnType = new GenericType<User>() {};
-    return apiClient.invokeAPI(path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
+    return apiClient.invokeAPI("getUserByName", path, "GET", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, returnType);
     
   }
+
   
   /**
    * Updated user
@@ -328,9 +334,10 @@ public class UserApi {
     String[] authNames = new String[] {  };
 
     
-    apiClient.invokeAPI(path, "PUT", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("updateUser", path, "PUT", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
   /**
    * Delete user
@@ -374,8 +381,9 @@ public class UserApi {
     String[] authNames = new String[] {  };
 
     
-    apiClient.invokeAPI(path, "DELETE", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
+    apiClient.invokeAPI("deleteUser", path, "DELETE", queryParams, postBody, headerParams, formParams, accept, contentType, authNames, null);
     
   }
+
   
 }
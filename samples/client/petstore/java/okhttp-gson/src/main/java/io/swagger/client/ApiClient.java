@@ -1,5 +1,6 @@
 package io.swagger.client;
 
+import com.squareup.okhttp.Cache;
 import com.squareup.okhttp.Call;
 import com.squareup.okhttp.Callback;
 import com.squareup.okhttp.OkHttpClient;
@@ -10,6 +11,7 @@ import com.squareup.okhttp.FormEncodingBuilder;
 import com.squareup.okhttp.MultipartBuilder;
 import com.squareup.okhttp.MediaType;
 import com.squareup.okhttp.Headers;
+import com.squareup.okhttp.Interceptor;
 import com.squareup.okhttp.internal.http.HttpMethod;
 
 import java.lang.reflect.Type;
@@ -23,6 +25,7 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -32,6 +35,7 @@ import java.net.URLConnection;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
@@ -56,7 +60,9 @@ import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
 
+import okio.Buffer;
 import okio.BufferedSink;
+import okio.GzipSink;
 import okio.Okio;
 
 import io.swagger.client.auth.Authentication;
@@ -102,6 +108,7 @@ public class ApiClient {
   private boolean debugging = false;
   private Map<String, String> defaultHeaderMap = new HashMap<String, String>();
   private String tempFolderPath = null;
+  private long gzipRequestThreshold = -1;
 
   private Map<String, Authentication> authentications;
 
@@ -116,8 +123,14 @@ public class ApiClient {
   private OkHttpClient httpClient;
   private JSON json;
 
+  private RetryPolicy retryPolicy;
+  private ApiMetricsListener metricsListener;
+  private ExecutorService pageExecutor;
+  private final CallInterceptor callInterceptor = new CallInterceptor();
+
   public ApiClient() {
     httpClient = new OkHttpClient();
+    httpClient.interceptors().add(callInterceptor);
 
     verifyingSsl = true;
 
@@ -141,8 +154,8 @@ public class ApiClient {
 
     // Setup authentications (key: authentication name, value: authentication).
     authentications = new HashMap<String, Authentication>();
-    authentications.put("api_key", new ApiKeyAuth("header", "api_key"));
     authentications.put("petstore_auth", new OAuth());
+    authentications.put("api_key", new ApiKeyAuth("header", "api_key"));
     // Prevent the authentications from being modified.
     authentications = Collections.unmodifiableMap(authentications);
   }
@@ -160,8 +173,84 @@ public class ApiClient {
     return httpClient;
   }
 
+  /**
+   * Set the HTTP client. The API client uses a copy of the given client, with the
+   * interceptor applying the retry policy and reporting the metrics, so that the
+   * given client (which may be shared) is left untouched.
+   */
   public ApiClient setHttpClient(OkHttpClient httpClient) {
-    this.httpClient = httpClient;
+    this.httpClient = httpClient.clone();
+    if (!this.httpClient.interceptors().contains(callInterceptor)) {
+      this.httpClient.interceptors().add(callInterceptor);
+    }
+    return this;
+  }
+
+  /**
+   * Enable the HTTP response cache of the HTTP client, stored in the given directory.
+   * Cached responses are served according to their Cache-Control headers and revalidated
+   * with ETag/Last-Modified; calls other than GET invalidate the cached responses of the same URL.
+   *
+   * @param directory The cache directory, which must be exclusive to this cache
+   * @param maxSize The maximum size of the cache in bytes
+   */
+  public ApiClient setCache(File directory, long maxSize) {
+    httpClient.setCache(new Cache(directory, maxSize));
+    return this;
+  }
+
+  /**
+   * Get the retry policy, null when retries are disabled (the default).
+   */
+  public RetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+
+  /**
+   * Set the policy to retry failed calls (both synchronous and asynchronous)
+   * with exponential backoff. Use null to disable retries.
+   */
+  public ApiClient setRetryPolicy(RetryPolicy retryPolicy) {
+    this.retryPolicy = retryPolicy;
+    return this;
+  }
+
+  /**
+   * Get the metrics listener, null when metrics are disabled (the default).
+   */
+  public ApiMetricsListener getMetricsListener() {
+    return metricsListener;
+  }
+
+  /**
+   * Set the listener of the metrics (latency, status code, sizes, retries and cache hits) of the API calls,
+   * both synchronous and asynchronous. The latency is measured until the response headers are
+   * received. Use null to disable metrics.
+   *
+   * @see HistogramMetricsListener
+   */
+  public ApiClient setMetricsListener(ApiMetricsListener metricsListener) {
+    this.metricsListener = metricsListener;
+    return this;
+  }
+
+  /**
+   * Get the executor prefetching the pages of the page iterators. Unless set,
+   * a pool of at most 4 daemon threads is created on first use.
+   */
+  public synchronized ExecutorService getPageExecutor() {
+    if (pageExecutor == null) {
+      pageExecutor = PageIterator.newExecutor(4);
+    }
+    return pageExecutor;
+  }
+
+  /**
+   * Set the executor prefetching the pages of the page iterators,
+   * which is not shut down by the API client.
+   */
+  public synchronized ApiClient setPageExecutor(ExecutorService pageExecutor) {
+    this.pageExecutor = pageExecutor;
     return this;
   }
 
@@ -471,6 +560,26 @@ public class ApiClient {
     return this;
   }
 
+  /**
+   * Minimum size (in bytes) of a request body to be gzip-compressed before sending.
+   * A negative value (the default) disables request compression.
+   * NOTE: Responses are always negotiated and decoded with gzip transparently by OkHttp.
+   */
+  public long getGzipRequestThreshold() {
+    return gzipRequestThreshold;
+  }
+
+  /**
+   * Compress request bodies that are at least the given size (in bytes) with gzip
+   * and send them with the "Content-Encoding: gzip" header.
+   * Use a negative value to disable request compression.
+   * NOTE: Only enable this when the server supports gzip-encoded request bodies.
+   */
+  public ApiClient setGzipRequestThreshold(long gzipRequestThreshold) {
+    this.gzipRequestThreshold = gzipRequestThreshold;
+    return this;
+  }
+
   /**
    * Connect timeout (in milliseconds).
    */
@@ -854,10 +963,24 @@ public class ApiClient {
    * @throws ApiException If fail to serialize the request body object
    */
   public Call buildCall(String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String[] authNames, ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
+    return buildCall(null, path, method, queryParams, body, headerParams, formParams, authNames, progressRequestListener);
+  }
+
+  /**
+   * Build HTTP call with the given options.
+   *
+   * @param operationId The operationId of the called operation, used as the request's tag
+   *   and reported to the metrics listener
+   * @see #buildCall(String, String, List, Object, Map, Map, String[], ProgressRequestBody.ProgressRequestListener)
+   */
+  public Call buildCall(String operationId, String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String[] authNames, ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
     updateParamsForAuth(authNames, queryParams, headerParams);
 
     final String url = buildUrl(path, queryParams);
     final Request.Builder reqBuilder = new Request.Builder().url(url);
+    if (operationId != null) {
+      reqBuilder.tag(operationId);
+    }
     processHeaderParams(headerParams, reqBuilder);
 
     String contentType = (String) headerParams.get("Content-Type");
@@ -885,6 +1008,17 @@ public class ApiClient {
       reqBody = RequestBody.create(MediaType.parse(contentType), serialize(body, contentType));
     }
 
+    if (reqBody != null && gzipRequestThreshold >= 0) {
+      try {
+        if (reqBody.contentLength() >= gzipRequestThreshold) {
+          reqBody = gzip(reqBody);
+          reqBuilder.header("Content-Encoding", "gzip");
+        }
+      } catch (IOException e) {
+        throw new ApiException(e);
+      }
+    }
+
     Request request = null;
 
     if(progressRequestListener != null && reqBody != null) {
@@ -897,6 +1031,19 @@ public class ApiClient {
     return httpClient.newCall(request);
   }
 
+  /**
+   * Compress the given request body with gzip.
+   * The compressed content is buffered so that the content length is known
+   * and the request can be retried.
+   */
+  private RequestBody gzip(RequestBody body) throws IOException {
+    Buffer buffer = new Buffer();
+    BufferedSink gzipSink = Okio.buffer(new GzipSink(buffer));
+    body.writeTo(gzipSink);
+    gzipSink.close();
+    return RequestBody.create(body.contentType(), buffer.readByteArray());
+  }
+
   /**
    * Build full URL by concatenating base path, the given sub path and query parameters.
    *
@@ -1083,4 +1230,63 @@ public class ApiClient {
       throw new AssertionError(e);
     }
   }
+
+  /**
+   * Retry the request according to the retry policy of this API client
+   * and report the metrics of the call to the metrics listener.
+   */
+  private class CallInterceptor implements Interceptor {
+    @Override
+    public Response intercept(Interceptor.Chain chain) throws IOException {
+      Request request = chain.request();
+      ApiMetricsListener listener = metricsListener;
+      long start = System.nanoTime();
+      int attempt = 1;
+      while (true) {
+        RetryPolicy policy = retryPolicy;
+        Response response;
+        try {
+          response = chain.proceed(request);
+        } catch (IOException e) {
+          if (policy == null || !policy.shouldRetry(request.method(), attempt, 0)) {
+            if (listener != null)
+              listener.onCallCompleted(metrics(request, null, start, attempt, e));
+            throw e;
+          }
+          sleep(policy.getDelayMillis(attempt, null));
+          attempt++;
+          continue;
+        }
+
+        if (policy == null || !policy.shouldRetry(request.method(), attempt, response.code())) {
+          if (listener != null)
+            listener.onCallCompleted(metrics(request, response, start, attempt, null));
+          return response;
+        }
+        String retryAfter = response.header("Retry-After");
+        response.body().close();
+        sleep(policy.getDelayMillis(attempt, retryAfter));
+        attempt++;
+      }
+    }
+
+    private ApiMetricsListener.CallMetrics metrics(Request request, Response response, long start, int attempt, Throwable error) throws IOException {
+      String operationId = request.tag() instanceof String ? (String) request.tag() : null;
+      long requestBytes = request.body() == null ? 0 : request.body().contentLength();
+      long responseBytes = response == null ? -1 : response.body().contentLength();
+      int statusCode = response == null ? 0 : response.code();
+      // served by the HTTP response cache without a request
+      boolean cached = response != null && response.networkResponse() == null;
+      return new ApiMetricsListener.CallMetrics(operationId, request.method(), statusCode, System.nanoTime() - start, requestBytes, responseBytes, attempt - 1, error, cached);
+    }
+
+    private void sleep(long millis) throws InterruptedIOException {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("interrupted while waiting to retry");
+      }
+    }
+  }
 }
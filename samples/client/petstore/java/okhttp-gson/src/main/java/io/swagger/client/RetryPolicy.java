@@ -0,0 +1,214 @@
+package io.swagger.client;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Retry policy for transient failures, i.e. connection errors and retryable
+ * HTTP status codes (429 and 503 by default).
+ *
+ * Attempts are delayed with exponential backoff and "full jitter": the delay
+ * before the n-th retry is a random value between 0 and
+ * <code>min(maxBackoffMillis, initialBackoffMillis * multiplier ^ (n - 1))</code>,
+ * so that clients failing at the same time do not retry at the same time.
+ * A <code>Retry-After</code> response header takes precedence over the backoff
+ * (capped at <code>maxBackoffMillis</code>).
+ *
+ * Only idempotent methods (GET, HEAD, OPTIONS, PUT, DELETE) are retried by default.
+ */
+@javax.annotation.Generated(value = "class io.swagger.codegen.languages.JavaClientCodegen", date = "2026-10-19T17:57:05.719Z")
+public class RetryPolicy {
+  public static final Set<String> IDEMPOTENT_METHODS = Collections.unmodifiableSet(
+      new HashSet<String>(Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE")));
+
+  private int maxAttempts = 3;
+  private long initialBackoffMillis = 100;
+  private long maxBackoffMillis = 10000;
+  private double multiplier = 2.0;
+  private boolean jitter = true;
+  private boolean respectRetryAfter = true;
+  private boolean idempotentOnly = true;
+  private Set<Integer> retryableStatusCodes = new HashSet<Integer>(Arrays.asList(429, 503));
+  private final Random random = new Random();
+
+  /**
+   * Maximum number of attempts, including the first one.
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  public RetryPolicy setMaxAttempts(int maxAttempts) {
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * Upper bound (in milliseconds) of the delay before the first retry.
+   */
+  public long getInitialBackoffMillis() {
+    return initialBackoffMillis;
+  }
+
+  public RetryPolicy setInitialBackoffMillis(long initialBackoffMillis) {
+    this.initialBackoffMillis = initialBackoffMillis;
+    return this;
+  }
+
+  /**
+   * Upper bound (in milliseconds) of the delay before any retry.
+   */
+  public long getMaxBackoffMillis() {
+    return maxBackoffMillis;
+  }
+
+  public RetryPolicy setMaxBackoffMillis(long maxBackoffMillis) {
+    this.maxBackoffMillis = maxBackoffMillis;
+    return this;
+  }
+
+  /**
+   * Factor by which the backoff grows with each attempt.
+   */
+  public double getMultiplier() {
+    return multiplier;
+  }
+
+  public RetryPolicy setMultiplier(double multiplier) {
+    this.multiplier = multiplier;
+    return this;
+  }
+
+  /**
+   * Whether to randomize the delay between 0 and the backoff (enabled by default).
+   */
+  public boolean isJitter() {
+    return jitter;
+  }
+
+  public RetryPolicy setJitter(boolean jitter) {
+    this.jitter = jitter;
+    return this;
+  }
+
+  /**
+   * Whether to wait as long as the <code>Retry-After</code> response header says (enabled by default).
+   */
+  public boolean isRespectRetryAfter() {
+    return respectRetryAfter;
+  }
+
+  public RetryPolicy setRespectRetryAfter(boolean respectRetryAfter) {
+    this.respectRetryAfter = respectRetryAfter;
+    return this;
+  }
+
+  /**
+   * Whether to retry idempotent methods only (enabled by default).
+   * @see #IDEMPOTENT_METHODS
+   */
+  public boolean isIdempotentOnly() {
+    return idempotentOnly;
+  }
+
+  public RetryPolicy setIdempotentOnly(boolean idempotentOnly) {
+    this.idempotentOnly = idempotentOnly;
+    return this;
+  }
+
+  /**
+   * HTTP status codes of the responses to retry.
+   */
+  public Set<Integer> getRetryableStatusCodes() {
+    return retryableStatusCodes;
+  }
+
+  public RetryPolicy setRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+    this.retryableStatusCodes = retryableStatusCodes;
+    return this;
+  }
+
+  /**
+   * Check whether a request should be attempted again.
+   *
+   * @param method The request method
+   * @param attempt The number of attempts made so far (starting from 1)
+   * @param statusCode The response status code, 0 if no response was received (connection error)
+   * @return true if the request should be retried
+   */
+  public boolean shouldRetry(String method, int attempt, int statusCode) {
+    if (attempt >= maxAttempts) {
+      return false;
+    }
+    if (idempotentOnly && !IDEMPOTENT_METHODS.contains(method.toUpperCase())) {
+      return false;
+    }
+    return statusCode == 0 || retryableStatusCodes.contains(statusCode);
+  }
+
+  /**
+   * Get the delay (in milliseconds) before the next attempt.
+   *
+   * @param attempt The number of attempts made so far (starting from 1)
+   * @param retryAfter The value of the <code>Retry-After</code> response header, null if absent
+   * @return The delay in milliseconds
+   */
+  public long getDelayMillis(int attempt, String retryAfter) {
+    if (respectRetryAfter && retryAfter != null) {
+      long retryAfterMillis = parseRetryAfter(retryAfter);
+      if (retryAfterMillis >= 0) {
+        return Math.min(retryAfterMillis, maxBackoffMillis);
+      }
+    }
+
+    double backoff = Math.min(maxBackoffMillis, initialBackoffMillis * Math.pow(multiplier, attempt - 1));
+    if (jitter) {
+      synchronized (random) {
+        backoff = backoff * random.nextDouble();
+      }
+    }
+    return (long) backoff;
+  }
+
+  /**
+   * Wait before the next attempt.
+   *
+   * @see #getDelayMillis(int, String)
+   * @throws ApiException If interrupted while waiting
+   */
+  public void waitBeforeRetry(int attempt, String retryAfter) throws ApiException {
+    try {
+      Thread.sleep(getDelayMillis(attempt, retryAfter));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  /**
+   * Parse the <code>Retry-After</code> header, either delay-seconds or an HTTP-date.
+   *
+   * @return The delay in milliseconds, -1 if the value cannot be parsed
+   */
+  private long parseRetryAfter(String retryAfter) {
+    try {
+      return Math.max(0, Long.parseLong(retryAfter.trim()) * 1000);
+    } catch (NumberFormatException e) {
+      // not delay-seconds, try HTTP-date
+    }
+    try {
+      SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+      Date date = format.parse(retryAfter.trim());
+      return Math.max(0, date.getTime() - System.currentTimeMillis());
+    } catch (ParseException e) {
+      return -1;
+    }
+  }
+}
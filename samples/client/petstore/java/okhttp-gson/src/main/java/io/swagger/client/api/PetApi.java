@@ -82,7 +82,7 @@ public class PetApi {
     }
 
     String[] authNames = new String[] { "petstore_auth" };
-    return apiClient.buildCall(path, "PUT", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("updatePet", path, "PUT", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -140,6 +140,7 @@ public class PetApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
   /* Build call for addPet */
   private Call addPetCall(Pet body, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -180,7 +181,7 @@ public class PetApi {
     }
 
     String[] authNames = new String[] { "petstore_auth" };
-    return apiClient.buildCall(path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("addPet", path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -238,6 +239,7 @@ public class PetApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
   /* Build call for findPetsByStatus */
   private Call findPetsByStatusCall(List<String> status, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -280,7 +282,7 @@ public class PetApi {
     }
 
     String[] authNames = new String[] { "petstore_auth" };
-    return apiClient.buildCall(path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("findPetsByStatus", path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -342,6 +344,7 @@ public class PetApi {
     apiClient.executeAsync(call, returnType, callback);
     return call;
   }
+
   
   /* Build call for findPetsByTags */
   private Call findPetsByTagsCall(List<String> tags, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -384,7 +387,7 @@ public class PetApi {
     }
 
     String[] authNames = new String[] { "petstore_auth" };
-    return apiClient.buildCall(path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("findPetsByTags", path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -446,6 +449,7 @@ public class PetApi {
     apiClient.executeAsync(call, returnType, callback);
     return call;
   }
+
   
   /* Build call for getPetById */
   private Call getPetByIdCall(Long petId, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -492,7 +496,7 @@ public class PetApi {
     }
 
     String[] authNames = new String[] { "api_key" };
-    return apiClient.buildCall(path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("getPetById", path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -554,6 +558,7 @@ public class PetApi {
     apiClient.executeAsync(call, returnType, callback);
     return call;
   }
+
   
   /* Build call for updatePetWithForm */
   private Call updatePetWithFormCall(String petId, String name, String status, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -604,7 +609,7 @@ public class PetApi {
     }
 
     String[] authNames = new String[] { "petstore_auth" };
-    return apiClient.buildCall(path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("updatePetWithForm", path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -668,6 +673,7 @@ public class PetApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
   /* Build call for deletePet */
   private Call deletePetCall(Long petId, String apiKey, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -716,7 +722,7 @@ public class PetApi {
     }
 
     String[] authNames = new String[] { "petstore_auth" };
-    return apiClient.buildCall(path, "DELETE", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("deletePet", path, "DELETE", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -777,6 +783,7 @@ public class PetApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
   /* Build call for uploadFile */
   private Call uploadFileCall(Long petId, String additionalMetadata, File file, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -827,7 +834,7 @@ public class PetApi {
     }
 
     String[] authNames = new String[] { "petstore_auth" };
-    return apiClient.buildCall(path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("uploadFile", path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -891,5 +898,6 @@ public class PetApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
 }
@@ -82,7 +82,7 @@ public class StoreApi {
     }
 
     String[] authNames = new String[] { "api_key" };
-    return apiClient.buildCall(path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("getInventory", path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -141,6 +141,7 @@ public class StoreApi {
     apiClient.executeAsync(call, returnType, callback);
     return call;
   }
+
   
   /* Build call for placeOrder */
   private Call placeOrderCall(Order body, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -181,7 +182,7 @@ public class StoreApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("placeOrder", path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -243,6 +244,7 @@ public class StoreApi {
     apiClient.executeAsync(call, returnType, callback);
     return call;
   }
+
   
   /* Build call for getOrderById */
   private Call getOrderByIdCall(String orderId, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -289,7 +291,7 @@ public class StoreApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("getOrderById", path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -351,6 +353,7 @@ public class StoreApi {
     apiClient.executeAsync(call, returnType, callback);
     return call;
   }
+
   
   /* Build call for deleteOrder */
   private Call deleteOrderCall(String orderId, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -397,7 +400,7 @@ public class StoreApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "DELETE", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("deleteOrder", path, "DELETE", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -455,5 +458,6 @@ public class StoreApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
 }
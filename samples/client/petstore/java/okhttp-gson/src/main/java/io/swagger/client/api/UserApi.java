@@ -82,7 +82,7 @@ public class UserApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("createUser", path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -140,6 +140,7 @@ public class UserApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
   /* Build call for createUsersWithArrayInput */
   private Call createUsersWithArrayInputCall(List<User> body, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -180,7 +181,7 @@ public class UserApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("createUsersWithArrayInput", path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -238,6 +239,7 @@ public class UserApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
   /* Build call for createUsersWithListInput */
   private Call createUsersWithListInputCall(List<User> body, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -278,7 +280,7 @@ public class UserApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("createUsersWithListInput", path, "POST", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -336,6 +338,7 @@ public class UserApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
   /* Build call for loginUser */
   private Call loginUserCall(String username, String password, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -380,7 +383,7 @@ public class UserApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("loginUser", path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -445,6 +448,7 @@ public class UserApi {
     apiClient.executeAsync(call, returnType, callback);
     return call;
   }
+
   
   /* Build call for logoutUser */
   private Call logoutUserCall(final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -485,7 +489,7 @@ public class UserApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("logoutUser", path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -540,6 +544,7 @@ public class UserApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
   /* Build call for getUserByName */
   private Call getUserByNameCall(String username, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -586,7 +591,7 @@ public class UserApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("getUserByName", path, "GET", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -648,6 +653,7 @@ public class UserApi {
     apiClient.executeAsync(call, returnType, callback);
     return call;
   }
+
   
   /* Build call for updateUser */
   private Call updateUserCall(String username, User body, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -694,7 +700,7 @@ public class UserApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "PUT", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("updateUser", path, "PUT", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -755,6 +761,7 @@ public class UserApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
   /* Build call for deleteUser */
   private Call deleteUserCall(String username, final ProgressResponseBody.ProgressListener progressListener, final ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
@@ -801,7 +808,7 @@ public class UserApi {
     }
 
     String[] authNames = new String[] {  };
-    return apiClient.buildCall(path, "DELETE", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
+    return apiClient.buildCall("deleteUser", path, "DELETE", queryParams, postBody, headerParams, formParams, authNames, progressRequestListener);
   }
 
   /**
@@ -859,5 +866,6 @@ public class UserApi {
     apiClient.executeAsync(call, callback);
     return call;
   }
+
   
 }
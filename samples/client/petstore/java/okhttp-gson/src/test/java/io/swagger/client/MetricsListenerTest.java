@@ -0,0 +1,125 @@
+package io.swagger.client;
+
+import io.swagger.client.api.PetApi;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.*;
+
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+
+/**
+ * Metrics reported to a recording listener for calls to a stub server, which knows the pet 1 only.
+ */
+public class MetricsListenerTest {
+    @Rule
+    public TemporaryFolder cacheDir = new TemporaryFolder();
+
+    HttpServer server = null;
+    PetApi api = null;
+    final List<ApiMetricsListener.CallMetrics> recorded = Collections.synchronizedList(new ArrayList<ApiMetricsListener.CallMetrics>());
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/pet", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                boolean found = exchange.getRequestURI().getPath().equals("/v2/pet/1");
+                byte[] body = (found ? "{\"id\":1,\"name\":\"doggie\",\"photoUrls\":[]}" : "{}").getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.getResponseHeaders().add("Cache-Control", "max-age=60");
+                exchange.sendResponseHeaders(found ? 200 : 404, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+
+        ApiClient apiClient = new ApiClient();
+        apiClient.setBasePath("http://localhost:" + server.getAddress().getPort() + "/v2");
+        apiClient.setMetricsListener(new ApiMetricsListener() {
+            @Override
+            public void onCallCompleted(CallMetrics metrics) {
+                recorded.add(metrics);
+            }
+        });
+        api = new PetApi(apiClient);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testSuccess() throws ApiException {
+        api.getPetById(1L);
+        assertEquals(1, recorded.size());
+        ApiMetricsListener.CallMetrics metrics = recorded.get(0);
+        assertEquals("getPetById", metrics.getOperationId());
+        assertEquals("GET", metrics.getMethod());
+        assertEquals(200, metrics.getStatusCode());
+        assertTrue(metrics.getLatencyNanos() > 0);
+        assertEquals(0, metrics.getRetries());
+        assertNull(metrics.getError());
+        assertFalse(metrics.isCached());
+    }
+
+    @Test
+    public void testErrorResponse() {
+        try {
+            api.getPetById(2L);
+            fail("expected an ApiException");
+        } catch (ApiException e) {
+            assertEquals(404, e.getCode());
+        }
+        assertEquals(1, recorded.size());
+        assertEquals(404, recorded.get(0).getStatusCode());
+        assertFalse(recorded.get(0).isCached());
+    }
+
+    @Test
+    public void testConnectionError() {
+        server.stop(0);
+        try {
+            api.getPetById(1L);
+            fail("expected an exception");
+        } catch (Exception e) {
+            // expected
+        }
+        assertEquals(1, recorded.size());
+        assertEquals(0, recorded.get(0).getStatusCode());
+        assertNotNull(recorded.get(0).getError());
+    }
+
+    @Test
+    public void testCacheHit() throws ApiException {
+        api.getApiClient().setCache(cacheDir.getRoot(), 1024 * 1024);
+        api.getPetById(1L);
+        api.getPetById(1L);
+        assertEquals(2, recorded.size());
+        assertFalse(recorded.get(0).isCached());
+        ApiMetricsListener.CallMetrics hit = recorded.get(1);
+        assertTrue(hit.isCached());
+        assertEquals("getPetById", hit.getOperationId());
+        assertEquals(200, hit.getStatusCode());
+        assertNull(hit.getError());
+
+        HistogramMetricsListener histogram = new HistogramMetricsListener();
+        for (ApiMetricsListener.CallMetrics metrics : recorded) {
+            histogram.onCallCompleted(metrics);
+        }
+        assertEquals(2, histogram.getStats("getPetById").getCount());
+        assertEquals(1, histogram.getStats("getPetById").getCacheHits());
+    }
+}
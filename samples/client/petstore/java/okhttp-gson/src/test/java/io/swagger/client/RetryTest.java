@@ -0,0 +1,171 @@
+package io.swagger.client;
+
+import io.swagger.client.api.PetApi;
+import io.swagger.client.model.Pet;
+
+import com.squareup.okhttp.OkHttpClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.*;
+import static org.junit.Assert.*;
+
+
+/**
+ * Retries against a stub server answering with the given status codes, then with 200.
+ */
+public class RetryTest {
+    HttpServer server = null;
+    PetApi api = null;
+    final AtomicInteger attempts = new AtomicInteger();
+    final List<Integer> statusCodes = Collections.synchronizedList(new ArrayList<Integer>());
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/pet", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                attempts.incrementAndGet();
+                int status = statusCodes.isEmpty() ? 200 : statusCodes.remove(0);
+                byte[] body = (status == 200 ? "{\"id\":1,\"name\":\"doggie\",\"photoUrls\":[]}" : "{}").getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                if (status == 429) {
+                    exchange.getResponseHeaders().add("Retry-After", "0");
+                }
+                exchange.sendResponseHeaders(status, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+
+        ApiClient apiClient = new ApiClient();
+        apiClient.setBasePath("http://localhost:" + server.getAddress().getPort() + "/v2");
+        apiClient.setRetryPolicy(new RetryPolicy().setMaxAttempts(3).setInitialBackoffMillis(10));
+        api = new PetApi(apiClient);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testRetryUntilSuccess() throws ApiException {
+        statusCodes.addAll(Arrays.asList(503, 429));
+        Pet pet = api.getPetById(1L);
+        assertEquals("doggie", pet.getName());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testGiveUpAfterMaxAttempts() {
+        statusCodes.addAll(Arrays.asList(503, 503, 503, 503));
+        try {
+            api.getPetById(1L);
+            fail("expected an ApiException");
+        } catch (ApiException e) {
+            assertEquals(503, e.getCode());
+        }
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testNonRetryableStatusCode() {
+        statusCodes.addAll(Arrays.asList(404));
+        try {
+            api.getPetById(1L);
+            fail("expected an ApiException");
+        } catch (ApiException e) {
+            assertEquals(404, e.getCode());
+        }
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testNonIdempotentMethod() {
+        statusCodes.addAll(Arrays.asList(503));
+        try {
+            api.addPet(new Pet());
+            fail("expected an ApiException");
+        } catch (ApiException e) {
+            assertEquals(503, e.getCode());
+        }
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testAsyncRetry() throws Exception {
+        statusCodes.addAll(Arrays.asList(429));
+        final Pet[] result = new Pet[1];
+        final boolean[] done = new boolean[1];
+        api.getPetByIdAsync(1L, new ApiCallback<Pet>() {
+            @Override
+            public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                synchronized (done) {
+                    done[0] = true;
+                    done.notifyAll();
+                }
+            }
+
+            @Override
+            public void onSuccess(Pet pet, int statusCode, Map<String, List<String>> responseHeaders) {
+                synchronized (done) {
+                    result[0] = pet;
+                    done[0] = true;
+                    done.notifyAll();
+                }
+            }
+
+            @Override
+            public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+            }
+
+            @Override
+            public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+            }
+        });
+        synchronized (done) {
+            while (!done[0]) {
+                done.wait(10000);
+            }
+        }
+        assertNotNull(result[0]);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testRetriesDisabled() {
+        api.getApiClient().setRetryPolicy(null);
+        statusCodes.addAll(Arrays.asList(503));
+        try {
+            api.getPetById(1L);
+            fail("expected an ApiException");
+        } catch (ApiException e) {
+            assertEquals(503, e.getCode());
+        }
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testSetHttpClientLeavesTheGivenClientUntouched() throws ApiException {
+        OkHttpClient httpClient = new OkHttpClient();
+        api.getApiClient().setHttpClient(httpClient);
+        assertTrue(httpClient.interceptors().isEmpty());
+        assertNotSame(httpClient, api.getApiClient().getHttpClient());
+        assertEquals(1, api.getApiClient().getHttpClient().interceptors().size());
+
+        statusCodes.addAll(Arrays.asList(503));
+        api.getPetById(1L);
+        assertEquals(2, attempts.get());
+    }
+}
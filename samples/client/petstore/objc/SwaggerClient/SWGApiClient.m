@@ -9,6 +9,15 @@ static bool cacheEnabled = false;
 static AFNetworkReachabilityStatus reachabilityStatus = AFNetworkReachabilityStatusNotReachable;
 static void (^reachabilityChangeBlock)(int);
 
+static dispatch_queue_t deserializationQueue() {
+    static dispatch_queue_t queue;
+    static dispatch_once_t onceToken;
+    dispatch_once(&onceToken, ^{
+        queue = dispatch_queue_create("SWGApiClient.deserialization", DISPATCH_QUEUE_CONCURRENT);
+    });
+    return queue;
+}
+
 
 @interface SWGApiClient ()
 
@@ -29,6 +38,7 @@ static void (^reachabilityChangeBlock)(int);
         self.requestSerializer = [AFJSONRequestSerializer serializer];
         self.responseSerializer = [AFJSONResponseSerializer serializer];
         self.securityPolicy = [self customSecurityPolicy];
+        self.operationQueue.maxConcurrentOperationCount = [[SWGConfiguration sharedConfig] maxConcurrentOperationCount];
         // configure reachability
         [self configureCacheReachibility];
     }
@@ -626,7 +636,13 @@ static void (^reachabilityChangeBlock)(int);
     }
     else {
         [self operationWithCompletionBlock:request requestId:requestId completionBlock:^(id data, NSError *error) {
-            completionBlock([self deserialize:data class:responseType], error);
+            // deserialize large responses without blocking the completion queue (the main queue by default)
+            dispatch_async(deserializationQueue(), ^{
+                id response = [self deserialize:data class:responseType];
+                dispatch_async(self.completionQueue ?: dispatch_get_main_queue(), ^{
+                    completionBlock(response, error);
+                });
+            });
         }];
     }
     return requestId;
@@ -75,6 +75,12 @@
  */
 + (instancetype) sharedConfig;
 
+/**
+ * Maximum number of requests executed concurrently by the api clients created afterwards,
+ * default `NSOperationQueueDefaultMaxConcurrentOperationCount` (no limit)
+ */
+@property (nonatomic) NSInteger maxConcurrentOperationCount;
+
 /**
  * SSL/TLS verification
  * Set this to NO to skip verifying SSL certificate when calling API from https server
@@ -32,6 +32,7 @@
         self.tempFolderPath = nil;
         self.debug = NO;
         self.verifySSL = YES;
+        self.maxConcurrentOperationCount = NSOperationQueueDefaultMaxConcurrentOperationCount;
         self.loggingFile = nil;
         self.mutableApiKey = [NSMutableDictionary dictionary];
         self.mutableApiKeyPrefix = [NSMutableDictionary dictionary];
@@ -6,6 +6,7 @@ use utf8;
 
 use MIME::Base64;
 use LWP::UserAgent;
+use LWP::ConnCache;
 use HTTP::Headers;
 use HTTP::Response;
 use HTTP::Request::Common qw(DELETE POST GET HEAD PUT);
@@ -26,7 +27,7 @@ sub _new_instance
 {
     my $class = shift;
     my (%args) = (
-        'ua' => LWP::UserAgent->new,
+        'ua' => _new_user_agent(),
         'base_url' => 'http://petstore.swagger.io/v2',
         @_
     );
@@ -36,6 +37,23 @@ sub _new_instance
 
 sub _cfg {'WWW::SwaggerClient::Configuration'}
 
+sub _new_user_agent {
+    my $ua = LWP::UserAgent->new;
+    if ($WWW::SwaggerClient::Configuration::keep_alive) {
+        $ua->conn_cache(LWP::ConnCache->new(total_capacity => $WWW::SwaggerClient::Configuration::keep_alive));
+    }
+    return $ua;
+}
+
+# Set the connection cache of the API client, e.g. to share it with other user agents
+#
+# @param LWP::ConnCache $conn_cache The connection cache [set to undef for a new connection per request]
+#
+sub set_conn_cache {
+    my ($self, $conn_cache) = @_;
+    $self->{ua}->conn_cache($conn_cache);
+}
+
 # Set the user agent of the API client
 #
 # @param string $user_agent The user agent of the API client
@@ -121,17 +139,96 @@ sub call_api {
    
     $self->{ua}->timeout($self->{http_timeout} || $WWW::SwaggerClient::Configuration::http_timeout); 
     $self->{ua}->agent($self->{http_user_agent} || $WWW::SwaggerClient::Configuration::http_user_agent);
-    
+
+    if ($WWW::SwaggerClient::Configuration::compress) {
+        $_request->header('Accept-Encoding' => scalar HTTP::Message::decodable());
+    }
+
+    if ($self->{_parallel}) {
+        return $self->_parallel_call($_request);
+    }
+
     $log->debugf("REQUEST: %s", $_request->as_string);
     my $_response = $self->{ua}->request($_request);
+    return $self->_response_content($_response);
+  
+}
+
+# check the HTTP response and return its (uncompressed) content
+sub _response_content {
+    my ($self, $_response) = @_;
+
     $log->debugf("RESPONSE: %s", $_response->as_string);
   
     unless ($_response->is_success) {
         croak(sprintf "API Exception(%s): %s\n%s", $_response->code, $_response->message, $_response->content);
     }
        
-    return $_response->content;
-  
+    return $_response->decoded_content(charset => 'none');
+}
+
+# Make the API calls of the given subroutines in parallel, e.g.
+#
+#     my @pets = $api_client->parallel(map { my $id = $_; sub { $pet_api->get_pet_by_id(pet_id => $id) } } @ids);
+#
+# The subroutines are run twice: first to collect their requests, sent together once all collected,
+# then to process the responses. So their API calls must not depend on each other, and they must
+# not have other side effects. Requires HTTP::Async.
+#
+# @param array @calls subroutines making API calls with this API client
+# @return array the results of the subroutines, in order [croaks with the first failing API call]
+sub parallel {
+    my ($self, @calls) = @_;
+    croak("API calls are already being made in parallel") if $self->{_parallel};
+
+    my @requests;
+    {
+        local $self->{_parallel} = { requests => \@requests };
+        $_->() foreach @calls;
+    }
+
+    my @responses = $self->_send_parallel(@requests);
+    local $self->{_parallel} = { responses => \@responses };
+    return map { scalar $_->() } @calls;
+}
+
+# collect the request, or return the content of its response once sent
+sub _parallel_call {
+    my ($self, $_request) = @_;
+
+    if (my $requests = $self->{_parallel}->{requests}) {
+        push @$requests, $_request;
+        return;
+    }
+
+    my $_response = shift @{ $self->{_parallel}->{responses} };
+    croak("The API calls differ from the ones collected") unless $_response;
+    return $self->_response_content($_response);
+}
+
+# send the requests, up to $WWW::SwaggerClient::Configuration::max_parallel_requests at a time
+sub _send_parallel {
+    my ($self, @requests) = @_;
+
+    use_module('HTTP::Async');
+    my $async = HTTP::Async->new(
+        slots => $WWW::SwaggerClient::Configuration::max_parallel_requests,
+        timeout => $self->{http_timeout} || $WWW::SwaggerClient::Configuration::http_timeout,
+    );
+
+    my %index;
+    foreach my $i (0 .. $#requests) {
+        $requests[$i]->header('User-Agent' => $self->{ua}->agent);
+        $log->debugf("REQUEST: %s", $requests[$i]->as_string);
+        my ($id) = $async->add($requests[$i]);
+        $index{$id} = $i;
+    }
+
+    my @responses;
+    while (my ($response, $id) = $async->wait_for_next_response) {
+        $responses[$index{$id}] = $response;
+    }
+    return @responses;
 }
 
 #  Take value and turn it into a string suitable for inclusion in
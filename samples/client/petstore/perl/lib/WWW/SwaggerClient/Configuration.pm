@@ -13,6 +13,11 @@ use constant VERSION => '1.0.0';
 our $http_timeout = 180;
 our $http_user_agent = 'Perl-Swagger';
 
+# connections
+our $keep_alive = 10; # number of connections kept alive [set to 0 for a new connection per request]
+our $compress = 1; # accept compressed (gzip) responses
+our $max_parallel_requests = 8; # number of requests in flight in ApiClient->parallel
+
 # authenticaiton setting
 our $api_key = {};
 our $api_key_prefix = {};
@@ -117,6 +117,74 @@ class PetApi
      * @throws \Swagger\Client\ApiException on non-2xx response
      */
     public function updatePetWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->updatePetRequest($body);
+
+        // make the API Call
+        try {
+            list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
+                $resourcePath, 'PUT',
+                $queryParams, $httpBody,
+                $headerParams
+            );
+            
+            return array(null, $statusCode, $httpHeader);
+            
+        } catch (ApiException $e) {
+            switch ($e->getCode()) { 
+            }
+  
+            throw $e;
+        }
+    }
+
+    /**
+     * updatePetAsync
+     *
+     * Update an existing pet
+     *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
+     * @param \Swagger\Client\Model\Pet $body Pet object that needs to be added to the store (optional)
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
+     */
+    public function updatePetAsync($body = null)
+    {
+        return $this->updatePetAsyncWithHttpInfo($body)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
+    }
+
+    /**
+     * updatePetAsyncWithHttpInfo
+     *
+     * Update an existing pet
+     *
+     * @param \Swagger\Client\Model\Pet $body Pet object that needs to be added to the store (optional)
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
+     */
+    public function updatePetAsyncWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->updatePetRequest($body);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'PUT',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of updatePet
+     *
+     * @param \Swagger\Client\Model\Pet $body Pet object that needs to be added to the store (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function updatePetRequest($body = null)
     {
         
   
@@ -157,10 +225,42 @@ class PetApi
             $headerParams['Authorization'] = 'Bearer ' . $this->apiClient->getConfig()->getAccessToken();
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * addPet
+     *
+     * Add a new pet to the store
+     *
+     * @param \Swagger\Client\Model\Pet $body Pet object that needs to be added to the store (optional)
+     * @return void
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function addPet($body = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->addPetWithHttpInfo ($body);
+        return $response; 
+    }
+
+
+    /**
+     * addPetWithHttpInfo
+     *
+     * Add a new pet to the store
+     *
+     * @param \Swagger\Client\Model\Pet $body Pet object that needs to be added to the store (optional)
+     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function addPetWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->addPetRequest($body);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'PUT',
+                $resourcePath, 'POST',
                 $queryParams, $httpBody,
                 $headerParams
             );
@@ -174,33 +274,54 @@ class PetApi
             throw $e;
         }
     }
-    
+
     /**
-     * addPet
+     * addPetAsync
      *
      * Add a new pet to the store
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param \Swagger\Client\Model\Pet $body Pet object that needs to be added to the store (optional)
-     * @return void
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function addPet($body = null)
+    public function addPetAsync($body = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->addPetWithHttpInfo ($body);
-        return $response; 
+        return $this->addPetAsyncWithHttpInfo($body)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * addPetWithHttpInfo
+     * addPetAsyncWithHttpInfo
      *
      * Add a new pet to the store
      *
      * @param \Swagger\Client\Model\Pet $body Pet object that needs to be added to the store (optional)
-     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
      */
-    public function addPetWithHttpInfo($body = null)
+    public function addPetAsyncWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->addPetRequest($body);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'POST',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of addPet
+     *
+     * @param \Swagger\Client\Model\Pet $body Pet object that needs to be added to the store (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function addPetRequest($body = null)
     {
         
   
@@ -241,50 +362,111 @@ class PetApi
             $headerParams['Authorization'] = 'Bearer ' . $this->apiClient->getConfig()->getAccessToken();
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * findPetsByStatus
+     *
+     * Finds Pets by status
+     *
+     * @param string[] $status Status values that need to be considered for filter (optional)
+     * @return \Swagger\Client\Model\Pet[]
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function findPetsByStatus($status = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->findPetsByStatusWithHttpInfo ($status);
+        return $response; 
+    }
+
+
+    /**
+     * findPetsByStatusWithHttpInfo
+     *
+     * Finds Pets by status
+     *
+     * @param string[] $status Status values that need to be considered for filter (optional)
+     * @return Array of \Swagger\Client\Model\Pet[], HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function findPetsByStatusWithHttpInfo($status = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->findPetsByStatusRequest($status);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'POST',
+                $resourcePath, 'GET',
                 $queryParams, $httpBody,
-                $headerParams
+                $headerParams, '\Swagger\Client\Model\Pet[]'
             );
             
-            return array(null, $statusCode, $httpHeader);
+            if (!$response) {
+                return array(null, $statusCode, $httpHeader);
+            }
+
+            return array($this->apiClient->getSerializer()->deserialize($response, '\Swagger\Client\Model\Pet[]', $httpHeader), $statusCode, $httpHeader);
             
         } catch (ApiException $e) {
             switch ($e->getCode()) { 
+            case 200:
+                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), '\Swagger\Client\Model\Pet[]', $e->getResponseHeaders());
+                $e->setResponseObject($data);
+                break;
             }
   
             throw $e;
         }
     }
-    
+
     /**
-     * findPetsByStatus
+     * findPetsByStatusAsync
      *
      * Finds Pets by status
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param string[] $status Status values that need to be considered for filter (optional)
-     * @return \Swagger\Client\Model\Pet[]
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of \Swagger\Client\Model\Pet[], rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function findPetsByStatus($status = null)
+    public function findPetsByStatusAsync($status = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->findPetsByStatusWithHttpInfo ($status);
-        return $response; 
+        return $this->findPetsByStatusAsyncWithHttpInfo($status)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * findPetsByStatusWithHttpInfo
+     * findPetsByStatusAsyncWithHttpInfo
      *
      * Finds Pets by status
      *
      * @param string[] $status Status values that need to be considered for filter (optional)
-     * @return Array of \Swagger\Client\Model\Pet[], HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of \Swagger\Client\Model\Pet[], HTTP status code, HTTP response headers (array of strings)
      */
-    public function findPetsByStatusWithHttpInfo($status = null)
+    public function findPetsByStatusAsyncWithHttpInfo($status = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->findPetsByStatusRequest($status);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'GET',
+            $queryParams, $httpBody,
+            $headerParams, '\Swagger\Client\Model\Pet[]',
+            array('200' => '\Swagger\Client\Model\Pet[]', )
+        );
+    }
+
+    /**
+     * Builds the request of findPetsByStatus
+     *
+     * @param string[] $status Status values that need to be considered for filter (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function findPetsByStatusRequest($status = null)
     {
         
   
@@ -329,6 +511,38 @@ class PetApi
             $headerParams['Authorization'] = 'Bearer ' . $this->apiClient->getConfig()->getAccessToken();
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * findPetsByTags
+     *
+     * Finds Pets by tags
+     *
+     * @param string[] $tags Tags to filter by (optional)
+     * @return \Swagger\Client\Model\Pet[]
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function findPetsByTags($tags = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->findPetsByTagsWithHttpInfo ($tags);
+        return $response; 
+    }
+
+
+    /**
+     * findPetsByTagsWithHttpInfo
+     *
+     * Finds Pets by tags
+     *
+     * @param string[] $tags Tags to filter by (optional)
+     * @return Array of \Swagger\Client\Model\Pet[], HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function findPetsByTagsWithHttpInfo($tags = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->findPetsByTagsRequest($tags);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
@@ -354,33 +568,54 @@ class PetApi
             throw $e;
         }
     }
-    
+
     /**
-     * findPetsByTags
+     * findPetsByTagsAsync
      *
      * Finds Pets by tags
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param string[] $tags Tags to filter by (optional)
-     * @return \Swagger\Client\Model\Pet[]
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of \Swagger\Client\Model\Pet[], rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function findPetsByTags($tags = null)
+    public function findPetsByTagsAsync($tags = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->findPetsByTagsWithHttpInfo ($tags);
-        return $response; 
+        return $this->findPetsByTagsAsyncWithHttpInfo($tags)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * findPetsByTagsWithHttpInfo
+     * findPetsByTagsAsyncWithHttpInfo
      *
      * Finds Pets by tags
      *
      * @param string[] $tags Tags to filter by (optional)
-     * @return Array of \Swagger\Client\Model\Pet[], HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of \Swagger\Client\Model\Pet[], HTTP status code, HTTP response headers (array of strings)
      */
-    public function findPetsByTagsWithHttpInfo($tags = null)
+    public function findPetsByTagsAsyncWithHttpInfo($tags = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->findPetsByTagsRequest($tags);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'GET',
+            $queryParams, $httpBody,
+            $headerParams, '\Swagger\Client\Model\Pet[]',
+            array('200' => '\Swagger\Client\Model\Pet[]', )
+        );
+    }
+
+    /**
+     * Builds the request of findPetsByTags
+     *
+     * @param string[] $tags Tags to filter by (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function findPetsByTagsRequest($tags = null)
     {
         
   
@@ -425,24 +660,56 @@ class PetApi
             $headerParams['Authorization'] = 'Bearer ' . $this->apiClient->getConfig()->getAccessToken();
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * getPetById
+     *
+     * Find pet by ID
+     *
+     * @param int $pet_id ID of pet that needs to be fetched (required)
+     * @return \Swagger\Client\Model\Pet
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function getPetById($pet_id)
+    {
+        list($response, $statusCode, $httpHeader) = $this->getPetByIdWithHttpInfo ($pet_id);
+        return $response; 
+    }
+
+
+    /**
+     * getPetByIdWithHttpInfo
+     *
+     * Find pet by ID
+     *
+     * @param int $pet_id ID of pet that needs to be fetched (required)
+     * @return Array of \Swagger\Client\Model\Pet, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function getPetByIdWithHttpInfo($pet_id)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->getPetByIdRequest($pet_id);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
                 $resourcePath, 'GET',
                 $queryParams, $httpBody,
-                $headerParams, '\Swagger\Client\Model\Pet[]'
+                $headerParams, '\Swagger\Client\Model\Pet'
             );
             
             if (!$response) {
                 return array(null, $statusCode, $httpHeader);
             }
 
-            return array($this->apiClient->getSerializer()->deserialize($response, '\Swagger\Client\Model\Pet[]', $httpHeader), $statusCode, $httpHeader);
+            return array($this->apiClient->getSerializer()->deserialize($response, '\Swagger\Client\Model\Pet', $httpHeader), $statusCode, $httpHeader);
             
         } catch (ApiException $e) {
             switch ($e->getCode()) { 
             case 200:
-                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), '\Swagger\Client\Model\Pet[]', $e->getResponseHeaders());
+                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), '\Swagger\Client\Model\Pet', $e->getResponseHeaders());
                 $e->setResponseObject($data);
                 break;
             }
@@ -450,33 +717,54 @@ class PetApi
             throw $e;
         }
     }
-    
+
     /**
-     * getPetById
+     * getPetByIdAsync
      *
      * Find pet by ID
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param int $pet_id ID of pet that needs to be fetched (required)
-     * @return \Swagger\Client\Model\Pet
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of \Swagger\Client\Model\Pet, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function getPetById($pet_id)
+    public function getPetByIdAsync($pet_id)
     {
-        list($response, $statusCode, $httpHeader) = $this->getPetByIdWithHttpInfo ($pet_id);
-        return $response; 
+        return $this->getPetByIdAsyncWithHttpInfo($pet_id)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * getPetByIdWithHttpInfo
+     * getPetByIdAsyncWithHttpInfo
      *
      * Find pet by ID
      *
      * @param int $pet_id ID of pet that needs to be fetched (required)
-     * @return Array of \Swagger\Client\Model\Pet, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of \Swagger\Client\Model\Pet, HTTP status code, HTTP response headers (array of strings)
      */
-    public function getPetByIdWithHttpInfo($pet_id)
+    public function getPetByIdAsyncWithHttpInfo($pet_id)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->getPetByIdRequest($pet_id);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'GET',
+            $queryParams, $httpBody,
+            $headerParams, '\Swagger\Client\Model\Pet',
+            array('200' => '\Swagger\Client\Model\Pet', )
+        );
+    }
+
+    /**
+     * Builds the request of getPetById
+     *
+     * @param int $pet_id ID of pet that needs to be fetched (required)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function getPetByIdRequest($pet_id)
     {
         
         // verify the required parameter 'pet_id' is set
@@ -527,62 +815,113 @@ class PetApi
         }
         
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * updatePetWithForm
+     *
+     * Updates a pet in the store with form data
+     *
+     * @param string $pet_id ID of pet that needs to be updated (required)
+     * @param string $name Updated name of the pet (optional)
+     * @param string $status Updated status of the pet (optional)
+     * @return void
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function updatePetWithForm($pet_id, $name = null, $status = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->updatePetWithFormWithHttpInfo ($pet_id, $name, $status);
+        return $response; 
+    }
+
+
+    /**
+     * updatePetWithFormWithHttpInfo
+     *
+     * Updates a pet in the store with form data
+     *
+     * @param string $pet_id ID of pet that needs to be updated (required)
+     * @param string $name Updated name of the pet (optional)
+     * @param string $status Updated status of the pet (optional)
+     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function updatePetWithFormWithHttpInfo($pet_id, $name = null, $status = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->updatePetWithFormRequest($pet_id, $name, $status);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'GET',
+                $resourcePath, 'POST',
                 $queryParams, $httpBody,
-                $headerParams, '\Swagger\Client\Model\Pet'
+                $headerParams
             );
             
-            if (!$response) {
-                return array(null, $statusCode, $httpHeader);
-            }
-
-            return array($this->apiClient->getSerializer()->deserialize($response, '\Swagger\Client\Model\Pet', $httpHeader), $statusCode, $httpHeader);
+            return array(null, $statusCode, $httpHeader);
             
         } catch (ApiException $e) {
             switch ($e->getCode()) { 
-            case 200:
-                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), '\Swagger\Client\Model\Pet', $e->getResponseHeaders());
-                $e->setResponseObject($data);
-                break;
             }
   
             throw $e;
         }
     }
-    
+
     /**
-     * updatePetWithForm
+     * updatePetWithFormAsync
      *
      * Updates a pet in the store with form data
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param string $pet_id ID of pet that needs to be updated (required)
      * @param string $name Updated name of the pet (optional)
      * @param string $status Updated status of the pet (optional)
-     * @return void
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function updatePetWithForm($pet_id, $name = null, $status = null)
+    public function updatePetWithFormAsync($pet_id, $name = null, $status = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->updatePetWithFormWithHttpInfo ($pet_id, $name, $status);
-        return $response; 
+        return $this->updatePetWithFormAsyncWithHttpInfo($pet_id, $name, $status)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * updatePetWithFormWithHttpInfo
+     * updatePetWithFormAsyncWithHttpInfo
      *
      * Updates a pet in the store with form data
      *
      * @param string $pet_id ID of pet that needs to be updated (required)
      * @param string $name Updated name of the pet (optional)
      * @param string $status Updated status of the pet (optional)
-     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
      */
-    public function updatePetWithFormWithHttpInfo($pet_id, $name = null, $status = null)
+    public function updatePetWithFormAsyncWithHttpInfo($pet_id, $name = null, $status = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->updatePetWithFormRequest($pet_id, $name, $status);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'POST',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of updatePetWithForm
+     *
+     * @param string $pet_id ID of pet that needs to be updated (required)
+     * @param string $name Updated name of the pet (optional)
+     * @param string $status Updated status of the pet (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function updatePetWithFormRequest($pet_id, $name = null, $status = null)
     {
         
         // verify the required parameter 'pet_id' is set
@@ -643,10 +982,44 @@ class PetApi
             $headerParams['Authorization'] = 'Bearer ' . $this->apiClient->getConfig()->getAccessToken();
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * deletePet
+     *
+     * Deletes a pet
+     *
+     * @param int $pet_id Pet id to delete (required)
+     * @param string $api_key  (optional)
+     * @return void
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function deletePet($pet_id, $api_key = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->deletePetWithHttpInfo ($pet_id, $api_key);
+        return $response; 
+    }
+
+
+    /**
+     * deletePetWithHttpInfo
+     *
+     * Deletes a pet
+     *
+     * @param int $pet_id Pet id to delete (required)
+     * @param string $api_key  (optional)
+     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function deletePetWithHttpInfo($pet_id, $api_key = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->deletePetRequest($pet_id, $api_key);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'POST',
+                $resourcePath, 'DELETE',
                 $queryParams, $httpBody,
                 $headerParams
             );
@@ -660,35 +1033,57 @@ class PetApi
             throw $e;
         }
     }
-    
+
     /**
-     * deletePet
+     * deletePetAsync
      *
      * Deletes a pet
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param int $pet_id Pet id to delete (required)
      * @param string $api_key  (optional)
-     * @return void
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function deletePet($pet_id, $api_key = null)
+    public function deletePetAsync($pet_id, $api_key = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->deletePetWithHttpInfo ($pet_id, $api_key);
-        return $response; 
+        return $this->deletePetAsyncWithHttpInfo($pet_id, $api_key)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * deletePetWithHttpInfo
+     * deletePetAsyncWithHttpInfo
      *
      * Deletes a pet
      *
      * @param int $pet_id Pet id to delete (required)
      * @param string $api_key  (optional)
-     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
      */
-    public function deletePetWithHttpInfo($pet_id, $api_key = null)
+    public function deletePetAsyncWithHttpInfo($pet_id, $api_key = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->deletePetRequest($pet_id, $api_key);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'DELETE',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of deletePet
+     *
+     * @param int $pet_id Pet id to delete (required)
+     * @param string $api_key  (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function deletePetRequest($pet_id, $api_key = null)
     {
         
         // verify the required parameter 'pet_id' is set
@@ -741,10 +1136,46 @@ class PetApi
             $headerParams['Authorization'] = 'Bearer ' . $this->apiClient->getConfig()->getAccessToken();
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * uploadFile
+     *
+     * uploads an image
+     *
+     * @param int $pet_id ID of pet to update (required)
+     * @param string $additional_metadata Additional data to pass to server (optional)
+     * @param \SplFileObject $file file to upload (optional)
+     * @return void
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function uploadFile($pet_id, $additional_metadata = null, $file = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->uploadFileWithHttpInfo ($pet_id, $additional_metadata, $file);
+        return $response; 
+    }
+
+
+    /**
+     * uploadFileWithHttpInfo
+     *
+     * uploads an image
+     *
+     * @param int $pet_id ID of pet to update (required)
+     * @param string $additional_metadata Additional data to pass to server (optional)
+     * @param \SplFileObject $file file to upload (optional)
+     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function uploadFileWithHttpInfo($pet_id, $additional_metadata = null, $file = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->uploadFileRequest($pet_id, $additional_metadata, $file);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'DELETE',
+                $resourcePath, 'POST',
                 $queryParams, $httpBody,
                 $headerParams
             );
@@ -758,37 +1189,60 @@ class PetApi
             throw $e;
         }
     }
-    
+
     /**
-     * uploadFile
+     * uploadFileAsync
      *
      * uploads an image
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param int $pet_id ID of pet to update (required)
      * @param string $additional_metadata Additional data to pass to server (optional)
      * @param \SplFileObject $file file to upload (optional)
-     * @return void
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function uploadFile($pet_id, $additional_metadata = null, $file = null)
+    public function uploadFileAsync($pet_id, $additional_metadata = null, $file = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->uploadFileWithHttpInfo ($pet_id, $additional_metadata, $file);
-        return $response; 
+        return $this->uploadFileAsyncWithHttpInfo($pet_id, $additional_metadata, $file)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * uploadFileWithHttpInfo
+     * uploadFileAsyncWithHttpInfo
      *
      * uploads an image
      *
      * @param int $pet_id ID of pet to update (required)
      * @param string $additional_metadata Additional data to pass to server (optional)
      * @param \SplFileObject $file file to upload (optional)
-     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
      */
-    public function uploadFileWithHttpInfo($pet_id, $additional_metadata = null, $file = null)
+    public function uploadFileAsyncWithHttpInfo($pet_id, $additional_metadata = null, $file = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->uploadFileRequest($pet_id, $additional_metadata, $file);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'POST',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of uploadFile
+     *
+     * @param int $pet_id ID of pet to update (required)
+     * @param string $additional_metadata Additional data to pass to server (optional)
+     * @param \SplFileObject $file file to upload (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function uploadFileRequest($pet_id, $additional_metadata = null, $file = null)
     {
         
         // verify the required parameter 'pet_id' is set
@@ -855,22 +1309,7 @@ class PetApi
             $headerParams['Authorization'] = 'Bearer ' . $this->apiClient->getConfig()->getAccessToken();
         }
         
-        // make the API Call
-        try {
-            list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'POST',
-                $queryParams, $httpBody,
-                $headerParams
-            );
-            
-            return array(null, $statusCode, $httpHeader);
-            
-        } catch (ApiException $e) {
-            switch ($e->getCode()) { 
-            }
-  
-            throw $e;
-        }
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
     }
     
 }
@@ -115,6 +115,79 @@ class StoreApi
      * @throws \Swagger\Client\ApiException on non-2xx response
      */
     public function getInventoryWithHttpInfo()
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->getInventoryRequest();
+
+        // make the API Call
+        try {
+            list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
+                $resourcePath, 'GET',
+                $queryParams, $httpBody,
+                $headerParams, 'map[string,int]'
+            );
+            
+            if (!$response) {
+                return array(null, $statusCode, $httpHeader);
+            }
+
+            return array($this->apiClient->getSerializer()->deserialize($response, 'map[string,int]', $httpHeader), $statusCode, $httpHeader);
+            
+        } catch (ApiException $e) {
+            switch ($e->getCode()) { 
+            case 200:
+                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), 'map[string,int]', $e->getResponseHeaders());
+                $e->setResponseObject($data);
+                break;
+            }
+  
+            throw $e;
+        }
+    }
+
+    /**
+     * getInventoryAsync
+     *
+     * Returns pet inventories by status
+     *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
+     * @return \Swagger\Client\Promise promise of map[string,int], rejected with an \Swagger\Client\ApiException on non-2xx response
+     */
+    public function getInventoryAsync()
+    {
+        return $this->getInventoryAsyncWithHttpInfo()->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
+    }
+
+    /**
+     * getInventoryAsyncWithHttpInfo
+     *
+     * Returns pet inventories by status
+     *
+     * @return \Swagger\Client\Promise promise of an array of map[string,int], HTTP status code, HTTP response headers (array of strings)
+     */
+    public function getInventoryAsyncWithHttpInfo()
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->getInventoryRequest();
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'GET',
+            $queryParams, $httpBody,
+            $headerParams, 'map[string,int]',
+            array('200' => 'map[string,int]', )
+        );
+    }
+
+    /**
+     * Builds the request of getInventory
+     *
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function getInventoryRequest()
     {
         
   
@@ -153,24 +226,56 @@ class StoreApi
         }
         
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * placeOrder
+     *
+     * Place an order for a pet
+     *
+     * @param \Swagger\Client\Model\Order $body order placed for purchasing the pet (optional)
+     * @return \Swagger\Client\Model\Order
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function placeOrder($body = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->placeOrderWithHttpInfo ($body);
+        return $response; 
+    }
+
+
+    /**
+     * placeOrderWithHttpInfo
+     *
+     * Place an order for a pet
+     *
+     * @param \Swagger\Client\Model\Order $body order placed for purchasing the pet (optional)
+     * @return Array of \Swagger\Client\Model\Order, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function placeOrderWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->placeOrderRequest($body);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'GET',
+                $resourcePath, 'POST',
                 $queryParams, $httpBody,
-                $headerParams, 'map[string,int]'
+                $headerParams, '\Swagger\Client\Model\Order'
             );
             
             if (!$response) {
                 return array(null, $statusCode, $httpHeader);
             }
 
-            return array($this->apiClient->getSerializer()->deserialize($response, 'map[string,int]', $httpHeader), $statusCode, $httpHeader);
+            return array($this->apiClient->getSerializer()->deserialize($response, '\Swagger\Client\Model\Order', $httpHeader), $statusCode, $httpHeader);
             
         } catch (ApiException $e) {
             switch ($e->getCode()) { 
             case 200:
-                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), 'map[string,int]', $e->getResponseHeaders());
+                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), '\Swagger\Client\Model\Order', $e->getResponseHeaders());
                 $e->setResponseObject($data);
                 break;
             }
@@ -178,33 +283,54 @@ class StoreApi
             throw $e;
         }
     }
-    
+
     /**
-     * placeOrder
+     * placeOrderAsync
      *
      * Place an order for a pet
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param \Swagger\Client\Model\Order $body order placed for purchasing the pet (optional)
-     * @return \Swagger\Client\Model\Order
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of \Swagger\Client\Model\Order, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function placeOrder($body = null)
+    public function placeOrderAsync($body = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->placeOrderWithHttpInfo ($body);
-        return $response; 
+        return $this->placeOrderAsyncWithHttpInfo($body)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * placeOrderWithHttpInfo
+     * placeOrderAsyncWithHttpInfo
      *
      * Place an order for a pet
      *
      * @param \Swagger\Client\Model\Order $body order placed for purchasing the pet (optional)
-     * @return Array of \Swagger\Client\Model\Order, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of \Swagger\Client\Model\Order, HTTP status code, HTTP response headers (array of strings)
      */
-    public function placeOrderWithHttpInfo($body = null)
+    public function placeOrderAsyncWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->placeOrderRequest($body);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'POST',
+            $queryParams, $httpBody,
+            $headerParams, '\Swagger\Client\Model\Order',
+            array('200' => '\Swagger\Client\Model\Order', )
+        );
+    }
+
+    /**
+     * Builds the request of placeOrder
+     *
+     * @param \Swagger\Client\Model\Order $body order placed for purchasing the pet (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function placeOrderRequest($body = null)
     {
         
   
@@ -240,10 +366,42 @@ class StoreApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * getOrderById
+     *
+     * Find purchase order by ID
+     *
+     * @param string $order_id ID of pet that needs to be fetched (required)
+     * @return \Swagger\Client\Model\Order
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function getOrderById($order_id)
+    {
+        list($response, $statusCode, $httpHeader) = $this->getOrderByIdWithHttpInfo ($order_id);
+        return $response; 
+    }
+
+
+    /**
+     * getOrderByIdWithHttpInfo
+     *
+     * Find purchase order by ID
+     *
+     * @param string $order_id ID of pet that needs to be fetched (required)
+     * @return Array of \Swagger\Client\Model\Order, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function getOrderByIdWithHttpInfo($order_id)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->getOrderByIdRequest($order_id);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'POST',
+                $resourcePath, 'GET',
                 $queryParams, $httpBody,
                 $headerParams, '\Swagger\Client\Model\Order'
             );
@@ -265,33 +423,54 @@ class StoreApi
             throw $e;
         }
     }
-    
+
     /**
-     * getOrderById
+     * getOrderByIdAsync
      *
      * Find purchase order by ID
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param string $order_id ID of pet that needs to be fetched (required)
-     * @return \Swagger\Client\Model\Order
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of \Swagger\Client\Model\Order, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function getOrderById($order_id)
+    public function getOrderByIdAsync($order_id)
     {
-        list($response, $statusCode, $httpHeader) = $this->getOrderByIdWithHttpInfo ($order_id);
-        return $response; 
+        return $this->getOrderByIdAsyncWithHttpInfo($order_id)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * getOrderByIdWithHttpInfo
+     * getOrderByIdAsyncWithHttpInfo
      *
      * Find purchase order by ID
      *
      * @param string $order_id ID of pet that needs to be fetched (required)
-     * @return Array of \Swagger\Client\Model\Order, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of \Swagger\Client\Model\Order, HTTP status code, HTTP response headers (array of strings)
      */
-    public function getOrderByIdWithHttpInfo($order_id)
+    public function getOrderByIdAsyncWithHttpInfo($order_id)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->getOrderByIdRequest($order_id);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'GET',
+            $queryParams, $httpBody,
+            $headerParams, '\Swagger\Client\Model\Order',
+            array('200' => '\Swagger\Client\Model\Order', )
+        );
+    }
+
+    /**
+     * Builds the request of getOrderById
+     *
+     * @param string $order_id ID of pet that needs to be fetched (required)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function getOrderByIdRequest($order_id)
     {
         
         // verify the required parameter 'order_id' is set
@@ -335,58 +514,103 @@ class StoreApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * deleteOrder
+     *
+     * Delete purchase order by ID
+     *
+     * @param string $order_id ID of the order that needs to be deleted (required)
+     * @return void
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function deleteOrder($order_id)
+    {
+        list($response, $statusCode, $httpHeader) = $this->deleteOrderWithHttpInfo ($order_id);
+        return $response; 
+    }
+
+
+    /**
+     * deleteOrderWithHttpInfo
+     *
+     * Delete purchase order by ID
+     *
+     * @param string $order_id ID of the order that needs to be deleted (required)
+     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function deleteOrderWithHttpInfo($order_id)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->deleteOrderRequest($order_id);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'GET',
+                $resourcePath, 'DELETE',
                 $queryParams, $httpBody,
-                $headerParams, '\Swagger\Client\Model\Order'
+                $headerParams
             );
             
-            if (!$response) {
-                return array(null, $statusCode, $httpHeader);
-            }
-
-            return array($this->apiClient->getSerializer()->deserialize($response, '\Swagger\Client\Model\Order', $httpHeader), $statusCode, $httpHeader);
+            return array(null, $statusCode, $httpHeader);
             
         } catch (ApiException $e) {
             switch ($e->getCode()) { 
-            case 200:
-                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), '\Swagger\Client\Model\Order', $e->getResponseHeaders());
-                $e->setResponseObject($data);
-                break;
             }
   
             throw $e;
         }
     }
-    
+
     /**
-     * deleteOrder
+     * deleteOrderAsync
      *
      * Delete purchase order by ID
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param string $order_id ID of the order that needs to be deleted (required)
-     * @return void
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function deleteOrder($order_id)
+    public function deleteOrderAsync($order_id)
     {
-        list($response, $statusCode, $httpHeader) = $this->deleteOrderWithHttpInfo ($order_id);
-        return $response; 
+        return $this->deleteOrderAsyncWithHttpInfo($order_id)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * deleteOrderWithHttpInfo
+     * deleteOrderAsyncWithHttpInfo
      *
      * Delete purchase order by ID
      *
      * @param string $order_id ID of the order that needs to be deleted (required)
-     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
      */
-    public function deleteOrderWithHttpInfo($order_id)
+    public function deleteOrderAsyncWithHttpInfo($order_id)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->deleteOrderRequest($order_id);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'DELETE',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of deleteOrder
+     *
+     * @param string $order_id ID of the order that needs to be deleted (required)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function deleteOrderRequest($order_id)
     {
         
         // verify the required parameter 'order_id' is set
@@ -430,22 +654,7 @@ class StoreApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
-        // make the API Call
-        try {
-            list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'DELETE',
-                $queryParams, $httpBody,
-                $headerParams
-            );
-            
-            return array(null, $statusCode, $httpHeader);
-            
-        } catch (ApiException $e) {
-            switch ($e->getCode()) { 
-            }
-  
-            throw $e;
-        }
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
     }
     
 }
@@ -117,6 +117,74 @@ class UserApi
      * @throws \Swagger\Client\ApiException on non-2xx response
      */
     public function createUserWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->createUserRequest($body);
+
+        // make the API Call
+        try {
+            list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
+                $resourcePath, 'POST',
+                $queryParams, $httpBody,
+                $headerParams
+            );
+            
+            return array(null, $statusCode, $httpHeader);
+            
+        } catch (ApiException $e) {
+            switch ($e->getCode()) { 
+            }
+  
+            throw $e;
+        }
+    }
+
+    /**
+     * createUserAsync
+     *
+     * Create user
+     *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
+     * @param \Swagger\Client\Model\User $body Created user object (optional)
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
+     */
+    public function createUserAsync($body = null)
+    {
+        return $this->createUserAsyncWithHttpInfo($body)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
+    }
+
+    /**
+     * createUserAsyncWithHttpInfo
+     *
+     * Create user
+     *
+     * @param \Swagger\Client\Model\User $body Created user object (optional)
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
+     */
+    public function createUserAsyncWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->createUserRequest($body);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'POST',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of createUser
+     *
+     * @param \Swagger\Client\Model\User $body Created user object (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function createUserRequest($body = null)
     {
         
   
@@ -152,6 +220,38 @@ class UserApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * createUsersWithArrayInput
+     *
+     * Creates list of users with given input array
+     *
+     * @param \Swagger\Client\Model\User[] $body List of user object (optional)
+     * @return void
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function createUsersWithArrayInput($body = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->createUsersWithArrayInputWithHttpInfo ($body);
+        return $response; 
+    }
+
+
+    /**
+     * createUsersWithArrayInputWithHttpInfo
+     *
+     * Creates list of users with given input array
+     *
+     * @param \Swagger\Client\Model\User[] $body List of user object (optional)
+     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function createUsersWithArrayInputWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->createUsersWithArrayInputRequest($body);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
@@ -169,33 +269,54 @@ class UserApi
             throw $e;
         }
     }
-    
+
     /**
-     * createUsersWithArrayInput
+     * createUsersWithArrayInputAsync
      *
      * Creates list of users with given input array
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param \Swagger\Client\Model\User[] $body List of user object (optional)
-     * @return void
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function createUsersWithArrayInput($body = null)
+    public function createUsersWithArrayInputAsync($body = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->createUsersWithArrayInputWithHttpInfo ($body);
-        return $response; 
+        return $this->createUsersWithArrayInputAsyncWithHttpInfo($body)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * createUsersWithArrayInputWithHttpInfo
+     * createUsersWithArrayInputAsyncWithHttpInfo
      *
      * Creates list of users with given input array
      *
      * @param \Swagger\Client\Model\User[] $body List of user object (optional)
-     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
      */
-    public function createUsersWithArrayInputWithHttpInfo($body = null)
+    public function createUsersWithArrayInputAsyncWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->createUsersWithArrayInputRequest($body);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'POST',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of createUsersWithArrayInput
+     *
+     * @param \Swagger\Client\Model\User[] $body List of user object (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function createUsersWithArrayInputRequest($body = null)
     {
         
   
@@ -231,6 +352,38 @@ class UserApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * createUsersWithListInput
+     *
+     * Creates list of users with given input array
+     *
+     * @param \Swagger\Client\Model\User[] $body List of user object (optional)
+     * @return void
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function createUsersWithListInput($body = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->createUsersWithListInputWithHttpInfo ($body);
+        return $response; 
+    }
+
+
+    /**
+     * createUsersWithListInputWithHttpInfo
+     *
+     * Creates list of users with given input array
+     *
+     * @param \Swagger\Client\Model\User[] $body List of user object (optional)
+     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function createUsersWithListInputWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->createUsersWithListInputRequest($body);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
@@ -248,33 +401,54 @@ class UserApi
             throw $e;
         }
     }
-    
+
     /**
-     * createUsersWithListInput
+     * createUsersWithListInputAsync
      *
      * Creates list of users with given input array
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param \Swagger\Client\Model\User[] $body List of user object (optional)
-     * @return void
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function createUsersWithListInput($body = null)
+    public function createUsersWithListInputAsync($body = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->createUsersWithListInputWithHttpInfo ($body);
-        return $response; 
+        return $this->createUsersWithListInputAsyncWithHttpInfo($body)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * createUsersWithListInputWithHttpInfo
+     * createUsersWithListInputAsyncWithHttpInfo
      *
      * Creates list of users with given input array
      *
      * @param \Swagger\Client\Model\User[] $body List of user object (optional)
-     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
      */
-    public function createUsersWithListInputWithHttpInfo($body = null)
+    public function createUsersWithListInputAsyncWithHttpInfo($body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->createUsersWithListInputRequest($body);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'POST',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of createUsersWithListInput
+     *
+     * @param \Swagger\Client\Model\User[] $body List of user object (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function createUsersWithListInputRequest($body = null)
     {
         
   
@@ -310,52 +484,116 @@ class UserApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * loginUser
+     *
+     * Logs user into the system
+     *
+     * @param string $username The user name for login (optional)
+     * @param string $password The password for login in clear text (optional)
+     * @return string
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function loginUser($username = null, $password = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->loginUserWithHttpInfo ($username, $password);
+        return $response; 
+    }
+
+
+    /**
+     * loginUserWithHttpInfo
+     *
+     * Logs user into the system
+     *
+     * @param string $username The user name for login (optional)
+     * @param string $password The password for login in clear text (optional)
+     * @return Array of string, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function loginUserWithHttpInfo($username = null, $password = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->loginUserRequest($username, $password);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'POST',
+                $resourcePath, 'GET',
                 $queryParams, $httpBody,
-                $headerParams
+                $headerParams, 'string'
             );
             
-            return array(null, $statusCode, $httpHeader);
+            if (!$response) {
+                return array(null, $statusCode, $httpHeader);
+            }
+
+            return array($this->apiClient->getSerializer()->deserialize($response, 'string', $httpHeader), $statusCode, $httpHeader);
             
         } catch (ApiException $e) {
             switch ($e->getCode()) { 
+            case 200:
+                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), 'string', $e->getResponseHeaders());
+                $e->setResponseObject($data);
+                break;
             }
   
             throw $e;
         }
     }
-    
+
     /**
-     * loginUser
+     * loginUserAsync
      *
      * Logs user into the system
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param string $username The user name for login (optional)
      * @param string $password The password for login in clear text (optional)
-     * @return string
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of string, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function loginUser($username = null, $password = null)
+    public function loginUserAsync($username = null, $password = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->loginUserWithHttpInfo ($username, $password);
-        return $response; 
+        return $this->loginUserAsyncWithHttpInfo($username, $password)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * loginUserWithHttpInfo
+     * loginUserAsyncWithHttpInfo
      *
      * Logs user into the system
      *
      * @param string $username The user name for login (optional)
      * @param string $password The password for login in clear text (optional)
-     * @return Array of string, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of string, HTTP status code, HTTP response headers (array of strings)
      */
-    public function loginUserWithHttpInfo($username = null, $password = null)
+    public function loginUserAsyncWithHttpInfo($username = null, $password = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->loginUserRequest($username, $password);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'GET',
+            $queryParams, $httpBody,
+            $headerParams, 'string',
+            array('200' => 'string', )
+        );
+    }
+
+    /**
+     * Builds the request of loginUser
+     *
+     * @param string $username The user name for login (optional)
+     * @param string $password The password for login in clear text (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function loginUserRequest($username = null, $password = null)
     {
         
   
@@ -395,56 +633,98 @@ class UserApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * logoutUser
+     *
+     * Logs out current logged in user session
+     *
+     * @return void
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function logoutUser()
+    {
+        list($response, $statusCode, $httpHeader) = $this->logoutUserWithHttpInfo ();
+        return $response; 
+    }
+
+
+    /**
+     * logoutUserWithHttpInfo
+     *
+     * Logs out current logged in user session
+     *
+     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function logoutUserWithHttpInfo()
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->logoutUserRequest();
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
                 $resourcePath, 'GET',
                 $queryParams, $httpBody,
-                $headerParams, 'string'
+                $headerParams
             );
             
-            if (!$response) {
-                return array(null, $statusCode, $httpHeader);
-            }
-
-            return array($this->apiClient->getSerializer()->deserialize($response, 'string', $httpHeader), $statusCode, $httpHeader);
+            return array(null, $statusCode, $httpHeader);
             
         } catch (ApiException $e) {
             switch ($e->getCode()) { 
-            case 200:
-                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), 'string', $e->getResponseHeaders());
-                $e->setResponseObject($data);
-                break;
             }
   
             throw $e;
         }
     }
-    
+
     /**
-     * logoutUser
+     * logoutUserAsync
      *
      * Logs out current logged in user session
      *
-     * @return void
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function logoutUser()
+    public function logoutUserAsync()
     {
-        list($response, $statusCode, $httpHeader) = $this->logoutUserWithHttpInfo ();
-        return $response; 
+        return $this->logoutUserAsyncWithHttpInfo()->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * logoutUserWithHttpInfo
+     * logoutUserAsyncWithHttpInfo
      *
      * Logs out current logged in user session
      *
-     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
      */
-    public function logoutUserWithHttpInfo()
+    public function logoutUserAsyncWithHttpInfo()
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->logoutUserRequest();
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'GET',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of logoutUser
+     *
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function logoutUserRequest()
     {
         
   
@@ -476,50 +756,111 @@ class UserApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * getUserByName
+     *
+     * Get user by user name
+     *
+     * @param string $username The name that needs to be fetched. Use user1 for testing. (required)
+     * @return \Swagger\Client\Model\User
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function getUserByName($username)
+    {
+        list($response, $statusCode, $httpHeader) = $this->getUserByNameWithHttpInfo ($username);
+        return $response; 
+    }
+
+
+    /**
+     * getUserByNameWithHttpInfo
+     *
+     * Get user by user name
+     *
+     * @param string $username The name that needs to be fetched. Use user1 for testing. (required)
+     * @return Array of \Swagger\Client\Model\User, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function getUserByNameWithHttpInfo($username)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->getUserByNameRequest($username);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
                 $resourcePath, 'GET',
                 $queryParams, $httpBody,
-                $headerParams
+                $headerParams, '\Swagger\Client\Model\User'
             );
             
-            return array(null, $statusCode, $httpHeader);
+            if (!$response) {
+                return array(null, $statusCode, $httpHeader);
+            }
+
+            return array($this->apiClient->getSerializer()->deserialize($response, '\Swagger\Client\Model\User', $httpHeader), $statusCode, $httpHeader);
             
         } catch (ApiException $e) {
             switch ($e->getCode()) { 
+            case 200:
+                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), '\Swagger\Client\Model\User', $e->getResponseHeaders());
+                $e->setResponseObject($data);
+                break;
             }
   
             throw $e;
         }
     }
-    
+
     /**
-     * getUserByName
+     * getUserByNameAsync
      *
      * Get user by user name
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param string $username The name that needs to be fetched. Use user1 for testing. (required)
-     * @return \Swagger\Client\Model\User
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of \Swagger\Client\Model\User, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function getUserByName($username)
+    public function getUserByNameAsync($username)
     {
-        list($response, $statusCode, $httpHeader) = $this->getUserByNameWithHttpInfo ($username);
-        return $response; 
+        return $this->getUserByNameAsyncWithHttpInfo($username)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * getUserByNameWithHttpInfo
+     * getUserByNameAsyncWithHttpInfo
      *
      * Get user by user name
      *
      * @param string $username The name that needs to be fetched. Use user1 for testing. (required)
-     * @return Array of \Swagger\Client\Model\User, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of \Swagger\Client\Model\User, HTTP status code, HTTP response headers (array of strings)
      */
-    public function getUserByNameWithHttpInfo($username)
+    public function getUserByNameAsyncWithHttpInfo($username)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->getUserByNameRequest($username);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'GET',
+            $queryParams, $httpBody,
+            $headerParams, '\Swagger\Client\Model\User',
+            array('200' => '\Swagger\Client\Model\User', )
+        );
+    }
+
+    /**
+     * Builds the request of getUserByName
+     *
+     * @param string $username The name that needs to be fetched. Use user1 for testing. (required)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function getUserByNameRequest($username)
     {
         
         // verify the required parameter 'username' is set
@@ -563,60 +904,108 @@ class UserApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * updateUser
+     *
+     * Updated user
+     *
+     * @param string $username name that need to be deleted (required)
+     * @param \Swagger\Client\Model\User $body Updated user object (optional)
+     * @return void
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function updateUser($username, $body = null)
+    {
+        list($response, $statusCode, $httpHeader) = $this->updateUserWithHttpInfo ($username, $body);
+        return $response; 
+    }
+
+
+    /**
+     * updateUserWithHttpInfo
+     *
+     * Updated user
+     *
+     * @param string $username name that need to be deleted (required)
+     * @param \Swagger\Client\Model\User $body Updated user object (optional)
+     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function updateUserWithHttpInfo($username, $body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->updateUserRequest($username, $body);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'GET',
+                $resourcePath, 'PUT',
                 $queryParams, $httpBody,
-                $headerParams, '\Swagger\Client\Model\User'
+                $headerParams
             );
             
-            if (!$response) {
-                return array(null, $statusCode, $httpHeader);
-            }
-
-            return array($this->apiClient->getSerializer()->deserialize($response, '\Swagger\Client\Model\User', $httpHeader), $statusCode, $httpHeader);
+            return array(null, $statusCode, $httpHeader);
             
         } catch (ApiException $e) {
             switch ($e->getCode()) { 
-            case 200:
-                $data = $this->apiClient->getSerializer()->deserialize($e->getResponseBody(), '\Swagger\Client\Model\User', $e->getResponseHeaders());
-                $e->setResponseObject($data);
-                break;
             }
   
             throw $e;
         }
     }
-    
+
     /**
-     * updateUser
+     * updateUserAsync
      *
      * Updated user
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param string $username name that need to be deleted (required)
      * @param \Swagger\Client\Model\User $body Updated user object (optional)
-     * @return void
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function updateUser($username, $body = null)
+    public function updateUserAsync($username, $body = null)
     {
-        list($response, $statusCode, $httpHeader) = $this->updateUserWithHttpInfo ($username, $body);
-        return $response; 
+        return $this->updateUserAsyncWithHttpInfo($username, $body)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * updateUserWithHttpInfo
+     * updateUserAsyncWithHttpInfo
      *
      * Updated user
      *
      * @param string $username name that need to be deleted (required)
      * @param \Swagger\Client\Model\User $body Updated user object (optional)
-     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
      */
-    public function updateUserWithHttpInfo($username, $body = null)
+    public function updateUserAsyncWithHttpInfo($username, $body = null)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->updateUserRequest($username, $body);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'PUT',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of updateUser
+     *
+     * @param string $username name that need to be deleted (required)
+     * @param \Swagger\Client\Model\User $body Updated user object (optional)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function updateUserRequest($username, $body = null)
     {
         
         // verify the required parameter 'username' is set
@@ -664,10 +1053,42 @@ class UserApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
+    }
+    
+    /**
+     * deleteUser
+     *
+     * Delete user
+     *
+     * @param string $username The name that needs to be deleted (required)
+     * @return void
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function deleteUser($username)
+    {
+        list($response, $statusCode, $httpHeader) = $this->deleteUserWithHttpInfo ($username);
+        return $response; 
+    }
+
+
+    /**
+     * deleteUserWithHttpInfo
+     *
+     * Delete user
+     *
+     * @param string $username The name that needs to be deleted (required)
+     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
+     * @throws \Swagger\Client\ApiException on non-2xx response
+     */
+    public function deleteUserWithHttpInfo($username)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->deleteUserRequest($username);
+
         // make the API Call
         try {
             list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'PUT',
+                $resourcePath, 'DELETE',
                 $queryParams, $httpBody,
                 $headerParams
             );
@@ -681,33 +1102,54 @@ class UserApi
             throw $e;
         }
     }
-    
+
     /**
-     * deleteUser
+     * deleteUserAsync
      *
      * Delete user
      *
+     * The call is made, concurrently with the other queued calls of the API client,
+     * when one of their promises is waited for.
+     *
      * @param string $username The name that needs to be deleted (required)
-     * @return void
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of null, rejected with an \Swagger\Client\ApiException on non-2xx response
      */
-    public function deleteUser($username)
+    public function deleteUserAsync($username)
     {
-        list($response, $statusCode, $httpHeader) = $this->deleteUserWithHttpInfo ($username);
-        return $response; 
+        return $this->deleteUserAsyncWithHttpInfo($username)->then(
+            function ($result) {
+                return $result[0];
+            }
+        );
     }
 
-
     /**
-     * deleteUserWithHttpInfo
+     * deleteUserAsyncWithHttpInfo
      *
      * Delete user
      *
      * @param string $username The name that needs to be deleted (required)
-     * @return Array of null, HTTP status code, HTTP response headers (array of strings)
-     * @throws \Swagger\Client\ApiException on non-2xx response
+     * @return \Swagger\Client\Promise promise of an array of null, HTTP status code, HTTP response headers (array of strings)
      */
-    public function deleteUserWithHttpInfo($username)
+    public function deleteUserAsyncWithHttpInfo($username)
+    {
+        list($resourcePath, $httpBody, $queryParams, $headerParams) = $this->deleteUserRequest($username);
+
+        return $this->apiClient->callApiAsync(
+            $resourcePath, 'DELETE',
+            $queryParams, $httpBody,
+            $headerParams, null,
+            array()
+        );
+    }
+
+    /**
+     * Builds the request of deleteUser
+     *
+     * @param string $username The name that needs to be deleted (required)
+     * @return array the resource path, HTTP body, query parameters and header parameters
+     */
+    protected function deleteUserRequest($username)
     {
         
         // verify the required parameter 'username' is set
@@ -751,22 +1193,7 @@ class UserApi
             $httpBody = $formParams; // for HTTP post (form)
         }
         
-        // make the API Call
-        try {
-            list($response, $statusCode, $httpHeader) = $this->apiClient->callApi(
-                $resourcePath, 'DELETE',
-                $queryParams, $httpBody,
-                $headerParams
-            );
-            
-            return array(null, $statusCode, $httpHeader);
-            
-        } catch (ApiException $e) {
-            switch ($e->getCode()) { 
-            }
-  
-            throw $e;
-        }
+        return array($resourcePath, $httpBody, $queryParams, $headerParams);
     }
     
 }
@@ -65,6 +65,24 @@ class ApiClient
      */
     protected $serializer;
 
+    /**
+     * Idle curl handles, kept with their open connections
+     * @var resource[]
+     */
+    protected $curlHandles = array();
+
+    /**
+     * Curl multi handle of the concurrent calls
+     * @var resource
+     */
+    protected $multiHandle;
+
+    /**
+     * Queued asynchronous calls: the arguments of callApi(), the error types and the promise
+     * @var array[]
+     */
+    protected $queue = array();
+
     /**
      * Constructor of the class
      * @param Configuration $config config for this ApiClient
@@ -132,6 +150,234 @@ class ApiClient
      * @return mixed
      */
     public function callApi($resourcePath, $method, $queryParams, $postData, $headerParams, $responseType = null)
+    {
+        // the handle keeps its connection open for the next calls
+        $curl = $this->acquireCurlHandle();
+        try {
+            $url = $this->prepareRequest($curl, $resourcePath, $method, $queryParams, $postData, $headerParams);
+
+            // Make the request
+            $result = $this->handleResponse($curl, curl_exec($curl), $url, $responseType);
+        } catch (\Exception $e) {
+            $this->releaseCurlHandle($curl);
+            throw $e;
+        }
+        $this->releaseCurlHandle($curl);
+        return $result;
+    }
+
+    /**
+     * Make the HTTP calls concurrently, at most Configuration::getMaxConcurrentRequests() at a time
+     * @param array[] $requests the arguments of callApi() for each call: array($resourcePath, $method,
+     *                          $queryParams, $postData, $headerParams, $responseType)
+     * @return array the result of callApi() for each call (with the key of its request), or the
+     *               \Swagger\Client\ApiException of the call
+     */
+    public function callApiMulti(array $requests)
+    {
+        if ($this->multiHandle === null) {
+            // kept for the connections it caches
+            $this->multiHandle = curl_multi_init();
+        }
+        $multi = $this->multiHandle;
+        $maxConcurrentRequests = $this->config->getMaxConcurrentRequests();
+        $pending = $requests;
+        $running = array();
+        $results = array();
+
+        try {
+            while (!empty($pending) || !empty($running)) {
+                while (!empty($pending) && count($running) < $maxConcurrentRequests) {
+                    reset($pending);
+                    $key = key($pending);
+                    $request = array_pad(array_values($pending[$key]), 6, null);
+                    unset($pending[$key]);
+
+                    $curl = $this->acquireCurlHandle();
+                    try {
+                        $url = $this->prepareRequest($curl, $request[0], $request[1], $request[2], $request[3], $request[4]);
+                    } catch (ApiException $e) {
+                        $results[$key] = $e;
+                        $this->releaseCurlHandle($curl);
+                        continue;
+                    }
+                    curl_multi_add_handle($multi, $curl);
+                    $running[$this->curlHandleId($curl)] = array($key, $url, $request[5], $curl);
+                }
+
+                do {
+                    $status = curl_multi_exec($multi, $active);
+                } while ($status === CURLM_CALL_MULTI_PERFORM);
+
+                while (($info = curl_multi_info_read($multi)) !== false) {
+                    $curl = $info['handle'];
+                    list($key, $url, $responseType) = $running[$this->curlHandleId($curl)];
+                    unset($running[$this->curlHandleId($curl)]);
+                    curl_multi_remove_handle($multi, $curl);
+                    try {
+                        $results[$key] = $this->handleResponse($curl, curl_multi_getcontent($curl), $url, $responseType);
+                    } catch (ApiException $e) {
+                        $results[$key] = $e;
+                    }
+                    $this->releaseCurlHandle($curl);
+                }
+
+                if (!empty($running) && curl_multi_select($multi, 1.0) === -1) {
+                    // no file descriptor to wait for (yet), see curl_multi_fdset
+                    usleep(1000);
+                }
+            }
+        } catch (\Exception $e) {
+            // detach the handles of the unfinished calls, the multi handle is kept for the next calls
+            foreach ($running as $call) {
+                curl_multi_remove_handle($multi, $call[3]);
+                curl_close($call[3]);
+            }
+            throw $e;
+        }
+
+        // in the order of the requests
+        $ordered = array();
+        foreach (array_keys($requests) as $key) {
+            $ordered[$key] = $results[$key];
+        }
+        return $ordered;
+    }
+
+    /**
+     * Queue an HTTP call, made concurrently with the other queued calls when one of
+     * their promises is waited for (see wait())
+     * @param string   $resourcePath path to method endpoint
+     * @param string   $method       method to call
+     * @param array    $queryParams  parameters to be place in query URL
+     * @param array    $postData     parameters to be placed in POST body
+     * @param array    $headerParams parameters to be place in request header
+     * @param string   $responseType expected response type of the endpoint
+     * @param string[] $errorTypes   types of the error responses by status code ('default' for any other)
+     * @return \Swagger\Client\Promise the promise of the deserialized response, HTTP status code and
+     *                                       HTTP response headers, rejected with an ApiException on a non 2xx response
+     */
+    public function callApiAsync($resourcePath, $method, $queryParams, $postData, $headerParams, $responseType = null, $errorTypes = array())
+    {
+        $promise = new Promise($this);
+        $this->queue[] = array(
+            array($resourcePath, $method, $queryParams, $postData, $headerParams, $responseType),
+            $errorTypes,
+            $promise
+        );
+        return $promise;
+    }
+
+    /**
+     * Make the queued HTTP calls, including the ones queued by the handlers of their promises
+     * @return void
+     */
+    public function wait()
+    {
+        while (!empty($this->queue)) {
+            $queue = $this->queue;
+            $this->queue = array();
+
+            $requests = array();
+            foreach ($queue as $key => $call) {
+                $requests[$key] = $call[0];
+            }
+            foreach ($this->callApiMulti($requests) as $key => $result) {
+                list($request, $errorTypes, $promise) = $queue[$key];
+                if ($result instanceof ApiException) {
+                    $this->deserializeErrorResponse($result, $errorTypes);
+                    $promise->reject($result);
+                } else {
+                    $promise->resolve($this->deserializeResponse($result, $request[5]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Deserialize the response of an HTTP call
+     * @param array  $result       the response, HTTP status code and HTTP response headers
+     * @param string $responseType expected response type of the endpoint
+     * @return array the deserialized response, HTTP status code and HTTP response headers
+     */
+    protected function deserializeResponse($result, $responseType)
+    {
+        list($response, $statusCode, $httpHeader) = $result;
+        if ($responseType === null || !$response) {
+            return array(null, $statusCode, $httpHeader);
+        }
+        return array($this->serializer->deserialize($response, $responseType, $httpHeader), $statusCode, $httpHeader);
+    }
+
+    /**
+     * Set the deserialized response object of an error response
+     * @param ApiException $e          the exception of the error response
+     * @param string[]     $errorTypes types of the error responses by status code ('default' for any other)
+     * @return void
+     */
+    protected function deserializeErrorResponse(ApiException $e, $errorTypes)
+    {
+        $code = (string) $e->getCode();
+        if (isset($errorTypes[$code])) {
+            $type = $errorTypes[$code];
+        } elseif (isset($errorTypes['default'])) {
+            $type = $errorTypes['default'];
+        } else {
+            return;
+        }
+        $e->setResponseObject($this->serializer->deserialize($e->getResponseBody(), $type, $e->getResponseHeaders()));
+    }
+
+    /**
+     * Get an idle curl handle, or a new one
+     * @return resource
+     */
+    protected function acquireCurlHandle()
+    {
+        if (!empty($this->curlHandles)) {
+            return array_pop($this->curlHandles);
+        }
+        return curl_init();
+    }
+
+    /**
+     * Keep the curl handle, and its open connection, for the next calls
+     * @param resource $curl the curl handle of a complete call
+     * @return void
+     */
+    protected function releaseCurlHandle($curl)
+    {
+        // curl_reset (PHP 5.5) clears the options of the call but keeps the connection
+        if (function_exists('curl_reset')) {
+            curl_reset($curl);
+            $this->curlHandles[] = $curl;
+        } else {
+            curl_close($curl);
+        }
+    }
+
+    /**
+     * Get a key of the curl handle (a resource, or an object as of PHP 8)
+     * @param resource $curl the curl handle
+     * @return string
+     */
+    protected function curlHandleId($curl)
+    {
+        return is_object($curl) ? spl_object_hash($curl) : (string) (int) $curl;
+    }
+
+    /**
+     * Set the options of the HTTP call on a curl handle
+     * @param resource $curl         the curl handle
+     * @param string   $resourcePath path to method endpoint
+     * @param string   $method       method to call
+     * @param array    $queryParams  parameters to be place in query URL
+     * @param array    $postData     parameters to be placed in POST body
+     * @param array    $headerParams parameters to be place in request header
+     * @throws \Swagger\Client\ApiException on an unknown method
+     * @return string the URL of the call
+     */
+    protected function prepareRequest($curl, $resourcePath, $method, $queryParams, $postData, $headerParams)
     {
 
         $headers = array();
@@ -153,9 +399,15 @@ class ApiClient
             $postData = json_encode($this->serializer->sanitizeForSerialization($postData));
         }
 
+        // gzip-compress large request bodies
+        $threshold = $this->config->getGzipRequestThreshold();
+        if ($threshold !== null and is_string($postData) and strlen($postData) >= $threshold) {
+            $postData = gzencode($postData);
+            $headers[] = 'Content-Encoding: gzip';
+        }
+
         $url = $this->config->getHost() . $resourcePath;
 
-        $curl = curl_init();
         // set timeout, if needed
         if ($this->config->getCurlTimeout() != 0) {
             curl_setopt($curl, CURLOPT_TIMEOUT, $this->config->getCurlTimeout());
@@ -171,6 +423,11 @@ class ApiClient
             curl_setopt($curl, CURLOPT_SSL_VERIFYHOST, 0);
         }
 
+        // request gzip-encoded responses, which are decoded by curl
+        if ($this->config->getAcceptGzip()) {
+            curl_setopt($curl, CURLOPT_ENCODING, 'gzip');
+        }
+
         if (! empty($queryParams)) {
             $url = ($url . '?' . http_build_query($queryParams));
         }
@@ -213,8 +470,20 @@ class ApiClient
         // obtain the HTTP response headers
         curl_setopt($curl, CURLOPT_HEADER, 1);
 
-        // Make the request
-        $response = curl_exec($curl);
+        return $url;
+    }
+
+    /**
+     * Handle the response of an HTTP call
+     * @param resource $curl         the curl handle of the call
+     * @param string   $response     the response, including its headers
+     * @param string   $url          the URL of the call
+     * @param string   $responseType expected response type of the endpoint
+     * @throws \Swagger\Client\ApiException on a non 2xx response
+     * @return array the response, HTTP status code and HTTP response headers
+     */
+    protected function handleResponse($curl, $response, $url, $responseType)
+    {
         $http_header_size = curl_getinfo($curl, CURLINFO_HEADER_SIZE);
         $http_header = $this->http_parse_headers(substr($response, 0, $http_header_size));
         $http_body = substr($response, $http_header_size);
@@ -142,6 +142,30 @@ class Configuration
      */
     protected $sslVerification = true;
 
+    /**
+     * Indicates if gzip-encoded responses should be requested (enabled by default).
+     *
+     * The responses are decoded transparently by curl.
+     *
+     * @var boolean True if gzip-encoded responses should be requested, false otherwise.
+     */
+    protected $acceptGzip = true;
+
+    /**
+     * Request bodies with at least this many bytes are gzip-compressed and sent
+     * with the "Content-Encoding: gzip" header (disabled by default).
+     *
+     * @var int|null Minimum request body size in bytes, null to disable request compression.
+     */
+    protected $gzipRequestThreshold = null;
+
+    /**
+     * Maximum number of requests in flight when running asynchronous calls (10 by default)
+     *
+     * @var integer
+     */
+    protected $maxConcurrentRequests = 10;
+
     /**
      * Constructor
      */
@@ -480,6 +504,79 @@ class Configuration
         return $this->sslVerification;
     }
 
+    /**
+     * Sets if gzip-encoded responses should be requested
+     *
+     * @param boolean $acceptGzip True if gzip-encoded responses should be requested, false otherwise
+     *
+     * @return Configuration
+     */
+    public function setAcceptGzip($acceptGzip)
+    {
+        $this->acceptGzip = $acceptGzip;
+        return $this;
+    }
+
+    /**
+     * Gets if gzip-encoded responses should be requested
+     *
+     * @return boolean True if gzip-encoded responses should be requested, false otherwise
+     */
+    public function getAcceptGzip()
+    {
+        return $this->acceptGzip;
+    }
+
+    /**
+     * Sets the minimum size of the request bodies to gzip-compress
+     *
+     * @param int|null $gzipRequestThreshold Minimum request body size in bytes, null to disable request compression
+     *
+     * @return Configuration
+     */
+    public function setGzipRequestThreshold($gzipRequestThreshold)
+    {
+        $this->gzipRequestThreshold = $gzipRequestThreshold;
+        return $this;
+    }
+
+    /**
+     * Gets the minimum size of the request bodies to gzip-compress
+     *
+     * @return int|null Minimum request body size in bytes, null if request compression is disabled
+     */
+    public function getGzipRequestThreshold()
+    {
+        return $this->gzipRequestThreshold;
+    }
+
+    /**
+     * Sets the maximum number of requests in flight when running asynchronous calls
+     *
+     * @param integer $maxConcurrentRequests Maximum number of concurrent requests
+     *
+     * @return Configuration
+     */
+    public function setMaxConcurrentRequests($maxConcurrentRequests)
+    {
+        if (!is_numeric($maxConcurrentRequests) || $maxConcurrentRequests < 1) {
+            throw new \InvalidArgumentException('Maximum number of concurrent requests must be a positive number.');
+        }
+
+        $this->maxConcurrentRequests = (int) $maxConcurrentRequests;
+        return $this;
+    }
+
+    /**
+     * Gets the maximum number of requests in flight when running asynchronous calls
+     *
+     * @return integer Maximum number of concurrent requests
+     */
+    public function getMaxConcurrentRequests()
+    {
+        return $this->maxConcurrentRequests;
+    }
+
     /**
      * Gets the default configuration instance
      *
@@ -0,0 +1,251 @@
+<?php
+/**
+ * Promise
+ * PHP version 5
+ *
+ * @category Class
+ * @package  Swagger\Client
+ * @author   http://github.com/swagger-api/swagger-codegen
+ * @license  http://www.apache.org/licenses/LICENSE-2.0 Apache Licene v2
+ * @link     https://github.com/swagger-api/swagger-codegen
+ */
+/**
+ *  Copyright 2016 SmartBear Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+/**
+ * NOTE: This class is auto generated by the swagger code generator program.
+ * https://github.com/swagger-api/swagger-codegen
+ * Do not edit the class manually.
+ */
+
+namespace Swagger\Client;
+
+use \Exception;
+
+/**
+ * Promise Class Doc Comment
+ *
+ * The eventual result of an asynchronous API call. The calls queued on an
+ * ApiClient run concurrently when one of their promises is waited for.
+ *
+ * @category Class
+ * @package  Swagger\Client
+ * @author   http://github.com/swagger-api/swagger-codegen
+ * @license  http://www.apache.org/licenses/LICENSE-2.0 Apache Licene v2
+ * @link     https://github.com/swagger-api/swagger-codegen
+ */
+class Promise
+{
+    const PENDING = 'pending';
+    const FULFILLED = 'fulfilled';
+    const REJECTED = 'rejected';
+
+    /**
+     * API client running the call of the promise
+     * @var ApiClient
+     */
+    protected $apiClient;
+
+    /**
+     * State of the promise (PENDING, FULFILLED or REJECTED)
+     * @var string
+     */
+    protected $state = self::PENDING;
+
+    /**
+     * Value of the fulfilled promise
+     * @var mixed
+     */
+    protected $value;
+
+    /**
+     * Reason of the rejected promise
+     * @var \Exception
+     */
+    protected $reason;
+
+    /**
+     * Handlers registered with then(), run when the promise is settled
+     * @var array[]
+     */
+    protected $handlers = array();
+
+    /**
+     * Constructor
+     * @param ApiClient $apiClient API client running the call of the promise
+     */
+    public function __construct(ApiClient $apiClient = null)
+    {
+        $this->apiClient = $apiClient;
+    }
+
+    /**
+     * Gets the state of the promise
+     *
+     * @return string PENDING, FULFILLED or REJECTED
+     */
+    public function getState()
+    {
+        return $this->state;
+    }
+
+    /**
+     * Registers handlers of the value or the reason of the promise
+     *
+     * @param callable|null $onFulfilled called with the value, returns the value of the new promise
+     * @param callable|null $onRejected  called with the reason, returns the value of the new promise
+     *
+     * @return Promise the promise of the value returned by the handler (rejected if it throws),
+     *                 settled as the promise returned by the handler, if any
+     */
+    public function then($onFulfilled = null, $onRejected = null)
+    {
+        $promise = new Promise($this->apiClient);
+        $this->handlers[] = array($onFulfilled, $onRejected, $promise);
+        if ($this->state !== self::PENDING) {
+            $this->runHandlers();
+        }
+        return $promise;
+    }
+
+    /**
+     * Registers a handler of the reason of the promise
+     *
+     * @param callable $onRejected called with the reason, returns the value of the new promise
+     *
+     * @return Promise
+     */
+    public function otherwise($onRejected)
+    {
+        return $this->then(null, $onRejected);
+    }
+
+    /**
+     * Waits for the promise, running the calls queued on the API client
+     *
+     * @throws \Exception the reason of the rejected promise
+     * @return mixed the value of the fulfilled promise
+     */
+    public function wait()
+    {
+        if ($this->state === self::PENDING && $this->apiClient !== null) {
+            $this->apiClient->wait();
+        }
+        if ($this->state === self::PENDING) {
+            throw new \LogicException('The promise is not settled by a call of its API client');
+        }
+        if ($this->state === self::REJECTED) {
+            throw $this->reason;
+        }
+        return $this->value;
+    }
+
+    /**
+     * Fulfills the promise
+     *
+     * @param mixed $value value of the promise
+     *
+     * @return void
+     */
+    public function resolve($value)
+    {
+        $this->settle(self::FULFILLED, $value, null);
+    }
+
+    /**
+     * Rejects the promise
+     *
+     * @param \Exception $reason reason of the rejection
+     *
+     * @return void
+     */
+    public function reject(Exception $reason)
+    {
+        $this->settle(self::REJECTED, null, $reason);
+    }
+
+    /**
+     * Settles the promise, once
+     *
+     * @param string     $state  FULFILLED or REJECTED
+     * @param mixed      $value  value of the fulfilled promise
+     * @param \Exception $reason reason of the rejected promise
+     *
+     * @return void
+     */
+    protected function settle($state, $value, $reason)
+    {
+        if ($this->state !== self::PENDING) {
+            throw new \LogicException('The promise is already ' . $this->state);
+        }
+        $this->state = $state;
+        $this->value = $value;
+        $this->reason = $reason;
+        $this->runHandlers();
+    }
+
+    /**
+     * Runs the registered handlers and settles their promises
+     *
+     * @return void
+     */
+    protected function runHandlers()
+    {
+        $handlers = $this->handlers;
+        $this->handlers = array();
+        foreach ($handlers as $handler) {
+            list($onFulfilled, $onRejected, $promise) = $handler;
+            $callback = $this->state === self::FULFILLED ? $onFulfilled : $onRejected;
+            if ($callback === null) {
+                // pass the value or the reason through
+                $this->state === self::FULFILLED ? $promise->resolve($this->value) : $promise->reject($this->reason);
+                continue;
+            }
+            try {
+                $result = call_user_func($callback, $this->state === self::FULFILLED ? $this->value : $this->reason);
+            } catch (Exception $e) {
+                $promise->reject($e);
+                continue;
+            }
+            self::follow($promise, $result);
+        }
+    }
+
+    /**
+     * Settles the promise with the result of a handler: as the promise returned by the handler, if any
+     *
+     * @param Promise $promise promise of the handler
+     * @param mixed   $result  value returned by the handler
+     *
+     * @return void
+     */
+    protected static function follow(Promise $promise, $result)
+    {
+        if (!($result instanceof Promise)) {
+            $promise->resolve($result);
+        } elseif ($result === $promise) {
+            $promise->reject(new \LogicException('A promise cannot be settled as itself'));
+        } else {
+            $result->then(
+                function ($value) use ($promise) {
+                    $promise->resolve($value);
+                },
+                function ($reason) use ($promise) {
+                    $promise->reject($reason);
+                }
+            );
+        }
+    }
+}
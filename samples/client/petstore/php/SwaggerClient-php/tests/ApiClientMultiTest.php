@@ -0,0 +1,129 @@
+<?php
+
+require_once('autoload.php');
+
+// concurrent calls against a stub server (tests/stub_server.php)
+class ApiClientMultiTest extends \PHPUnit_Framework_TestCase
+{
+  private static $server;
+  private static $host;
+
+  public static function setUpBeforeClass() {
+    $port = mt_rand(20000, 40000);
+    self::$host = "http://localhost:$port/v2";
+    // several workers (PHP 7.4+) so that the slow pet doesn't hold the other calls
+    self::$server = proc_open(
+      'PHP_CLI_SERVER_WORKERS=4 exec ' . escapeshellarg(PHP_BINARY) . " -S localhost:$port " . escapeshellarg(__DIR__ . '/stub_server.php'),
+      array(array('pipe', 'r'), array('file', '/dev/null', 'w'), array('file', '/dev/null', 'w')),
+      $pipes
+    );
+    // wait for the server to listen
+    for ($i = 0; $i < 50 && !@fsockopen('localhost', $port); $i++) {
+      usleep(100000);
+    }
+  }
+
+  public static function tearDownAfterClass() {
+    proc_terminate(self::$server);
+  }
+
+  private function newApiClient() {
+    $config = new Swagger\Client\Configuration();
+    $config->setHost(self::$host);
+    return new Swagger\Client\ApiClient($config);
+  }
+
+  // the results are in the order of the requests, not of the responses
+  public function testCallApiMultiKeepsRequestOrder()
+  {
+    $api_client = $this->newApiClient();
+    $results = $api_client->callApiMulti(array(
+      'slow' => array('/pet/1', 'GET', array(), null, array()),
+      'fast' => array('/pet/2', 'GET', array(), null, array()),
+      'other' => array('/pet/3', 'GET', array(), null, array()),
+    ));
+
+    $this->assertSame(array('slow', 'fast', 'other'), array_keys($results));
+    $this->assertSame(1, $results['slow'][0]->id);
+    $this->assertSame(2, $results['fast'][0]->id);
+    $this->assertSame(3, $results['other'][0]->id);
+    $this->assertSame(200, $results['fast'][1]);
+  }
+
+  // a failing call is reported with its exception, the other calls complete
+  public function testCallApiMultiReportsErrors()
+  {
+    $api_client = $this->newApiClient();
+    $results = $api_client->callApiMulti(array(
+      array('/pet/2', 'GET', array(), null, array()),
+      array('/pet/404', 'GET', array(), null, array()),
+      array('/pet/3', 'GET', array(), null, array()),
+    ));
+
+    $this->assertInstanceOf('Swagger\Client\ApiException', $results[1]);
+    $this->assertSame(404, $results[1]->getCode());
+    $this->assertSame(2, $results[0][0]->id);
+    $this->assertSame(3, $results[2][0]->id);
+
+    // the client is still usable
+    $results = $api_client->callApiMulti(array(array('/pet/4', 'GET', array(), null, array())));
+    $this->assertSame(4, $results[0][0]->id);
+  }
+
+  public function testAsyncCallsAreRejectedWithTheirError()
+  {
+    $pet_api = new Swagger\Client\Api\PetApi($this->newApiClient());
+    $found = $pet_api->getPetByIdAsync(2);
+    $missing = $pet_api->getPetByIdAsync(404);
+
+    $this->assertSame('pet 2', $found->wait()->getName());
+    $this->assertSame(Swagger\Client\Promise::REJECTED, $missing->getState());
+    try {
+      $missing->wait();
+      $this->fail('expected an ApiException');
+    } catch (Swagger\Client\ApiException $e) {
+      $this->assertSame(404, $e->getCode());
+    }
+  }
+
+  // a promise returned by a handler is waited for, the calls it queues included
+  public function testThenFollowsReturnedPromise()
+  {
+    $pet_api = new Swagger\Client\Api\PetApi($this->newApiClient());
+    $promise = $pet_api->getPetByIdAsync(2)->then(function ($pet) use ($pet_api) {
+      return $pet_api->getPetByIdAsync($pet->getId() + 1);
+    });
+
+    $this->assertSame('pet 3', $promise->wait()->getName());
+  }
+
+  public function testThenFollowsRejectedPromise()
+  {
+    $pet_api = new Swagger\Client\Api\PetApi($this->newApiClient());
+    $promise = $pet_api->getPetByIdAsync(2)->then(function ($pet) use ($pet_api) {
+      return $pet_api->getPetByIdAsync(404);
+    })->otherwise(function ($e) {
+      return $e->getCode();
+    });
+
+    $this->assertSame(404, $promise->wait());
+  }
+
+  public function testThenFollowsPendingPromise()
+  {
+    $first = new Swagger\Client\Promise();
+    $second = new Swagger\Client\Promise();
+    $promise = $first->then(function ($value) use ($second) {
+      return $second;
+    });
+
+    $first->resolve(1);
+    $this->assertSame(Swagger\Client\Promise::PENDING, $promise->getState());
+    $second->resolve(2);
+    $this->assertSame(2, $promise->wait());
+  }
+
+}
+
+?>
+
@@ -0,0 +1,18 @@
+<?php
+// Router of the stub server of ApiClientMultiTest (php -S): knows the pets 1 to 9,
+// the pet 1 being slow to answer
+if (!preg_match('#^/v2/pet/(\d+)$#', parse_url($_SERVER['REQUEST_URI'], PHP_URL_PATH), $matches)) {
+    http_response_code(404);
+    return;
+}
+$id = (int) $matches[1];
+if ($id === 1) {
+    usleep(300000);
+}
+header('Content-Type: application/json');
+if ($id < 1 || $id > 9) {
+    http_response_code(404);
+    echo json_encode(array('code' => 404, 'type' => 'error', 'message' => 'Pet not found'));
+    return;
+}
+echo json_encode(array('id' => $id, 'name' => "pet $id", 'photoUrls' => array()));
@@ -35,6 +35,7 @@ import threading
 
 from datetime import datetime
 from datetime import date
+from multiprocessing.pool import ThreadPool
 
 # python 2 and python 3 compatibility library
 from six import iteritems
@@ -72,6 +73,8 @@ class ApiClient(object):
         Constructor of the class.
         """
         self.rest_client = RESTClientObject()
+        self._pool = None
+        self._pool_lock = threading.Lock()
         self.default_headers = {}
         if header_name is not None:
             self.default_headers[header_name] = header_value
@@ -100,6 +103,31 @@ class ApiClient(object):
     def set_default_header(self, header_name, header_value):
         self.default_headers[header_name] = header_value
 
+    @property
+    def pool(self):
+        """
+        Gets the thread pool running the asynchronous requests, created on
+        first use with `Configuration().pool_threads` threads (by default
+        as many as the pooled connections per host).
+        """
+        with self._pool_lock:
+            if self._pool is None:
+                config = Configuration()
+                self._pool = ThreadPool(config.pool_threads or
+                                        config.connection_pool_maxsize)
+            return self._pool
+
+    def close(self):
+        """
+        Waits for the pending asynchronous requests, then stops the threads
+        of the pool.
+        """
+        with self._pool_lock:
+            if self._pool is not None:
+                self._pool.close()
+                self._pool.join()
+                self._pool = None
+
     def __call_api(self, resource_path, method,
                    path_params=None, query_params=None, header_params=None,
                    body=None, post_params=None, files=None,
@@ -158,8 +186,7 @@ class ApiClient(object):
 
         if callback:
             callback(deserialized_data)
-        else:
-            return deserialized_data
+        return deserialized_data
 
     def to_path_value(self, obj):
         """
@@ -310,8 +337,9 @@ class ApiClient(object):
             the request will be called asynchronously.
         :return:
             If provide parameter callback,
-            the request will be called asynchronously.
-            The method will return the request thread.
+            the request will be called asynchronously, in the thread pool.
+            The method will return the AsyncResult of the request, whose
+            `get` method returns the response (or raises its exception).
             If parameter callback is None,
             then the method will return the response directly.
         """
@@ -321,15 +349,39 @@ class ApiClient(object):
                                    body, post_params, files,
                                    response_type, auth_settings, callback)
         else:
-            thread = threading.Thread(target=self.__call_api,
-                                      args=(resource_path, method,
-                                            path_params, query_params,
-                                            header_params, body,
-                                            post_params, files,
-                                            response_type, auth_settings,
-                                            callback))
-        thread.start()
-        return thread
+            return self.pool.apply_async(self.__call_api,
+                                         (resource_path, method,
+                                          path_params, query_params,
+                                          header_params, body,
+                                          post_params, files,
+                                          response_type, auth_settings,
+                                          callback))
+
+    def iterate_pages(self, fetch_page):
+        """
+        Iterates lazily over the items of all pages of a paginated operation.
+        While the items of a page are consumed, the next page is fetched
+        by the thread pool of the client (see `pool`), so at most two pages
+        are held in memory.
+
+        :param fetch_page: Function taking the cursor (or offset) of a page,
+            None for the first page, and returning a tuple of the items of
+            the page and the cursor of the next page (None for the last page).
+        :return: A generator of the items.
+        """
+        items, next_cursor = fetch_page(None)
+        while True:
+            prefetch = None
+            if next_cursor is not None and next_cursor != '':
+                prefetch = self.pool.apply_async(fetch_page, (next_cursor,))
+
+            for item in items or []:
+                yield item
+
+            if prefetch is None:
+                return
+            # raises the error of the fetch, if any
+            items, next_cursor = prefetch.get()
 
     def request(self, method, url, query_params=None, headers=None,
                 post_params=None, body=None):
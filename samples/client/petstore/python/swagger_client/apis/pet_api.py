@@ -52,18 +52,20 @@ class PetApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.update_pet(callback=callback_function)
+        >>> result = api.update_pet(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param Pet body: Pet object that needs to be added to the store
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['body']
@@ -128,18 +130,20 @@ class PetApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.add_pet(callback=callback_function)
+        >>> result = api.add_pet(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param Pet body: Pet object that needs to be added to the store
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['body']
@@ -204,18 +208,20 @@ class PetApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.find_pets_by_status(callback=callback_function)
+        >>> result = api.find_pets_by_status(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param list[str] status: Status values that need to be considered for filter
         :return: list[Pet]
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['status']
@@ -280,18 +286,20 @@ class PetApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.find_pets_by_tags(callback=callback_function)
+        >>> result = api.find_pets_by_tags(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param list[str] tags: Tags to filter by
         :return: list[Pet]
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['tags']
@@ -356,18 +364,20 @@ class PetApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.get_pet_by_id(pet_id, callback=callback_function)
+        >>> result = api.get_pet_by_id(pet_id, callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param int pet_id: ID of pet that needs to be fetched (required)
         :return: Pet
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['pet_id']
@@ -435,11 +445,13 @@ class PetApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.update_pet_with_form(pet_id, callback=callback_function)
+        >>> result = api.update_pet_with_form(pet_id, callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
@@ -448,7 +460,7 @@ class PetApi(object):
         :param str status: Updated status of the pet
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['pet_id', 'name', 'status']
@@ -520,11 +532,13 @@ class PetApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.delete_pet(pet_id, callback=callback_function)
+        >>> result = api.delete_pet(pet_id, callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
@@ -532,7 +546,7 @@ class PetApi(object):
         :param str api_key: 
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['pet_id', 'api_key']
@@ -602,11 +616,13 @@ class PetApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.upload_file(pet_id, callback=callback_function)
+        >>> result = api.upload_file(pet_id, callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
@@ -615,7 +631,7 @@ class PetApi(object):
         :param file file: file to upload
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['pet_id', 'additional_metadata', 'file']
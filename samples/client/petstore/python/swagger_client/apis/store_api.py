@@ -52,17 +52,19 @@ class StoreApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.get_inventory(callback=callback_function)
+        >>> result = api.get_inventory(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :return: dict(str, int)
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = []
@@ -125,18 +127,20 @@ class StoreApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.place_order(callback=callback_function)
+        >>> result = api.place_order(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param Order body: order placed for purchasing the pet
         :return: Order
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['body']
@@ -201,18 +205,20 @@ class StoreApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.get_order_by_id(order_id, callback=callback_function)
+        >>> result = api.get_order_by_id(order_id, callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param str order_id: ID of pet that needs to be fetched (required)
         :return: Order
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['order_id']
@@ -280,18 +286,20 @@ class StoreApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.delete_order(order_id, callback=callback_function)
+        >>> result = api.delete_order(order_id, callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param str order_id: ID of the order that needs to be deleted (required)
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['order_id']
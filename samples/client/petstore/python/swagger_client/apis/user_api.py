@@ -52,18 +52,20 @@ class UserApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.create_user(callback=callback_function)
+        >>> result = api.create_user(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param User body: Created user object
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['body']
@@ -128,18 +130,20 @@ class UserApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.create_users_with_array_input(callback=callback_function)
+        >>> result = api.create_users_with_array_input(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param list[User] body: List of user object
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['body']
@@ -204,18 +208,20 @@ class UserApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.create_users_with_list_input(callback=callback_function)
+        >>> result = api.create_users_with_list_input(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param list[User] body: List of user object
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['body']
@@ -280,11 +286,13 @@ class UserApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.login_user(callback=callback_function)
+        >>> result = api.login_user(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
@@ -292,7 +300,7 @@ class UserApi(object):
         :param str password: The password for login in clear text
         :return: str
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['username', 'password']
@@ -359,17 +367,19 @@ class UserApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.logout_user(callback=callback_function)
+        >>> result = api.logout_user(callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = []
@@ -432,18 +442,20 @@ class UserApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.get_user_by_name(username, callback=callback_function)
+        >>> result = api.get_user_by_name(username, callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param str username: The name that needs to be fetched. Use user1 for testing. (required)
         :return: User
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['username']
@@ -511,11 +523,13 @@ class UserApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.update_user(username, callback=callback_function)
+        >>> result = api.update_user(username, callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
@@ -523,7 +537,7 @@ class UserApi(object):
         :param User body: Updated user object
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['username', 'body']
@@ -593,18 +607,20 @@ class UserApi(object):
 
         This method makes a synchronous HTTP request by default. To make an
         asynchronous HTTP request, please define a `callback` function
-        to be invoked when receiving the response.
+        to be invoked when receiving the response, in the thread pool
+        of the api client.
         >>> def callback_function(response):
         >>>     pprint(response)
         >>>
-        >>> thread = api.delete_user(username, callback=callback_function)
+        >>> result = api.delete_user(username, callback=callback_function)
+        >>> response = result.get(timeout=10)
 
         :param callback function: The callback function
             for asynchronous request. (optional)
         :param str username: The name that needs to be deleted (required)
         :return: None
                  If the method is called asynchronously,
-                 returns the request thread.
+                 returns the AsyncResult of the request.
         """
 
         all_params = ['username']
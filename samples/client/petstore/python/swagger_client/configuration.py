@@ -30,6 +30,7 @@ except ImportError:
 
 import sys
 import logging
+import multiprocessing
 
 from six import iteritems
 
@@ -101,6 +102,40 @@ class Configuration(object):
         # client key file
         self.key_file = None
 
+        # HTTP compression
+        # Set this to false to stop requesting gzip-encoded responses (`Accept-Encoding: gzip`).
+        self.accept_gzip = True
+        # Request bodies with at least this many bytes are gzip-compressed
+        # (`Content-Encoding: gzip`). None (default) disables request compression.
+        self.gzip_request_threshold = None
+
+        # Connection pool and asynchronous requests
+        # Maximum number of connections kept open per host. The concurrent
+        # requests beyond it open connections closed after use.
+        self.connection_pool_maxsize = multiprocessing.cpu_count() * 5
+        # Number of threads of the pool running the asynchronous requests
+        # (with a callback). None (default) for connection_pool_maxsize,
+        # so that every request in flight reuses a pooled connection.
+        self.pool_threads = None
+
+        # Retry Settings
+        # Maximum number of attempts per request, including the first one.
+        # 1 (default) disables retries.
+        self.retry_max_attempts = 1
+        # Upper bound (in seconds) of the delay before the first retry.
+        # The bound doubles with each attempt and the actual delay is
+        # a random value below it (exponential backoff with full jitter).
+        self.retry_backoff = 0.1
+        # Upper bound (in seconds) of the delay before any retry.
+        self.retry_max_backoff = 10
+        # HTTP status codes of the responses to retry
+        # (connection errors are always retried).
+        self.retry_status_codes = [429, 503]
+        # Retry idempotent methods (GET, HEAD, OPTIONS, PUT, DELETE) only.
+        self.retry_idempotent_only = True
+        # Wait as long as the `Retry-After` response header says.
+        self.retry_respect_retry_after = True
+
     @property
     def logger_file(self):
         """
@@ -23,7 +23,10 @@ from __future__ import absolute_import
 import sys
 import io
 import json
+import random
 import ssl
+import time
+import zlib
 import certifi
 import logging
 
@@ -44,6 +47,13 @@ except ImportError:
     # for python2
     from urllib import urlencode
 
+try:
+    # for python3
+    from email.utils import parsedate_tz, mktime_tz
+except ImportError:
+    # for python2
+    from email.Utils import parsedate_tz, mktime_tz
+
 
 logger = logging.getLogger(__name__)
 
@@ -71,7 +81,7 @@ class RESTResponse(io.IOBase):
 
 class RESTClientObject(object):
 
-    def __init__(self, pools_size=4):
+    def __init__(self, pools_size=4, maxsize=None):
         # urllib3.PoolManager will pass all kw parameters to connectionpool
         # https://github.com/shazow/urllib3/blob/f9409436f83aeb79fbaf090181cd81b784f1b8ce/urllib3/poolmanager.py#L75
         # https://github.com/shazow/urllib3/blob/f9409436f83aeb79fbaf090181cd81b784f1b8ce/urllib3/connectionpool.py#L680
@@ -97,13 +107,21 @@ class RESTClientObject(object):
         # key file
         key_file = Configuration().key_file
 
+        # connections kept open per host, one per concurrent request
+        if maxsize is None:
+            maxsize = Configuration().connection_pool_maxsize
+
         # https pool manager
         self.pool_manager = urllib3.PoolManager(
             num_pools=pools_size,
+            maxsize=maxsize,
             cert_reqs=cert_reqs,
             ca_certs=ca_certs,
             cert_file=cert_file,
-            key_file=key_file
+            key_file=key_file,
+            # requests are retried by `send` according to `Configuration()`,
+            # not by urllib3 on top of it
+            retries=False
         )
 
     def request(self, method, url, query_params=None, headers=None,
@@ -132,33 +150,38 @@ class RESTClientObject(object):
         if 'Content-Type' not in headers:
             headers['Content-Type'] = 'application/json'
 
+        # urllib3 decodes gzip-encoded responses transparently
+        if Configuration().accept_gzip and 'Accept-Encoding' not in headers:
+            headers['Accept-Encoding'] = 'gzip'
+
         try:
             # For `POST`, `PUT`, `PATCH`, `OPTIONS`
             if method in ['POST', 'PUT', 'PATCH', 'OPTIONS']:
                 if query_params:
                     url += '?' + urlencode(query_params)
                 if headers['Content-Type'] == 'application/json':
-                    r = self.pool_manager.request(method, url,
-                                                  body=json.dumps(body),
-                                                  headers=headers)
+                    request_body = self.compress(json.dumps(body), headers)
+                    r = self.send(method, url,
+                                  body=request_body,
+                                  headers=headers)
                 if headers['Content-Type'] == 'application/x-www-form-urlencoded':
-                    r = self.pool_manager.request(method, url,
-                                                  fields=post_params,
-                                                  encode_multipart=False,
-                                                  headers=headers)
+                    r = self.send(method, url,
+                                  fields=post_params,
+                                  encode_multipart=False,
+                                  headers=headers)
                 if headers['Content-Type'] == 'multipart/form-data':
                     # must del headers['Content-Type'], or the correct Content-Type
                     # which generated by urllib3 will be overwritten.
                     del headers['Content-Type']
-                    r = self.pool_manager.request(method, url,
-                                                  fields=post_params,
-                                                  encode_multipart=True,
-                                                  headers=headers)
+                    r = self.send(method, url,
+                                  fields=post_params,
+                                  encode_multipart=True,
+                                  headers=headers)
             # For `GET`, `HEAD`, `DELETE`
             else:
-                r = self.pool_manager.request(method, url,
-                                              fields=query_params,
-                                              headers=headers)
+                r = self.send(method, url,
+                              fields=query_params,
+                              headers=headers)
         except urllib3.exceptions.SSLError as e:
             msg = "{0}\n{1}".format(type(e).__name__, str(e))
             raise ApiException(status=0, reason=msg)
@@ -178,6 +201,101 @@ class RESTClientObject(object):
 
         return r
 
+    def send(self, method, url, **kwargs):
+        """
+        Sends the request with the pool manager, retrying connection errors
+        and retryable responses as configured in `Configuration()`.
+
+        :param method: http request method
+        :param url: http request url
+        :param kwargs: keyword arguments passed to `urllib3.PoolManager.request`
+        :return: urllib3 response
+        """
+        config = Configuration()
+        attempt = 1
+        while True:
+            try:
+                r = self.pool_manager.request(method, url, **kwargs)
+            except urllib3.exceptions.SSLError:
+                raise
+            except urllib3.exceptions.HTTPError:
+                if not self.should_retry(method, attempt, 0):
+                    raise
+                time.sleep(self.retry_delay(attempt, None))
+                attempt += 1
+                continue
+
+            if not self.should_retry(method, attempt, r.status):
+                return r
+            retry_after = None
+            if config.retry_respect_retry_after:
+                retry_after = r.getheader('Retry-After')
+            time.sleep(self.retry_delay(attempt, retry_after))
+            attempt += 1
+
+    def should_retry(self, method, attempt, status):
+        """
+        Checks whether a request should be attempted again.
+
+        :param method: http request method
+        :param attempt: number of attempts made so far
+        :param status: http response status, 0 on connection error
+        """
+        config = Configuration()
+        if attempt >= config.retry_max_attempts:
+            return False
+        if config.retry_idempotent_only and \
+                method not in ['GET', 'HEAD', 'OPTIONS', 'PUT', 'DELETE']:
+            return False
+        return status == 0 or status in config.retry_status_codes
+
+    def retry_delay(self, attempt, retry_after):
+        """
+        Gets the delay (in seconds) before the next attempt.
+
+        :param attempt: number of attempts made so far
+        :param retry_after: value of the `Retry-After` response header
+        """
+        config = Configuration()
+        if retry_after:
+            try:
+                return min(max(float(retry_after), 0), config.retry_max_backoff)
+            except ValueError:
+                # not delay-seconds, try HTTP-date
+                date = parsedate_tz(retry_after)
+                if date:
+                    delay = mktime_tz(date) - time.time()
+                    return min(max(delay, 0), config.retry_max_backoff)
+
+        backoff = min(config.retry_max_backoff,
+                      config.retry_backoff * (2 ** (attempt - 1)))
+        return random.uniform(0, backoff)
+
+    def compress(self, body, headers):
+        """
+        Compresses the request body with gzip when it is at least
+        `Configuration().gzip_request_threshold` bytes long.
+
+        :param body: serialized request body
+        :param headers: http request headers, `Content-Encoding` is set
+                        when the body gets compressed
+        :return: the (compressed) request body
+        """
+        threshold = Configuration().gzip_request_threshold
+        if threshold is None:
+            return body
+
+        if not isinstance(body, bytes):
+            body = body.encode('utf8')
+        if len(body) < threshold:
+            return body
+
+        # wbits = 16 + MAX_WBITS writes the gzip header and trailer
+        compressor = zlib.compressobj(zlib.Z_DEFAULT_COMPRESSION,
+                                      zlib.DEFLATED, 16 + zlib.MAX_WBITS)
+        headers['Content-Encoding'] = 'gzip'
+        return compressor.compress(body) + compressor.flush()
+
     def GET(self, url, headers=None, query_params=None):
         return self.request("GET", url,
                             headers=headers,
@@ -8,6 +8,7 @@ $ nosetests -v
 """
 
 import os
+import threading
 import time
 import unittest
 from dateutil.parser import parse
@@ -165,3 +166,68 @@ class ApiClientTests(unittest.TestCase):
         data = [pet]
         result = self.api_client.sanitize_for_serialization(data)
         self.assertEqual(result, list_of_pet_dict)
+
+    def test_async_requests_reuse_pool(self):
+        config = swagger_client.configuration
+        pool_threads = config.pool_threads
+        config.pool_threads = 4
+        try:
+            api_client = swagger_client.ApiClient(HOST)
+            self.assertEqual(config.connection_pool_maxsize,
+                             api_client.rest_client.pool_manager.connection_pool_kw['maxsize'])
+            self.assertIs(api_client.pool, api_client.pool)
+
+            threads = set()
+            lock = threading.Lock()
+
+            def request(method, url, **kwargs):
+                with lock:
+                    threads.add(threading.current_thread())
+                time.sleep(0.01)
+
+            # offline: only the threads running the requests are recorded
+            api_client.request = request
+            results = [api_client.call_api('/store/inventory', 'GET',
+                                           callback=lambda data: None)
+                       for _ in range(50)]
+            for result in results:
+                self.assertIsNone(result.get(10))
+
+            self.assertTrue(0 < len(threads) <= 4, threads)
+            self.assertNotIn(threading.current_thread(), threads)
+            api_client.close()
+        finally:
+            config.pool_threads = pool_threads
+
+    def test_iterate_pages_prefetches_on_pool(self):
+        api_client = swagger_client.ApiClient(HOST)
+        threads = {}
+
+        def fetch_page(cursor):
+            offset = cursor or 0
+            threads[offset] = threading.current_thread()
+            items = list(range(offset, min(offset + 3, 10)))
+            return items, offset + 3 if offset + 3 < 10 else None
+
+        self.assertEqual(list(range(10)),
+                         list(api_client.iterate_pages(fetch_page)))
+        self.assertIs(threading.current_thread(), threads[0])
+        # the next pages are fetched by the thread pool of the client
+        for offset in (3, 6, 9):
+            self.assertNotEqual(threading.current_thread(), threads[offset])
+        api_client.close()
+
+    def test_iterate_pages_raises_page_error(self):
+        api_client = swagger_client.ApiClient(HOST)
+
+        def fetch_page(cursor):
+            if cursor == 3:
+                raise swagger_client.rest.ApiException(status=503)
+            return [0, 1, 2], 3
+
+        items = []
+        with self.assertRaises(swagger_client.rest.ApiException):
+            for item in api_client.iterate_pages(fetch_page):
+                items.append(item)
+        self.assertEqual([0, 1, 2], items)
+        api_client.close()
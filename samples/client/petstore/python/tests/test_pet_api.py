@@ -83,10 +83,10 @@ class PetApiTests(unittest.TestCase):
             self.assertEqual(data.tags[0].id, self.pet.tags[0].id)
             self.assertEqual(data.tags[0].name, self.pet.tags[0].name)
 
-        thread = self.pet_api.get_pet_by_id(pet_id=self.pet.id, callback=callback_function)
-        thread.join(10)
-        if thread.isAlive():
-            self.fail("Request timeout")
+        result = self.pet_api.get_pet_by_id(pet_id=self.pet.id, callback=callback_function)
+        # raises multiprocessing.TimeoutError after 10 seconds
+        fetched = result.get(10)
+        self.assertEqual(fetched.id, self.pet.id)
 
     def test_add_pet_and_get_pet_by_id(self):
         self.pet_api.add_pet(body=self.pet)
@@ -6,13 +6,16 @@
 #include <QJsonDocument>
 
 namespace Swagger {
-SWGPetApi::SWGPetApi() {}
+SWGPetApi::SWGPetApi() {
+    this->requestManager = HttpRequestManager::thread_default();
+}
 
 SWGPetApi::~SWGPetApi() {}
 
 SWGPetApi::SWGPetApi(QString host, QString basePath) {
     this->host = host;
     this->basePath = basePath;
+    this->requestManager = HttpRequestManager::thread_default();
 }
 
 void
@@ -24,7 +27,7 @@ SWGPetApi::updatePet(SWGPet body) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "PUT");
 
     
@@ -72,7 +75,7 @@ SWGPetApi::addPet(SWGPet body) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "POST");
 
     
@@ -166,7 +169,7 @@ SWGPetApi::findPetsByStatus(QList<QString*>* status) {
     
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "GET");
 
     
@@ -271,7 +274,7 @@ SWGPetApi::findPetsByTags(QList<QString*>* tags) {
     
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "GET");
 
     
@@ -333,7 +336,7 @@ SWGPetApi::getPetById(qint64 petId) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "GET");
 
     
@@ -388,7 +391,7 @@ SWGPetApi::updatePetWithForm(QString* petId, QString* name, QString* status) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "POST");
 
     
@@ -442,7 +445,7 @@ SWGPetApi::deletePet(qint64 petId, QString* apiKey) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "DELETE");
 
     
@@ -490,7 +493,7 @@ SWGPetApi::uploadFile(qint64 petId, QString* additionalMetadata, SWGHttpRequestI
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "POST");
 
     
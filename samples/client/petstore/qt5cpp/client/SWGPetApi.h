@@ -21,6 +21,8 @@ public:
 
     QString host;
     QString basePath;
+    // shared with the other clients of the thread by default
+    HttpRequestManager *requestManager;
 
     void updatePet(SWGPet body);
     void addPet(SWGPet body);
@@ -6,13 +6,16 @@
 #include <QJsonDocument>
 
 namespace Swagger {
-SWGStoreApi::SWGStoreApi() {}
+SWGStoreApi::SWGStoreApi() {
+    this->requestManager = HttpRequestManager::thread_default();
+}
 
 SWGStoreApi::~SWGStoreApi() {}
 
 SWGStoreApi::SWGStoreApi(QString host, QString basePath) {
     this->host = host;
     this->basePath = basePath;
+    this->requestManager = HttpRequestManager::thread_default();
 }
 
 void
@@ -24,7 +27,7 @@ SWGStoreApi::getInventory() {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "GET");
 
     
@@ -87,7 +90,7 @@ SWGStoreApi::placeOrder(SWGOrder body) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "POST");
 
     
@@ -147,7 +150,7 @@ SWGStoreApi::getOrderById(QString* orderId) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "GET");
 
     
@@ -202,7 +205,7 @@ SWGStoreApi::deleteOrder(QString* orderId) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "DELETE");
 
     
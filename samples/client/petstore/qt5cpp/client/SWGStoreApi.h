@@ -21,6 +21,8 @@ public:
 
     QString host;
     QString basePath;
+    // shared with the other clients of the thread by default
+    HttpRequestManager *requestManager;
 
     void getInventory();
     void placeOrder(SWGOrder body);
@@ -6,13 +6,16 @@
 #include <QJsonDocument>
 
 namespace Swagger {
-SWGUserApi::SWGUserApi() {}
+SWGUserApi::SWGUserApi() {
+    this->requestManager = HttpRequestManager::thread_default();
+}
 
 SWGUserApi::~SWGUserApi() {}
 
 SWGUserApi::SWGUserApi(QString host, QString basePath) {
     this->host = host;
     this->basePath = basePath;
+    this->requestManager = HttpRequestManager::thread_default();
 }
 
 void
@@ -24,7 +27,7 @@ SWGUserApi::createUser(SWGUser body) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "POST");
 
     
@@ -72,7 +75,7 @@ SWGUserApi::createUsersWithArrayInput(QList<SWGUser*>* body) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "POST");
 
     
@@ -125,7 +128,7 @@ SWGUserApi::createUsersWithListInput(QList<SWGUser*>* body) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "POST");
 
     
@@ -202,7 +205,7 @@ SWGUserApi::loginUser(QString* username, QString* password) {
     
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "GET");
 
     
@@ -254,7 +257,7 @@ SWGUserApi::logoutUser() {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "GET");
 
     
@@ -300,7 +303,7 @@ SWGUserApi::getUserByName(QString* username) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "GET");
 
     
@@ -355,7 +358,7 @@ SWGUserApi::updateUser(QString* username, SWGUser body) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "PUT");
 
     
@@ -406,7 +409,7 @@ SWGUserApi::deleteUser(QString* username) {
 
     
 
-    HttpRequestWorker *worker = new HttpRequestWorker();
+    HttpRequestWorker *worker = new HttpRequestWorker(NULL, this->requestManager);
     HttpRequestInput input(fullPath, "DELETE");
 
     
@@ -21,6 +21,8 @@ public:
 
     QString host;
     QString basePath;
+    // shared with the other clients of the thread by default
+    HttpRequestManager *requestManager;
 
     void createUser(SWGUser body);
     void createUsersWithArrayInput(QList<SWGUser*>* body);
@@ -1,6 +1,7 @@
 # Common files
 require 'petstore/api_client'
 require 'petstore/api_error'
+require 'petstore/batch'
 require 'petstore/version'
 require 'petstore/configuration'
 
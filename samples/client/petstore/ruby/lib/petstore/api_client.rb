@@ -1,9 +1,12 @@
 require 'date'
 require 'json'
 require 'logger'
+require 'stringio'
 require 'tempfile'
+require 'time'
 require 'typhoeus'
 require 'uri'
+require 'zlib'
 
 module Petstore
   class ApiClient
@@ -22,20 +25,64 @@ module Petstore
         'Content-Type' => "application/json",
         'User-Agent' => @user_agent
       }
+      @batch_key = :"petstore_batch_#{object_id}"
     end
 
     def self.default
       @@default ||= ApiClient.new
     end
 
+    # Run the API calls made in the block concurrently, at most `max_concurrency` at a time.
+    # In the block, the API calls don't wait for their response: they return at once a
+    # {Batch::Call}, completed when the block returns. A failed call doesn't fail the others,
+    # its error is raised by `Batch::Call#value`.
+    #
+    # @example
+    #   calls = api_client.parallel do
+    #     pet_ids.each { |id| PetApi.new(api_client).get_pet_by_id(id) }
+    #   end
+    #   pets = calls.map(&:value)
+    #
+    # @param [Integer] max_concurrency the maximum number of requests in flight
+    # @return [Array<Batch::Call>] the calls made in the block, in order
+    def parallel(max_concurrency = @config.max_concurrency)
+      fail 'Nested parallel blocks are not supported' if Thread.current[@batch_key]
+      batch = Batch.new(self, max_concurrency)
+      Thread.current[@batch_key] = batch
+      begin
+        yield
+      ensure
+        Thread.current[@batch_key] = nil
+      end
+      batch.run
+    end
+
     # Call an API with given options.
+    # In a `parallel` block, the call is queued and returns a {Batch::Call} instead.
     #
     # @return [Array<(Object, Fixnum, Hash)>] an array of 3 elements:
     #   the data deserialized from response body (could be nil), response status code and response headers.
     def call_api(http_method, path, opts = {})
-      request = build_request(http_method, path, opts)
-      response = request.run
+      batch = Thread.current[@batch_key]
+      return batch.queue(http_method, path, opts) if batch
+
+      response = nil
+      attempt = 1
+      loop do
+        request = build_request(http_method, path, opts)
+        response = request.run
+        break unless retry_request?(http_method, attempt, response)
+        sleep retry_delay(attempt, response)
+        attempt += 1
+      end
+      handle_response(response, opts)
+    end
 
+    # Check and deserialize the response of an API call.
+    #
+    # @return [Array<(Object, Fixnum, Hash)>] the data deserialized from response body (could be nil),
+    #   response status code and response headers.
+    def handle_response(response, opts = {})
       if @config.debugging
         @config.logger.debug "HTTP response body ~BEGIN~\n#{response.body}\n~END~\n"
       end
@@ -55,6 +102,41 @@ module Petstore
       return data, response.code, response.headers
     end
 
+    # Check whether the request should be attempted again, according to the retry settings
+    # of the configuration.
+    #
+    # @param [Integer] attempt the number of attempts made so far
+    # @return [true, false]
+    def retry_request?(http_method, attempt, response)
+      return false if attempt >= @config.retry_max_attempts
+      if @config.retry_idempotent_only
+        return false unless [:get, :head, :options, :put, :delete].include?(http_method.to_sym.downcase)
+      end
+      # response code is 0 when no response was received, e.g. connection failure or timeout
+      response.code == 0 || @config.retry_status_codes.include?(response.code)
+    end
+
+    # Get the delay (in seconds) before the next attempt: the "Retry-After" response header
+    # when present, otherwise an exponential backoff with full jitter.
+    #
+    # @param [Integer] attempt the number of attempts made so far
+    # @return [Float]
+    def retry_delay(attempt, response)
+      retry_after = response.headers && response.headers['Retry-After']
+      if @config.retry_respect_retry_after && retry_after
+        delay = if retry_after =~ /\A\s*\d+\s*\z/
+                  retry_after.to_i
+                else
+                  # HTTP-date, ignored when invalid
+                  (Time.httpdate(retry_after) - Time.now rescue nil)
+                end
+        return [[delay, 0].max, @config.retry_max_backoff].min if delay
+      end
+
+      backoff = [@config.retry_max_backoff, @config.retry_backoff * (2 ** (attempt - 1))].min
+      rand * backoff
+    end
+
     def build_request(http_method, path, opts = {})
       url = build_request_url(path)
       http_method = http_method.to_sym.downcase
@@ -79,12 +161,16 @@ module Petstore
         :verbose => @config.debugging
       }
 
+      # let libcurl negotiate and decode gzip-encoded responses
+      req_opts[:accept_encoding] = 'gzip' if @config.accept_gzip
+
       if [:post, :patch, :put, :delete].include?(http_method)
         req_body = build_request_body(header_params, form_params, opts[:body])
-        req_opts.update :body => req_body
         if @config.debugging
           @config.logger.debug "HTTP request body param ~BEGIN~\n#{req_body}\n~END~\n"
         end
+        req_body = compress_request_body(header_params, req_body)
+        req_opts.update :body => req_body
       end
 
       Typhoeus::Request.new(url, req_opts)
@@ -115,7 +201,12 @@ module Petstore
       fail "Content-Type is not supported: #{content_type}" unless json_mime?(content_type)
 
       begin
-        data = JSON.parse("[#{body}]", :symbolize_names => true)[0]
+        if body =~ /\A\s*[\[{]/
+          data = JSON.parse(body, :symbolize_names => true)
+        else
+          # JSON.parse of json < 2 only accepts objects and arrays: wrap the (short) scalar
+          data = JSON.parse("[#{body}]", :symbolize_names => true)[0]
+        end
       rescue JSON::ParserError => e
         if %w(String Date DateTime).include?(return_type)
           data = body
@@ -217,6 +308,21 @@ module Petstore
       data
     end
 
+    # Compress the (serialized) request body with gzip when it is at least
+    # `Configuration#gzip_request_threshold` bytes long.
+    # The "Content-Encoding" header is set when the body gets compressed.
+    def compress_request_body(header_params, body)
+      threshold = @config.gzip_request_threshold
+      return body if threshold.nil? || !body.is_a?(String) || body.bytesize < threshold
+
+      io = StringIO.new
+      gz = Zlib::GzipWriter.new(io)
+      gz.write(body)
+      gz.close
+      header_params['Content-Encoding'] = 'gzip'
+      io.string
+    end
+
     # Update hearder and query params based on authentication settings.
     def update_params_for_auth!(header_params, query_params, auth_names)
       Array(auth_names).each do |auth_name|
@@ -0,0 +1,117 @@
+module Petstore
+  # API calls made in a `ApiClient#parallel` block, run concurrently on a Typhoeus::Hydra.
+  class Batch
+    # An API call of a batch, completed when the batch has run.
+    class Call
+      attr_reader :http_method, :path, :opts
+
+      # @return [Integer] the number of attempts made so far
+      attr_accessor :attempt
+
+      # @return [Float] the delay (in seconds) before the next attempt
+      attr_accessor :retry_delay
+
+      # @return [Fixnum] the response status code (0 when no response was received)
+      attr_reader :status_code
+
+      # @return [Hash] the response headers
+      attr_reader :headers
+
+      # @return [StandardError] the error of the call (usually an ApiError), nil when successful
+      attr_reader :error
+
+      def initialize(http_method, path, opts)
+        @http_method = http_method
+        @path = path
+        @opts = opts
+        @attempt = 0
+        @retry_delay = 0
+        @complete = false
+      end
+
+      # Whether the call has received its final response.
+      def complete?
+        @complete
+      end
+
+      def success?
+        @complete && @error.nil?
+      end
+
+      # Get the data deserialized from the response body (could be nil).
+      #
+      # @raise [StandardError] the error of the call
+      def value
+        fail 'The call has not run yet, get its value after the parallel block' unless @complete
+        fail @error if @error
+        @data
+      end
+
+      # Complete the call with the response of its last attempt.
+      def complete(api_client, response)
+        begin
+          @data, @status_code, @headers = api_client.handle_response(response, @opts)
+        rescue ApiError => e
+          @error = e
+          @status_code = e.code
+          @headers = e.response_headers
+        rescue StandardError => e
+          # e.g. an invalid response body, failing this call only
+          @error = e
+          @status_code = response.code
+          @headers = response.headers
+        end
+        @complete = true
+      end
+    end
+
+    # @return [Array<Call>] the calls of the batch, in order
+    attr_reader :calls
+
+    def initialize(api_client, max_concurrency)
+      @api_client = api_client
+      @hydra = Typhoeus::Hydra.new(:max_concurrency => max_concurrency)
+      @calls = []
+    end
+
+    # Add a call to the batch.
+    #
+    # @return [Call]
+    def queue(http_method, path, opts = {})
+      call = Call.new(http_method, path, opts)
+      @calls << call
+      call
+    end
+
+    # Run the calls of the batch. The calls to retry (according to the retry settings of the
+    # configuration) run again in the next round, after the longest of their retry delays.
+    #
+    # @return [Array<Call>] the calls of the batch, in order
+    def run
+      pending = @calls.reject(&:complete?)
+      until pending.empty?
+        delay = pending.map(&:retry_delay).max
+        sleep delay if delay > 0
+        pending.each { |call| queue_attempt(call) }
+        @hydra.run
+        pending = pending.reject(&:complete?)
+      end
+      @calls
+    end
+
+    private
+
+    def queue_attempt(call)
+      request = @api_client.build_request(call.http_method, call.path, call.opts)
+      request.on_complete do |response|
+        call.attempt += 1
+        if @api_client.retry_request?(call.http_method, call.attempt, response)
+          call.retry_delay = @api_client.retry_delay(call.attempt, response)
+        else
+          call.complete(@api_client, response)
+        end
+      end
+      @hydra.queue request
+    end
+  end
+end
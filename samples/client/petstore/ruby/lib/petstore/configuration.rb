@@ -87,6 +87,62 @@ module Petstore
     # Client private key file (for client certificate)
     attr_accessor :key_file
 
+    ### HTTP compression
+    # Set this to false to stop requesting gzip-encoded responses.
+    # Responses are decoded transparently by libcurl.
+    # Default to true.
+    #
+    # @return [true, false]
+    attr_accessor :accept_gzip
+
+    # Request bodies with at least this many bytes are gzip-compressed and sent
+    # with the "Content-Encoding: gzip" header.
+    # Default to nil (request compression disabled).
+    #
+    # @return [Integer]
+    attr_accessor :gzip_request_threshold
+
+    ### Retry
+    # Maximum number of attempts per request, including the first one.
+    # Default to 1 (retries disabled).
+    #
+    # @return [Integer]
+    attr_accessor :retry_max_attempts
+
+    # Upper bound (in seconds) of the delay before the first retry. The bound doubles
+    # with each attempt and the actual delay is a random value below it
+    # (exponential backoff with full jitter).
+    # Default to 0.1.
+    attr_accessor :retry_backoff
+
+    # Upper bound (in seconds) of the delay before any retry.
+    # Default to 10.
+    attr_accessor :retry_max_backoff
+
+    # HTTP status codes of the responses to retry (connection errors are always retried).
+    # Default to [429, 503].
+    #
+    # @return [Array<Integer>]
+    attr_accessor :retry_status_codes
+
+    # Set this to false to also retry non-idempotent methods (POST, PATCH).
+    # Default to true.
+    #
+    # @return [true, false]
+    attr_accessor :retry_idempotent_only
+
+    # Set this to false to ignore the "Retry-After" response header.
+    # Default to true.
+    #
+    # @return [true, false]
+    attr_accessor :retry_respect_retry_after
+
+    # Maximum number of requests in flight in a `ApiClient#parallel` block.
+    # Default to 20.
+    #
+    # @return [Integer]
+    attr_accessor :max_concurrency
+
     attr_accessor :inject_format
 
     attr_accessor :force_ending_format
@@ -101,6 +157,15 @@ module Petstore
       @verify_ssl = true
       @cert_file = nil
       @key_file = nil
+      @accept_gzip = true
+      @gzip_request_threshold = nil
+      @retry_max_attempts = 1
+      @retry_backoff = 0.1
+      @retry_max_backoff = 10
+      @retry_status_codes = [429, 503]
+      @retry_idempotent_only = true
+      @retry_respect_retry_after = true
+      @max_concurrency = 20
       @debugging = false
       @inject_format = false
       @force_ending_format = false
@@ -0,0 +1,91 @@
+require 'spec_helper'
+
+describe Petstore::Batch do
+  before do
+    @config = Petstore::Configuration.new do |c|
+      c.host = 'parallel.example.com'
+      c.retry_backoff = 0
+    end
+    @api_client = Petstore::ApiClient.new(@config)
+    @pet_api = Petstore::PetApi.new(@api_client)
+  end
+
+  after do
+    Typhoeus::Expectation.clear
+  end
+
+  def stub_pet(id, code, body = nil)
+    response = Typhoeus::Response.new(:code => code,
+                                      :body => body || {'id' => id, 'name' => "pet #{id}"}.to_json,
+                                      :headers => {'Content-Type' => 'application/json'})
+    Typhoeus.stub("http://parallel.example.com/v2/pet/#{id}").and_return(response)
+  end
+
+  describe "ApiClient#parallel" do
+    it "returns the calls in the order they were made" do
+      [1, 2, 3].each { |id| stub_pet(id, 200) }
+      queued = []
+      calls = @api_client.parallel do
+        [3, 1, 2].each do |id|
+          call = @pet_api.get_pet_by_id(id)
+          call.complete?.should == false
+          queued << call
+        end
+      end
+      calls.should == queued
+      calls.map { |call| call.value.name }.should == ['pet 3', 'pet 1', 'pet 2']
+      calls.each { |call| call.status_code.should == 200 }
+    end
+
+    it "caps the requests in flight to the max_concurrency of the configuration" do
+      stub_pet(1, 200)
+      @config.max_concurrency = 5
+      Typhoeus::Hydra.should_receive(:new).with(:max_concurrency => 5).and_call_original
+      @api_client.parallel { @pet_api.get_pet_by_id(1) }
+    end
+
+    it "caps the requests in flight to the given max_concurrency" do
+      stub_pet(1, 200)
+      Typhoeus::Hydra.should_receive(:new).with(:max_concurrency => 2).and_call_original
+      @api_client.parallel(2) { @pet_api.get_pet_by_id(1) }
+    end
+
+    it "reports the error of a failing call on that call only" do
+      stub_pet(1, 200)
+      stub_pet(2, 404, '{"message":"Pet not found"}')
+      stub_pet(3, 200)
+      calls = @api_client.parallel do
+        [1, 2, 3].each { |id| @pet_api.get_pet_by_id(id) }
+      end
+      calls.map(&:success?).should == [true, false, true]
+
+      failed = calls[1]
+      failed.status_code.should == 404
+      failed.error.should be_a(Petstore::ApiError)
+      proc { failed.value }.should raise_error(Petstore::ApiError)
+      calls[2].value.name.should == 'pet 3'
+    end
+
+    it "retries the calls according to the retry settings" do
+      @config.retry_max_attempts = 2
+      Typhoeus.stub("http://parallel.example.com/v2/pet/1").and_return(
+        [Typhoeus::Response.new(:code => 503, :body => ''),
+         Typhoeus::Response.new(:code => 200, :body => '{"id":1,"name":"pet 1"}',
+                                :headers => {'Content-Type' => 'application/json'})])
+      calls = @api_client.parallel { @pet_api.get_pet_by_id(1) }
+      calls[0].attempt.should == 2
+      calls[0].value.name.should == 'pet 1'
+    end
+
+    it "doesn't support nested blocks" do
+      proc { @api_client.parallel { @api_client.parallel {} } }.should raise_error(RuntimeError)
+    end
+  end
+
+  describe Petstore::Batch::Call do
+    it "has no value before the batch has run" do
+      call = Petstore::Batch::Call.new(:GET, '/pet/1', {})
+      proc { call.value }.should raise_error(RuntimeError)
+    end
+  end
+end
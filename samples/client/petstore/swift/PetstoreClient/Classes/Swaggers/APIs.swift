@@ -10,6 +10,12 @@ public class PetstoreClientAPI {
     public static var basePath = "http://petstore.swagger.io/v2"
     public static var credential: NSURLCredential?
     public static var customHeaders: [String:String] = [:]  
+    /// Maximum number of simultaneous connections to the host, read when the first request is made
+    public static var HTTPMaximumConnectionsPerHost = 4
+    /// Queue on which the responses are decoded, before calling the completion on the main queue
+    public static var decodingQueue = dispatch_queue_create("PetstoreClientAPI.decoding", DISPATCH_QUEUE_CONCURRENT)
+    /// Directory to which the files returned by the API are downloaded
+    public static var downloadDirectory = NSURL(fileURLWithPath: NSTemporaryDirectory())
     static var requestBuilderFactory: RequestBuilderFactory = AlamofireRequestBuilderFactory()
 }
 
@@ -54,6 +60,9 @@ public class RequestBuilder<T> {
     
     public func execute(completion: (response: Response<T>?, error: ErrorType?) -> Void) { }
 
+    /// Cancels the request, the completion being called with the cancellation error
+    public func cancel() { }
+
     public func addHeader(name name: String, value: String) -> Self {
         if !value.isEmpty {
             headers[name] = value
@@ -12,22 +12,23 @@ class AlamofireRequestBuilderFactory: RequestBuilderFactory {
     }
 }
 
-// Store manager to retain its reference
-private var managerStore: [String: Alamofire.Manager] = [:]
+// Manager shared by the requests, so that they reuse the connections, created on the first request
+private let manager: Alamofire.Manager = {
+    let configuration = NSURLSessionConfiguration.defaultSessionConfiguration()
+    configuration.HTTPAdditionalHeaders = Manager.defaultHTTPHeaders
+    configuration.HTTPMaximumConnectionsPerHost = PetstoreClientAPI.HTTPMaximumConnectionsPerHost
+    return Alamofire.Manager(configuration: configuration)
+}()
 
 class AlamofireRequestBuilder<T>: RequestBuilder<T> {
+    private var request: Request?
+    private var cancelled = false
+
     required init(method: String, URLString: String, parameters: [String : AnyObject]?, isBody: Bool) {
         super.init(method: method, URLString: URLString, parameters: parameters, isBody: isBody)
     }
 
     override func execute(completion: (response: Response<T>?, error: ErrorType?) -> Void) {
-        let managerId = NSUUID().UUIDString
-        // Create a new manager for each request to customize its request header
-        let configuration = NSURLSessionConfiguration.defaultSessionConfiguration()
-        configuration.HTTPAdditionalHeaders = buildHeaders()
-        let manager = Alamofire.Manager(configuration: configuration)
-        managerStore[managerId] = manager
-
         let encoding = isBody ? Alamofire.ParameterEncoding.JSON : Alamofire.ParameterEncoding.URL
         let xMethod = Alamofire.Method(rawValue: method)
         let fileKeys = parameters == nil ? [] : parameters!.filter { $1.isKindOfClass(NSURL) }
@@ -35,7 +36,7 @@ class AlamofireRequestBuilder<T>: RequestBuilder<T> {
 
         if fileKeys.count > 0 {
             manager.upload(
-                xMethod!, URLString, headers: nil,
+                xMethod!, URLString, headers: headers,
                 multipartFormData: { mpForm in
                     for (k, v) in self.parameters! {
                         switch v {
@@ -58,55 +59,89 @@ class AlamofireRequestBuilder<T>: RequestBuilder<T> {
                 encodingCompletion: { encodingResult in
                     switch encodingResult {
                     case .Success(let upload, _, _):
-                        self.processRequest(upload, managerId, completion)
+                        self.processRequest(upload, completion)
                     case .Failure(let encodingError):
                         completion(response: nil, error: encodingError)
                     }
                 }
             )
+        } else if T.self is NSURL.Type {
+            // file responses are written to disk as they are received, instead of being held in memory
+            let fileURL = PetstoreClientAPI.downloadDirectory.URLByAppendingPathComponent(NSUUID().UUIDString)
+            let download = manager.download(xMethod!, URLString, parameters: parameters, encoding: encoding, headers: headers) { _, _ in
+                return fileURL
+            }
+            processDownload(download, fileURL, completion)
         } else {
-            processRequest(manager.request(xMethod!, URLString, parameters: parameters, encoding: encoding), managerId, completion)
+            processRequest(manager.request(xMethod!, URLString, parameters: parameters, encoding: encoding, headers: headers), completion)
         }
 
     }
 
-    private func processRequest(request: Request, _ managerId: String, _ completion: (response: Response<T>?, error: ErrorType?) -> Void) {
+    override func cancel() {
+        cancelled = true
+        request?.cancel()
+    }
+
+    private func startRequest(request: Request) {
+        self.request = request
         if let credential = self.credential {
             request.authenticate(usingCredential: credential)
         }
+        if cancelled {
+            // cancelled while the multipart form data was encoded
+            request.cancel()
+        }
+    }
 
-        request.responseJSON(options: .AllowFragments) { response in
-            managerStore.removeValueForKey(managerId)
+    private func processRequest(request: Request, _ completion: (response: Response<T>?, error: ErrorType?) -> Void) {
+        startRequest(request)
 
+        // parsed and decoded in the background, the completion being called on the main queue
+        let serializer = Request.JSONResponseSerializer(options: .AllowFragments)
+        request.response(queue: PetstoreClientAPI.decodingQueue, responseSerializer: serializer) { response in
             if response.result.isFailure {
-                completion(response: nil, error: response.result.error)
+                self.complete(completion, nil, response.result.error)
                 return
             }
 
             if () is T {
-                completion(response: Response(response: response.response!, body: () as! T), error: nil)
+                self.complete(completion, Response(response: response.response!, body: () as! T), nil)
                 return
             }
             if let json: AnyObject = response.result.value {
                 let body = Decoders.decode(clazz: T.self, source: json)
-                completion(response: Response(response: response.response!, body: body), error: nil)
+                self.complete(completion, Response(response: response.response!, body: body), nil)
                 return
             } else if "" is T {
                 // swagger-parser currently doesn't support void, which will be fixed in future swagger-parser release
                 // https://github.com/swagger-api/swagger-parser/pull/34
-                completion(response: Response(response: response.response!, body: "" as! T), error: nil)
+                self.complete(completion, Response(response: response.response!, body: "" as! T), nil)
+                return
+            }
+
+            self.complete(completion, nil, NSError(domain: "localhost", code: 500, userInfo: ["reason": "unreacheable code"]))
+        }
+    }
+
+    private func processDownload(request: Request, _ fileURL: NSURL, _ completion: (response: Response<T>?, error: ErrorType?) -> Void) {
+        startRequest(request)
+
+        request.validate().response(queue: PetstoreClientAPI.decodingQueue) { _, response, _, error in
+            if let error = error {
+                // don't leave the body of the error in the download directory
+                _ = try? NSFileManager.defaultManager().removeItemAtURL(fileURL)
+                self.complete(completion, nil, error)
                 return
             }
 
-            completion(response: nil, error: NSError(domain: "localhost", code: 500, userInfo: ["reason": "unreacheable code"]))
+            self.complete(completion, Response(response: response!, body: fileURL as! T), nil)
         }
     }
 
-    private func buildHeaders() -> [String: AnyObject] {
-        var httpHeaders = Manager.defaultHTTPHeaders
-        for (key, value) in self.headers {
-            httpHeaders[key] = value
+    private func complete(completion: (response: Response<T>?, error: ErrorType?) -> Void, _ response: Response<T>?, _ error: ErrorType?) {
+        dispatch_async(dispatch_get_main_queue()) {
+            completion(response: response, error: error)
         }
-        return httpHeaders
     }
 }
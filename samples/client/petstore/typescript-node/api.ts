@@ -1,6 +1,7 @@
 import request = require('request');
 import promise = require('bluebird');
 import http = require('http');
+import https = require('https');
 
 // ===============================================
 // This file is autogenerated - Please do not edit
@@ -119,6 +120,217 @@ class VoidAuth implements Authentication {
     }
 }
 
+/**
+* Settings of the connections to an API base path.
+*/
+export interface ConnectionOptions {
+    /**
+    * Keep the sockets open for the next requests (default true).
+    */
+    keepAlive?: boolean;
+    /**
+    * Maximum number of sockets per host (default 50).
+    */
+    maxSockets?: number;
+    /**
+    * Maximum number of idle sockets kept open per host (default 10).
+    */
+    maxFreeSockets?: number;
+    /**
+    * Milliseconds after which an idle socket is closed (default 15000, 0 to keep it open).
+    */
+    freeSocketTimeout?: number;
+    /**
+    * Maximum number of requests in flight, the next ones waiting for their turn (default 0, unlimited).
+    */
+    maxConcurrentRequests?: number;
+    /**
+    * Request gzip-encoded responses, decoded transparently (default true).
+    */
+    gzip?: boolean;
+}
+
+/**
+* Keep-alive agent and concurrency limit shared by the APIs with the same base path.
+*/
+export class ConnectionPool {
+    /**
+    * Settings of the base paths without specific settings.
+    */
+    public static defaults: ConnectionOptions = {
+        keepAlive: true,
+        maxSockets: 50,
+        maxFreeSockets: 10,
+        freeSocketTimeout: 15000,
+        maxConcurrentRequests: 0,
+        gzip: true
+    };
+
+    private static pools: { [basePath: string]: ConnectionPool } = {};
+
+    public agent: http.Agent;
+    public gzip: boolean;
+    private maxConcurrentRequests: number;
+    private inFlight = 0;
+    private waiting: (() => void)[] = [];
+
+    /**
+    * Gets the pool of the base path, created with the default settings on first use.
+    */
+    public static get(basePath: string) : ConnectionPool {
+        let pool = ConnectionPool.pools[basePath];
+        if (!pool) {
+            pool = ConnectionPool.pools[basePath] = new ConnectionPool(basePath, {});
+        }
+        return pool;
+    }
+
+    /**
+    * Replaces the pool of the base path, the sockets of the previous one being closed once idle.
+    */
+    public static configure(basePath: string, options: ConnectionOptions) : ConnectionPool {
+        let previous = ConnectionPool.pools[basePath];
+        if (previous) {
+            previous.drain();
+        }
+        return ConnectionPool.pools[basePath] = new ConnectionPool(basePath, options);
+    }
+
+    constructor(basePath: string, options: ConnectionOptions) {
+        let settings: ConnectionOptions = {};
+        for (let key in ConnectionPool.defaults) {
+            settings[key] = options[key] !== undefined ? options[key] : ConnectionPool.defaults[key];
+        }
+        let agentOptions = {
+            keepAlive: settings.keepAlive,
+            maxSockets: settings.maxSockets,
+            maxFreeSockets: settings.maxFreeSockets
+        };
+        this.agent = basePath.indexOf('https:') === 0 ? <http.Agent><any>new https.Agent(agentOptions) : new http.Agent(agentOptions);
+        this.gzip = settings.gzip;
+        this.maxConcurrentRequests = settings.maxConcurrentRequests;
+
+        let freeSocketTimeout = settings.freeSocketTimeout;
+        if (settings.keepAlive && freeSocketTimeout > 0) {
+            // the agent of node keeps idle sockets open until the server closes them
+            (<any>this.agent).on('free', (socket: any) => {
+                if (!socket.freeSocketTimeoutListener) {
+                    socket.freeSocketTimeoutListener = () => {
+                        if (!socket._httpMessage) {
+                            socket.destroy();
+                        }
+                    };
+                    socket.on('timeout', socket.freeSocketTimeoutListener);
+                }
+                socket.setTimeout(freeSocketTimeout);
+            });
+        }
+    }
+
+    /**
+    * Runs the request once fewer than maxConcurrentRequests requests are in flight.
+    */
+    public schedule<T>(send: () => Promise<T>) : Promise<T> {
+        if (!this.maxConcurrentRequests) {
+            return send();
+        }
+        let turn = promise.defer<void>();
+        if (this.inFlight < this.maxConcurrentRequests) {
+            this.inFlight++;
+            turn.resolve();
+        } else {
+            this.waiting.push(() => turn.resolve());
+        }
+        let release = () => {
+            let next = this.waiting.shift();
+            if (next) {
+                // the turn passes to the next request, inFlight is unchanged
+                next();
+            } else {
+                this.inFlight--;
+            }
+        };
+        return turn.promise.then(() => send()).then((result) => {
+            release();
+            return result;
+        }, (error) => {
+            release();
+            throw error;
+        });
+    }
+
+    /**
+    * Closes the idle sockets of the pool now, and the other ones once their request completed.
+    */
+    public drain() {
+        let agent = <any>this.agent;
+        let isFree = (socket: any) => Object.keys(agent.freeSockets).some((name) => agent.freeSockets[name].indexOf(socket) >= 0);
+        // after the listener of the agent, which keeps the socket or hands it to a queued request
+        agent.on('free', (socket: any) => {
+            if (isFree(socket)) {
+                socket.destroy();
+            }
+        });
+        Object.keys(agent.freeSockets).forEach((name) => {
+            agent.freeSockets[name].slice().forEach((socket: any) => socket.destroy());
+        });
+    }
+
+    /**
+    * Closes all the sockets of the pool, including the ones with a request in flight.
+    */
+    public destroy() {
+        (<any>this.agent).destroy();
+    }
+}
+
+/**
+* Lazy iterator over the items of a paginated operation.
+* While the items of a page are consumed, the next page is fetched in the background.
+*/
+export class PageIterator<T> {
+    private items: T[] = [];
+    private index = 0;
+    private started = false;
+    private nextPage: Promise<{ items: T[]; nextCursor: any; }> = null;
+
+    constructor(private fetchPage: (cursor: any) => Promise<{ items: T[]; nextCursor: any; }>) {
+    }
+
+    /**
+    * Resolves to the next item, or to undefined once all pages have been consumed.
+    */
+    public next() : Promise<T> {
+        if (this.index < this.items.length) {
+            return promise.resolve(this.items[this.index++]);
+        }
+        if (this.started && !this.nextPage) {
+            return promise.resolve(undefined);
+        }
+        let page = this.started ? this.nextPage : this.fetchPage(undefined);
+        this.started = true;
+        return page.then((result) => {
+            this.items = result.items || [];
+            this.index = 0;
+            let nextCursor = result.nextCursor;
+            this.nextPage = (nextCursor === undefined || nextCursor === null || nextCursor === '') ? null : this.fetchPage(nextCursor);
+            return this.next();
+        });
+    }
+
+    /**
+    * Calls the callback with each item, resolves once all pages have been consumed.
+    */
+    public forEach(callback: (item: T) => void) : Promise<void> {
+        return this.next().then((item) => {
+            if (item !== undefined) {
+                callback(item);
+                return this.forEach(callback);
+            }
+        });
+    }
+}
+
 export class UserApi {
     protected basePath = 'http://petstore.swagger.io/v2';
     protected defaultHeaders : any = {};
@@ -144,13 +356,13 @@ export class UserApi {
         }
     }
 
-    set apiKey(key: string) {
-        this.authentications.api_key.apiKey = key;
-    }
-
     set accessToken(token: string) {
         this.authentications.petstore_auth.accessToken = token;
     }
+
+    set apiKey(key: string) {
+        this.authentications.api_key.apiKey = key;
+    }
     private extendObj<T1,T2>(objA: T1, objB: T2) {
         for(let key in objB){
             if(objB.hasOwnProperty(key)){
@@ -173,8 +385,6 @@ export class UserApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'POST',
             qs: queryParameters,
@@ -194,19 +404,27 @@ export class UserApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Creates list of users with given input array
@@ -222,8 +440,6 @@ export class UserApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'POST',
             qs: queryParameters,
@@ -243,19 +459,27 @@ export class UserApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Creates list of users with given input array
@@ -271,8 +495,6 @@ export class UserApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'POST',
             qs: queryParameters,
@@ -292,19 +514,27 @@ export class UserApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Logs user into the system
@@ -329,8 +559,6 @@ export class UserApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body: string;  }>();
-
         let requestOptions: request.Options = {
             method: 'GET',
             qs: queryParameters,
@@ -349,19 +577,27 @@ export class UserApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body: string;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Logs out current logged in user session
@@ -376,8 +612,6 @@ export class UserApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'GET',
             qs: queryParameters,
@@ -396,19 +630,27 @@ export class UserApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Get user by user name
@@ -430,8 +672,6 @@ export class UserApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body: User;  }>();
-
         let requestOptions: request.Options = {
             method: 'GET',
             qs: queryParameters,
@@ -450,19 +690,27 @@ export class UserApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body: User;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Updated user
@@ -485,8 +733,6 @@ export class UserApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'PUT',
             qs: queryParameters,
@@ -506,19 +752,27 @@ export class UserApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Delete user
@@ -540,8 +794,6 @@ export class UserApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'DELETE',
             qs: queryParameters,
@@ -560,19 +812,27 @@ export class UserApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
 }
 export class PetApi {
@@ -600,13 +860,13 @@ export class PetApi {
         }
     }
 
-    set apiKey(key: string) {
-        this.authentications.api_key.apiKey = key;
-    }
-
     set accessToken(token: string) {
         this.authentications.petstore_auth.accessToken = token;
     }
+
+    set apiKey(key: string) {
+        this.authentications.api_key.apiKey = key;
+    }
     private extendObj<T1,T2>(objA: T1, objB: T2) {
         for(let key in objB){
             if(objB.hasOwnProperty(key)){
@@ -629,8 +889,6 @@ export class PetApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'PUT',
             qs: queryParameters,
@@ -652,19 +910,27 @@ export class PetApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Add a new pet to the store
@@ -680,8 +946,6 @@ export class PetApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'POST',
             qs: queryParameters,
@@ -703,19 +967,27 @@ export class PetApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Finds Pets by status
@@ -735,8 +1007,6 @@ export class PetApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body: Array<Pet>;  }>();
-
         let requestOptions: request.Options = {
             method: 'GET',
             qs: queryParameters,
@@ -757,19 +1027,27 @@ export class PetApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body: Array<Pet>;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Finds Pets by tags
@@ -789,8 +1067,6 @@ export class PetApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body: Array<Pet>;  }>();
-
         let requestOptions: request.Options = {
             method: 'GET',
             qs: queryParameters,
@@ -811,19 +1087,27 @@ export class PetApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body: Array<Pet>;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Find pet by ID
@@ -845,8 +1129,6 @@ export class PetApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body: Pet;  }>();
-
         let requestOptions: request.Options = {
             method: 'GET',
             qs: queryParameters,
@@ -867,19 +1149,27 @@ export class PetApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body: Pet;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Updates a pet in the store with form data
@@ -911,8 +1201,6 @@ export class PetApi {
             formParams['status'] = status;
         }
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'POST',
             qs: queryParameters,
@@ -933,19 +1221,27 @@ export class PetApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Deletes a pet
@@ -970,8 +1266,6 @@ export class PetApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'DELETE',
             qs: queryParameters,
@@ -992,19 +1286,27 @@ export class PetApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * uploads an image
@@ -1037,8 +1339,6 @@ export class PetApi {
         }
         useFormData = true;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'POST',
             qs: queryParameters,
@@ -1059,19 +1359,27 @@ export class PetApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
 }
 export class StoreApi {
@@ -1099,13 +1407,13 @@ export class StoreApi {
         }
     }
 
-    set apiKey(key: string) {
-        this.authentications.api_key.apiKey = key;
-    }
-
     set accessToken(token: string) {
         this.authentications.petstore_auth.accessToken = token;
     }
+
+    set apiKey(key: string) {
+        this.authentications.api_key.apiKey = key;
+    }
     private extendObj<T1,T2>(objA: T1, objB: T2) {
         for(let key in objB){
             if(objB.hasOwnProperty(key)){
@@ -1127,8 +1435,6 @@ export class StoreApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body: { [key: string]: number; };  }>();
-
         let requestOptions: request.Options = {
             method: 'GET',
             qs: queryParameters,
@@ -1149,19 +1455,27 @@ export class StoreApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body: { [key: string]: number; };  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Place an order for a pet
@@ -1177,8 +1491,6 @@ export class StoreApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body: Order;  }>();
-
         let requestOptions: request.Options = {
             method: 'POST',
             qs: queryParameters,
@@ -1198,19 +1510,27 @@ export class StoreApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body: Order;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Find purchase order by ID
@@ -1232,8 +1552,6 @@ export class StoreApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body: Order;  }>();
-
         let requestOptions: request.Options = {
             method: 'GET',
             qs: queryParameters,
@@ -1252,19 +1570,27 @@ export class StoreApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body: Order;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
     /**
      * Delete purchase order by ID
@@ -1286,8 +1612,6 @@ export class StoreApi {
 
         let useFormData = false;
 
-        let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
-
         let requestOptions: request.Options = {
             method: 'DELETE',
             qs: queryParameters,
@@ -1306,18 +1630,26 @@ export class StoreApi {
             }
         }
 
-        request(requestOptions, (error, response, body) => {
-            if (error) {
-                deferred.reject(error);
-            } else {
-                if (response.statusCode >= 200 && response.statusCode <= 299) {
-                    deferred.resolve({ response: response, body: body });
+        let pool = ConnectionPool.get(this.basePath);
+        (<any>requestOptions).agent = pool.agent;
+        (<any>requestOptions).gzip = pool.gzip;
+
+        return pool.schedule(() => {
+            let deferred = promise.defer<{ response: http.ClientResponse; body?: any;  }>();
+
+            request(requestOptions, (error, response, body) => {
+                if (error) {
+                    deferred.reject(error);
                 } else {
-                    deferred.reject({ response: response, body: body });
+                    if (response.statusCode >= 200 && response.statusCode <= 299) {
+                        deferred.resolve({ response: response, body: body });
+                    } else {
+                        deferred.reject({ response: response, body: body });
+                    }
                 }
-            }
-        });
+            });
 
-        return deferred.promise;
+            return deferred.promise;
+        });
     }
 }